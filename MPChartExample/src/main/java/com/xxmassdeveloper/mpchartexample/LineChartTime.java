@@ -16,22 +16,19 @@ import android.widget.SeekBar.OnSeekBarChangeListener;
 import android.widget.TextView;
 
 import com.github.mikephil.charting.charts.LineChart;
-import com.github.mikephil.charting.components.AxisBase;
 import com.github.mikephil.charting.components.Legend;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
-import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
-import com.github.mikephil.charting.formatter.IAxisValueFormatter;
+import com.github.mikephil.charting.data.TimestampLineDataSet;
+import com.github.mikephil.charting.formatter.TimestampAxisValueFormatter;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.xxmassdeveloper.mpchartexample.notimportant.DemoBase;
 
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.TimeUnit;
@@ -92,17 +89,6 @@ public class LineChartTime extends DemoBase implements OnSeekBarChangeListener {
         xAxis.setTextColor(Color.rgb(255, 192, 56));
         xAxis.setCenterAxisLabels(true);
         xAxis.setGranularity(1f); // one hour
-        xAxis.setValueFormatter(new IAxisValueFormatter() {
-
-            private final SimpleDateFormat mFormat = new SimpleDateFormat("dd MMM HH:mm", Locale.ENGLISH);
-
-            @Override
-            public String getFormattedValue(float value, AxisBase axis) {
-
-                long millis = TimeUnit.HOURS.toMillis((long) value);
-                return mFormat.format(new Date(millis));
-            }
-        });
 
         YAxis leftAxis = chart.getAxisLeft();
         leftAxis.setPosition(YAxis.YAxisLabelPosition.INSIDE_CHART);
@@ -121,23 +107,24 @@ public class LineChartTime extends DemoBase implements OnSeekBarChangeListener {
 
     private void setData(int count, float range) {
 
-        // now in hours
-        long now = TimeUnit.MILLISECONDS.toHours(System.currentTimeMillis());
+        // now, on the full hour
+        long now = TimeUnit.HOURS.toMillis(TimeUnit.MILLISECONDS.toHours(System.currentTimeMillis()));
+        long hour = TimeUnit.HOURS.toMillis(1);
 
-        ArrayList<Entry> values = new ArrayList<>();
+        // the x-values are hours since now, the timestamps are stored exactly
+        TimestampLineDataSet set1 = new TimestampLineDataSet(now, hour, "DataSet 1");
 
         // count = hours
-        float to = now + count;
-
-        // increment by 1 hour
-        for (float x = now; x < to; x++) {
+        for (int i = 0; i < count; i++) {
 
             float y = getRandom(range, 50);
-            values.add(new Entry(x, y)); // add one entry per hour
+            set1.addEntry(now + i * hour, y); // add one entry per hour
         }
 
-        // create a dataset and give it a type
-        LineDataSet set1 = new LineDataSet(values, "DataSet 1");
+        chart.getXAxis().setValueFormatter(new TimestampAxisValueFormatter(
+                new SimpleDateFormat("dd MMM HH:mm", Locale.ENGLISH), set1));
+
+        // give the dataset a type
         set1.setAxisDependency(AxisDependency.LEFT);
         set1.setColor(ColorTemplate.getHoloBlue());
         set1.setValueTextColor(ColorTemplate.getHoloBlue());
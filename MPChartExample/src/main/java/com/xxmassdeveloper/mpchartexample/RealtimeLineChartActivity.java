@@ -21,6 +21,7 @@ import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.IngestionQueue;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
 import com.github.mikephil.charting.highlight.Highlight;
@@ -34,6 +35,9 @@ public class RealtimeLineChartActivity extends DemoBase implements
 
     private LineChart chart;
 
+    // samples from the background thread, drained by the chart once per frame
+    private final IngestionQueue queue = new IngestionQueue(4096);
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -69,6 +73,10 @@ public class RealtimeLineChartActivity extends DemoBase implements
         // add empty data
         chart.setData(data);
 
+        // let the chart append the queued samples and follow the latest one
+        chart.setIngestionQueue(queue);
+        chart.setIngestionAutoScrollEnabled(true);
+
         // get the legend (only possible after setting data)
         Legend l = chart.getLegend();
 
@@ -148,18 +156,28 @@ public class RealtimeLineChartActivity extends DemoBase implements
 
     private Thread thread;
 
+    // the x-value of the next sample of the producer, it's ahead of the entry count while samples are queued
+    private int nextX;
+
     private void feedMultiple() {
 
-        if (thread != null)
-            thread.interrupt();
+        // the queue takes a single producer, so the previous one has to be stopped first
+        stopFeeding();
 
-        final Runnable runnable = new Runnable() {
+        LineData data = chart.getData();
 
-            @Override
-            public void run() {
-                addEntry();
-            }
-        };
+        ILineDataSet set = data.getDataSetByIndex(0);
+
+        if (set == null) {
+            set = createSet();
+            data.addDataSet(set);
+            chart.notifyDataSetChanged();
+        }
+
+        // limit the number of visible entries
+        chart.setVisibleXRangeMaximum(120);
+
+        final int start = Math.max(nextX, set.getEntryCount());
 
         thread = new Thread(new Runnable() {
 
@@ -167,13 +185,14 @@ public class RealtimeLineChartActivity extends DemoBase implements
             public void run() {
                 for (int i = 0; i < 1000; i++) {
 
-                    // Don't generate garbage runnables inside the loop.
-                    runOnUiThread(runnable);
+                    // the producer never touches the chart, the samples are appended on the next frame
+                    queue.offer(0, start + i, (float) (Math.random() * 40) + 30f);
+                    nextX = start + i + 1;
 
                     try {
                         Thread.sleep(25);
                     } catch (InterruptedException e) {
-                        e.printStackTrace();
+                        return;
                     }
                 }
             }
@@ -182,6 +201,23 @@ public class RealtimeLineChartActivity extends DemoBase implements
         thread.start();
     }
 
+    private void stopFeeding() {
+
+        if (thread == null)
+            return;
+
+        thread.interrupt();
+
+        try {
+            // nextX is only read after the producer finished
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        thread = null;
+    }
+
     @Override
     public boolean onCreateOptionsMenu(Menu menu) {
         getMenuInflater().inflate(R.menu.realtime, menu);
@@ -242,8 +278,6 @@ public class RealtimeLineChartActivity extends DemoBase implements
     protected void onPause() {
         super.onPause();
 
-        if (thread != null) {
-            thread.interrupt();
-        }
+        stopFeeding();
     }
 }
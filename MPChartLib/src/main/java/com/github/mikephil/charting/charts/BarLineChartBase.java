@@ -21,6 +21,9 @@ import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.IngestionQueue;
+import com.github.mikephil.charting.data.PagedLineDataSet;
+import com.github.mikephil.charting.data.TimestampLineDataSet;
 import com.github.mikephil.charting.highlight.ChartHighlighter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
@@ -38,6 +41,9 @@ import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Base-class of LineChart, BarChart, ScatterChart and CandleStickChart.
  *
@@ -139,6 +145,43 @@ public abstract class BarLineChartBase<TData extends BarLineScatterCandleBubbleD
     // /** the approximator object used for data filtering */
     // private Approximator mApproximator;
 
+    /**
+     * the queue of samples from background threads that is drained at the start of every frame
+     */
+    private IngestionQueue mIngestionQueue;
+
+    /**
+     * the PagedLineDataSets of the data, collected by notifyDataSetChanged()
+     */
+    private final List<PagedLineDataSet> mPagedDataSets = new ArrayList<>();
+
+    /**
+     * the TimestampLineDataSets of the data, collected by notifyDataSetChanged()
+     */
+    private final List<TimestampLineDataSet> mTimestampDataSets = new ArrayList<>();
+
+    /**
+     * the distance of the visible range from the origin of the TimestampLineDataSets, in x-units, at which the
+     * origin is moved to the visible range so its x-values stay exact
+     */
+    private static final float TIMESTAMP_REBASE_DISTANCE = 1 << 22;
+
+    /**
+     * redraws the chart when a page of a PagedLineDataSet was loaded
+     */
+    private final PagedLineDataSet.OnPageLoadedListener mOnPageLoadedListener =
+            new PagedLineDataSet.OnPageLoadedListener() {
+                @Override
+                public void onPageLoaded(PagedLineDataSet dataSet) {
+                    postInvalidate();
+                }
+            };
+
+    /**
+     * if true, the chart scrolls to the end of the data after draining samples
+     */
+    private boolean mIngestionAutoScrollEnabled = false;
+
     public BarLineChartBase(Context context, AttributeSet attrs, int defStyle) {
         super(context, attrs, defStyle);
     }
@@ -195,6 +238,14 @@ public abstract class BarLineChartBase<TData extends BarLineScatterCandleBubbleD
 
         long starttime = System.currentTimeMillis();
 
+        drainIngestionQueue();
+
+        mRenderer.onFrameStart();
+
+        rebaseTimestampDataSets();
+
+        updatePagedDataSets();
+
         // execute all drawing commands
         drawGridBackground(canvas);
 
@@ -342,6 +393,36 @@ public abstract class BarLineChartBase<TData extends BarLineScatterCandleBubbleD
                 Log.i(LOG_TAG, "Preparing...");
         }
 
+        mData.invalidateMinMaxY();
+
+        collectPagedDataSets();
+        collectTimestampDataSets();
+
+        // the legend only depends on the DataSets, it's computed first as the offsets depend on its size
+        if (mLegend != null)
+            mLegendRenderer.computeLegend(mData);
+
+        prepareAppendedData();
+    }
+
+    /**
+     * Same as notifyDataSetChanged(), but skips the legend computation as appending entries doesn't
+     * change the DataSets themselves.
+     */
+    @Override
+    public void notifyDataAppended() {
+        if (mData == null)
+            return;
+
+        prepareAppendedData();
+        postInvalidate();
+    }
+
+    /**
+     * Computes the buffers, the axes and the offsets for the current entries, shared by notifyDataSetChanged()
+     * and notifyDataAppended().
+     */
+    private void prepareAppendedData() {
         if (mRenderer != null)
             mRenderer.initBuffers();
 
@@ -351,12 +432,64 @@ public abstract class BarLineChartBase<TData extends BarLineScatterCandleBubbleD
         mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum, mAxisRight.isInverted());
         mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
-        if (mLegend != null)
-            mLegendRenderer.computeLegend(mData);
-
         calculateOffsets();
     }
 
+    /**
+     * Sets the queue that background threads offer samples to. The chart drains it at the start of every frame
+     * and redraws itself once when new samples arrive. Must be called on the UI thread, null removes it.
+     */
+    public void setIngestionQueue(IngestionQueue queue) {
+        if (mIngestionQueue != null) {
+            mIngestionQueue.setOnSamplesAvailableListener(null);
+        }
+
+        mIngestionQueue = queue;
+
+        if (queue != null) {
+            queue.setOnSamplesAvailableListener(new IngestionQueue.OnSamplesAvailableListener() {
+                @Override
+                public void onSamplesAvailable(IngestionQueue queue) {
+                    postInvalidate();
+                }
+            });
+
+            if (queue.size() > 0) {
+                invalidate();
+            }
+        }
+    }
+
+    public IngestionQueue getIngestionQueue() {
+        return mIngestionQueue;
+    }
+
+    /**
+     * If set to true, the chart moves the viewport to the end of the data whenever samples were drained from
+     * the ingestion queue. Default: false
+     */
+    public void setIngestionAutoScrollEnabled(boolean enabled) {
+        mIngestionAutoScrollEnabled = enabled;
+    }
+
+    public boolean isIngestionAutoScrollEnabled() {
+        return mIngestionAutoScrollEnabled;
+    }
+
+    /**
+     * Appends the samples of the ingestion queue to the data in one batch per DataSet.
+     */
+    private void drainIngestionQueue() {
+        if (mIngestionQueue == null || mIngestionQueue.drainTo(mData) == 0)
+            return;
+
+        prepareAppendedData();
+
+        if (mIngestionAutoScrollEnabled) {
+            moveViewToX(mData.getXMax());
+        }
+    }
+
     /**
      * Performs auto scaling of the axis by recalculating the minimum and maximum y-values based on the entries currently in view.
      */
@@ -382,6 +515,139 @@ public abstract class BarLineChartBase<TData extends BarLineScatterCandleBubbleD
         calculateOffsets();
     }
 
+    /**
+     * Collects the PagedLineDataSets of the data. If a DataSet has no OnPageLoadedListener, the chart redraws
+     * itself when a page was loaded.
+     */
+    private void collectPagedDataSets() {
+        releasePagedDataSets();
+
+        for (TDataSet set : mData.getDataSets()) {
+            if (!(set instanceof PagedLineDataSet))
+                continue;
+
+            PagedLineDataSet pagedSet = (PagedLineDataSet) set;
+
+            if (pagedSet.getOnPageLoadedListener() == null) {
+                pagedSet.setOnPageLoadedListener(mOnPageLoadedListener);
+            }
+
+            mPagedDataSets.add(pagedSet);
+        }
+    }
+
+    /**
+     * Collects the TimestampLineDataSets of the data, whose origin follows the visible range.
+     */
+    private void collectTimestampDataSets() {
+        mTimestampDataSets.clear();
+
+        for (TDataSet set : mData.getDataSets()) {
+            if (set instanceof TimestampLineDataSet)
+                mTimestampDataSets.add((TimestampLineDataSet) set);
+        }
+    }
+
+    /**
+     * Moves the origin of the x-values of the TimestampLineDataSets to the center of the visible range when it is
+     * too far away for float x-values to be exact. The x-values, the axis range and the highlights are shifted by
+     * the same distance, so the viewport doesn't move.
+     */
+    private void rebaseTimestampDataSets() {
+        if (mTimestampDataSets.isEmpty())
+            return;
+
+        float centerX = (getLowestVisibleX() + getHighestVisibleX()) / 2f;
+
+        if (Math.abs(centerX) < TIMESTAMP_REBASE_DISTANCE)
+            return;
+
+        TimestampLineDataSet first = mTimestampDataSets.get(0);
+        long originMillis = first.getTimestampForX(centerX);
+        float shift = first.getXForTimestamp(originMillis);
+
+        // all DataSets share the origin, so their x-values stay comparable
+        for (int i = 0; i < mTimestampDataSets.size(); i++) {
+            mTimestampDataSets.get(i).setOriginMillis(originMillis);
+        }
+
+        if (mIndicesToHighlight != null) {
+            Highlight[] shifted = new Highlight[mIndicesToHighlight.length];
+
+            for (int i = 0; i < shifted.length; i++) {
+                Highlight h = mIndicesToHighlight[i];
+
+                shifted[i] = new Highlight(h.getX() - shift, h.getY(), h.getXPx(), h.getYPx(),
+                        h.getDataSetIndex(), h.getAxis());
+                shifted[i].setDataIndex(h.getDataIndex());
+            }
+
+            mIndicesToHighlight = shifted;
+        }
+
+        mData.notifyDataChanged();
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Removes the OnPageLoadedListener of the chart from the collected PagedLineDataSets, so DataSets that are no
+     * longer shown don't keep the chart alive.
+     */
+    private void releasePagedDataSets() {
+        for (int i = 0; i < mPagedDataSets.size(); i++) {
+            PagedLineDataSet pagedSet = mPagedDataSets.get(i);
+
+            if (pagedSet.getOnPageLoadedListener() == mOnPageLoadedListener) {
+                pagedSet.setOnPageLoadedListener(null);
+            }
+        }
+
+        mPagedDataSets.clear();
+    }
+
+    @Override
+    public void setData(TData data) {
+        releasePagedDataSets();
+        super.setData(data);
+    }
+
+    @Override
+    public void clear() {
+        releasePagedDataSets();
+        super.clear();
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+
+        if (mData != null)
+            collectPagedDataSets();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+
+        releasePagedDataSets();
+    }
+
+    /**
+     * Reports the visible x-range to the PagedLineDataSets, so they represent the values of the visible pages
+     * and load the missing ones.
+     */
+    private void updatePagedDataSets() {
+        if (mPagedDataSets.isEmpty())
+            return;
+
+        float lowX = getLowestVisibleX();
+        float highX = getHighestVisibleX();
+
+        for (int i = 0; i < mPagedDataSets.size(); i++) {
+            mPagedDataSets.get(i).setVisibleRange(lowX, highX);
+        }
+    }
+
     @Override
     protected void calcMinMax() {
 
@@ -45,6 +45,7 @@ import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
 import com.github.mikephil.charting.renderer.DataRenderer;
 import com.github.mikephil.charting.renderer.LegendRenderer;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.UpdateScheduler;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -53,6 +54,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Baseclass of all Chart-Views.
@@ -301,6 +303,38 @@ public abstract class Chart<TData extends ChartData<TDataSet, TEntry>, TDataSet
             Log.i(LOG_TAG, "Data is set.");
     }
 
+    /**
+     * the data that was published by another thread and is set on the next run of mSetPublishedData
+     */
+    private final AtomicReference<TData> mPublishedData = new AtomicReference<>();
+
+    private final Runnable mSetPublishedData = new Runnable() {
+        @Override
+        public void run() {
+            TData data = mPublishedData.getAndSet(null);
+
+            if (data != null) {
+                setData(data);
+                invalidate();
+            }
+        }
+    };
+
+    /**
+     * Sets the given data on the UI thread, can be called from any thread. The data replaces the current data
+     * at once and must not be modified afterwards (see CopyOnWriteDataSets for preparing the next data).
+     * If data is published several times before the UI thread gets to it, only the latest one is set.
+     */
+    public void publishData(TData data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data must not be null, use clear() instead");
+        }
+
+        if (mPublishedData.getAndSet(data) == null) {
+            post(mSetPublishedData);
+        }
+    }
+
     /**
      * Clears the chart from all data (sets it to null) and refreshes it (by
      * calling invalidate()).
@@ -344,6 +378,81 @@ public abstract class Chart<TData extends ChartData<TDataSet, TEntry>, TDataSet
      */
     public abstract void notifyDataSetChanged();
 
+    /**
+     * Lets the chart know that entries were appended to the existing DataSets (e.g. with
+     * ChartData.addEntries(...)), performs the necessary recalculations and invalidates the chart.
+     * Call this once per batch of appended entries instead of once per entry.
+     */
+    public void notifyDataAppended() {
+        notifyDataSetChanged();
+        postInvalidate();
+    }
+
+    /**
+     * coalesces the update requests per frame, created on first use
+     */
+    private UpdateScheduler mUpdateScheduler;
+
+    private UpdateScheduler getUpdateScheduler() {
+        if (mUpdateScheduler == null) {
+            mUpdateScheduler = new UpdateScheduler(new UpdateScheduler.Callback() {
+                @Override
+                public void onScheduledUpdate(int flags) {
+                    if ((flags & UpdateScheduler.FLAG_DATA) != 0) {
+                        notifyDataSetChanged();
+                    } else if ((flags & UpdateScheduler.FLAG_LAYOUT) != 0) {
+                        calculateOffsets();
+                    }
+
+                    invalidate();
+                }
+            });
+        }
+
+        return mUpdateScheduler;
+    }
+
+    /**
+     * Same as notifyDataSetChanged(), but the recalculation is done once on the next frame, no matter how
+     * often this is called until then. Must be called on the UI thread.
+     */
+    public void requestDataUpdate() {
+        getUpdateScheduler().request(UpdateScheduler.FLAG_DATA);
+    }
+
+    /**
+     * Calculates the offsets of the content and redraws the chart once on the next frame.
+     * Must be called on the UI thread.
+     */
+    public void requestLayoutUpdate() {
+        getUpdateScheduler().request(UpdateScheduler.FLAG_LAYOUT);
+    }
+
+    /**
+     * Limits the number of times the chart is redrawn per second, e.g. to save battery on charts that are
+     * updated continuously. While a limit is set, all calls to invalidate() (including the ones of gestures,
+     * animations and moveViewTo...(...)) are coalesced and drawn on the first frame that is allowed.
+     * 0 removes the limit. Default: 0
+     */
+    public void setMaxFrameRate(float fps) {
+        getUpdateScheduler().setMaxFrameRate(fps);
+    }
+
+    public float getMaxFrameRate() {
+        return mUpdateScheduler == null ? 0f : mUpdateScheduler.getMaxFrameRate();
+    }
+
+    @Override
+    public void invalidate() {
+        if (mUpdateScheduler != null && mUpdateScheduler.getMaxFrameRate() > 0f
+                && !mUpdateScheduler.isDispatching()) {
+            mUpdateScheduler.request(UpdateScheduler.FLAG_REDRAW);
+            return;
+        }
+
+        super.invalidate();
+    }
+
     /**
      * Calculates the offsets of the chart to the border depending on the
      * position of an eventual legend or depending on the length of the y-axis
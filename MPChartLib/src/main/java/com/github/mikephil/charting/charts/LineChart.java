@@ -9,6 +9,7 @@ import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 import com.github.mikephil.charting.renderer.LineChartRenderer;
+import com.github.mikephil.charting.renderer.RenderPreparer;
 
 /**
  * Chart that draws lines, surfaces, circles, ...
@@ -36,6 +37,49 @@ public class LineChart extends BarLineChartBase<LineData, ILineDataSet, Entry> i
         mRenderer = new LineChartRenderer(this, mAnimator, mViewPortHandler);
     }
 
+    /**
+     * If set to true, the pixels of linear lines with a single color are computed on a worker thread whenever
+     * the viewport or the data changes, and drawing only submits the last completed result. This keeps onDraw
+     * short for large lines, but the lines trail the viewport by a frame while it changes, and the data must not
+     * be modified in place (see publishData(...)). Other line modes, fills and circles are still computed in
+     * onDraw. Default: false
+     */
+    public void setRenderPreparationEnabled(boolean enabled) {
+        LineChartRenderer renderer = (LineChartRenderer) mRenderer;
+
+        if (!enabled) {
+            if (renderer.getRenderPreparer() != null) {
+                renderer.getRenderPreparer().release();
+                renderer.setRenderPreparer(null);
+            }
+        } else if (renderer.getRenderPreparer() == null) {
+            RenderPreparer preparer = new RenderPreparer();
+            preparer.setOnPreparedListener(new RenderPreparer.OnPreparedListener() {
+                @Override
+                public void onPrepared() {
+                    postInvalidate();
+                }
+            });
+
+            renderer.setRenderPreparer(preparer);
+        }
+    }
+
+    public boolean isRenderPreparationEnabled() {
+        return mRenderer instanceof LineChartRenderer
+                && ((LineChartRenderer) mRenderer).getRenderPreparer() != null;
+    }
+
+    @Override
+    public void notifyDataSetChanged() {
+        // the values may have been changed in place, without changing the versions of the DataSets
+        if (mRenderer instanceof LineChartRenderer && ((LineChartRenderer) mRenderer).getRenderPreparer() != null) {
+            ((LineChartRenderer) mRenderer).getRenderPreparer().invalidate();
+        }
+
+        super.notifyDataSetChanged();
+    }
+
     @Override
     public LineData getLineData() {
         return mData;
@@ -46,6 +90,11 @@ public class LineChart extends BarLineChartBase<LineData, ILineDataSet, Entry> i
         // releases the bitmap in the renderer to avoid oom error
         if (mRenderer != null && mRenderer instanceof LineChartRenderer) {
             ((LineChartRenderer) mRenderer).releaseBitmap();
+
+            // drops the prepared buffers, they are prepared again when the chart is drawn
+            if (((LineChartRenderer) mRenderer).getRenderPreparer() != null) {
+                ((LineChartRenderer) mRenderer).getRenderPreparer().release();
+            }
         }
         super.onDetachedFromWindow();
     }
@@ -46,6 +46,28 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     @Nullable
     private String mLabel = "DataSet";
 
+    /**
+     * modification version of the values, see getVersion()
+     */
+    private int mVersion;
+
+    /**
+     * must be a power of two, the log is indexed with version & (CHANGE_LOG_SIZE - 1), which stays valid when
+     * the version wraps around
+     */
+    private static final int CHANGE_LOG_SIZE = 16;
+
+    private static final int CHANGE_UNKNOWN = 0;
+    private static final int CHANGE_RANGE = 1;
+    private static final int CHANGE_REMOVED_FROM_START = 2;
+
+    /**
+     * the changes of the last CHANGE_LOG_SIZE versions, indexed by version: the kind of the change and its
+     * parameters (first and last index, or the number of values removed from the start)
+     */
+    @NotNull
+    private final int[] mChangeLog = new int[CHANGE_LOG_SIZE * 3];
+
     /**
      * this specifies which axis this DataSet should be plotted against
      */
@@ -127,9 +149,77 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      * Use this method to tell the data set that the underlying data has changed.
      */
     public void notifyDataSetChanged() {
+        incrementVersion();
         calcMinMax();
     }
 
+    @Override
+    public int getVersion() {
+        return mVersion;
+    }
+
+    @Override
+    public void getDirtyRange(int sinceVersion, @NotNull DirtyRange outRange) {
+        outRange.reset();
+
+        // the difference stays correct when the version wraps around
+        int changes = mVersion - sinceVersion;
+
+        if (changes < 0 || changes > CHANGE_LOG_SIZE) {
+            outRange.all = true;
+            return;
+        }
+
+        for (int version = sinceVersion + 1, n = 0; n < changes; version++, n++) {
+            int i = (version & (CHANGE_LOG_SIZE - 1)) * 3;
+
+            switch (mChangeLog[i]) {
+                case CHANGE_RANGE:
+                    outRange.add(mChangeLog[i + 1], mChangeLog[i + 2]);
+                    break;
+                case CHANGE_REMOVED_FROM_START:
+                    outRange.removeFromStart(mChangeLog[i + 1]);
+                    break;
+                default:
+                    outRange.all = true;
+                    return;
+            }
+        }
+    }
+
+    /**
+     * Must be called by subclasses for every change of the values that is not described more precisely by
+     * markValuesChanged(...) or markValuesRemovedFromStart(...). Caches have to be rebuilt after it.
+     */
+    protected void incrementVersion() {
+        logChange(CHANGE_UNKNOWN, 0, 0);
+    }
+
+    /**
+     * Must be called by subclasses when the values from index from to index to changed. Appending, inserting and
+     * removing values changes all the values after the position, which is reported with to = Integer.MAX_VALUE.
+     */
+    protected void markValuesChanged(int from, int to) {
+        logChange(CHANGE_RANGE, from, to);
+    }
+
+    /**
+     * Must be called by subclasses when the given number of values was removed from the start.
+     */
+    protected void markValuesRemovedFromStart(int count) {
+        logChange(CHANGE_REMOVED_FROM_START, count, 0);
+    }
+
+    private void logChange(int kind, int first, int second) {
+        mVersion++;
+
+        int i = (mVersion & (CHANGE_LOG_SIZE - 1)) * 3;
+
+        mChangeLog[i] = kind;
+        mChangeLog[i + 1] = first;
+        mChangeLog[i + 2] = second;
+    }
+
     /**
      * ###### ###### COLOR GETTING RELATED METHODS ##### ######
      */
@@ -426,10 +516,26 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      * ###### ###### DATA RELATED METHODS ###### ######
      */
 
+    @Override
+    public float getEntryXForIndex(int index) {
+        return getEntryForIndex(index).getX();
+    }
+
+    @Override
+    public float getEntryYForIndex(int index) {
+        return getEntryForIndex(index).getY();
+    }
+
+    @Override
+    public void getEntryIndexRange(float fromX, float toX, @NotNull int[] outRange) {
+        outRange[0] = getEntryIndex(fromX, Float.NaN, DataSet.ROUNDING_DOWN);
+        outRange[1] = getEntryIndex(toX, Float.NaN, DataSet.ROUNDING_UP);
+    }
+
     @Override
     public int getIndexInEntries(int xIndex) {
         for (int i = 0; i < getEntryCount(); i++) {
-            if (xIndex == getEntryForIndex(i).getX()) {
+            if (xIndex == getEntryXForIndex(i)) {
                 return i;
             }
         }
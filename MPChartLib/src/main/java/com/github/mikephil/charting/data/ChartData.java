@@ -16,6 +16,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -51,6 +52,29 @@ public abstract class ChartData<TDataSet extends IDataSet<TEntry>, TEntry extend
     protected float mRightAxisMax = -Float.MAX_VALUE;
     protected float mRightAxisMin = Float.MAX_VALUE;
 
+    /**
+     * the DataSets at the last calcMinMaxY(...), with their versions and axis dependencies (two ints per DataSet),
+     * and the bounds they contributed (yMin, yMax, xMin, xMax per DataSet)
+     */
+    @NotNull
+    private Object[] mRangeDataSets = new Object[0];
+
+    @NotNull
+    private int[] mRangeVersions = new int[0];
+
+    @NotNull
+    private float[] mRangeBounds = new float[0];
+
+    /**
+     * the merged bounds after the last calcMinMaxY(...) (yMin, yMax, xMin, xMax, left min, left max, right min,
+     * right max), used to detect that they were changed by other means since
+     */
+    @NotNull
+    private final float[] mRangeMerged = new float[8];
+
+    private float mRangeFromX = Float.NaN;
+    private float mRangeToX = Float.NaN;
+
     /**
      * array that holds all DataSets the ChartData object represents
      */
@@ -100,9 +124,18 @@ public abstract class ChartData<TDataSet extends IDataSet<TEntry>, TEntry extend
      * the contained data has changed.
      */
     public void notifyDataChanged() {
+        invalidateMinMaxY();
         calcMinMax();
     }
 
+    /**
+     * Makes the next calcMinMaxY(...) recalculate the y-bounds of all the DataSets, as values may have been
+     * changed in place (e.g. with Entry.setY(...)) without changing the versions of the DataSets.
+     */
+    public void invalidateMinMaxY() {
+        Arrays.fill(mRangeDataSets, null);
+    }
+
     /**
      * Calc minimum and maximum y-values over all DataSets.
      * Tell DataSets to recalculate their min and max y-values, this is only needed for autoScaleMinMax.
@@ -111,12 +144,104 @@ public abstract class ChartData<TDataSet extends IDataSet<TEntry>, TEntry extend
      * @param toX   the x-value to which the calculation should be performed
      */
     public void calcMinMaxY(float fromX, float toX) {
-        for (TDataSet set : mDataSets) {
+        int count = mDataSets.size();
+        boolean sameRange = fromX == mRangeFromX && toX == mRangeToX && count == mRangeDataSets.length;
+        boolean changed = !sameRange;
+
+        // the contributions of the changed DataSets can be merged into the last bounds, unless a DataSet that
+        // defined one of them shrank or the bounds were changed since
+        boolean merge = sameRange && isMergedRange();
+
+        if (count != mRangeDataSets.length) {
+            mRangeDataSets = new Object[count];
+            mRangeVersions = new int[count * 2];
+            mRangeBounds = new float[count * 4];
+        }
+
+        for (int i = 0; i < count; i++) {
+            TDataSet set = mDataSets.get(i);
+            boolean cached = mRangeDataSets[i] == set && mRangeVersions[i * 2 + 1] == set.getAxisDependency();
+
+            // the y-bounds of an unchanged DataSet in the same range are still valid
+            if (sameRange && cached
+                    && mRangeVersions[i * 2] == set.getVersion()
+                    && mRangeBounds[i * 4] == set.getYMin()
+                    && mRangeBounds[i * 4 + 1] == set.getYMax())
+                continue;
+
             set.calcMinMaxY(fromX, toX);
+
+            if (merge) {
+                merge = cached && !shrinksMerged(i, set);
+            }
+
+            mRangeDataSets[i] = set;
+            mRangeVersions[i * 2] = set.getVersion();
+            mRangeVersions[i * 2 + 1] = set.getAxisDependency();
+            mRangeBounds[i * 4] = set.getYMin();
+            mRangeBounds[i * 4 + 1] = set.getYMax();
+            mRangeBounds[i * 4 + 2] = set.getXMin();
+            mRangeBounds[i * 4 + 3] = set.getXMax();
+
+            if (merge) {
+                calcMinMax(set);
+            }
+
+            changed = true;
         }
 
-        // apply the new data
-        calcMinMax();
+        mRangeFromX = fromX;
+        mRangeToX = toX;
+
+        // apply the new data, the bounds of the last calculation are still valid if no DataSet changed
+        if (changed) {
+            if (!merge) {
+                calcMinMax();
+            }
+
+            saveMergedRange();
+        }
+    }
+
+    /**
+     * Returns true if the previous contribution of the DataSet at the given index defined one of the merged
+     * bounds, and the DataSet no longer reaches it. The merged bounds then have to be calculated from all DataSets.
+     */
+    private boolean shrinksMerged(int index, @NotNull TDataSet set) {
+        float yMin = mRangeBounds[index * 4];
+        float yMax = mRangeBounds[index * 4 + 1];
+        float xMin = mRangeBounds[index * 4 + 2];
+        float xMax = mRangeBounds[index * 4 + 3];
+
+        boolean left = set.getAxisDependency() == YAxis.DEPENDENCY_LEFT;
+        float axisMin = left ? mLeftAxisMin : mRightAxisMin;
+        float axisMax = left ? mLeftAxisMax : mRightAxisMax;
+
+        return (set.getYMin() > yMin && (yMin <= mYMin || yMin <= axisMin))
+                || (set.getYMax() < yMax && (yMax >= mYMax || yMax >= axisMax))
+                || (set.getXMin() > xMin && xMin <= mXMin)
+                || (set.getXMax() < xMax && xMax >= mXMax);
+    }
+
+    private boolean isMergedRange() {
+        float[] merged = mRangeMerged;
+
+        return merged[0] == mYMin && merged[1] == mYMax && merged[2] == mXMin && merged[3] == mXMax
+                && merged[4] == mLeftAxisMin && merged[5] == mLeftAxisMax
+                && merged[6] == mRightAxisMin && merged[7] == mRightAxisMax;
+    }
+
+    private void saveMergedRange() {
+        float[] merged = mRangeMerged;
+
+        merged[0] = mYMin;
+        merged[1] = mYMax;
+        merged[2] = mXMin;
+        merged[3] = mXMax;
+        merged[4] = mLeftAxisMin;
+        merged[5] = mLeftAxisMax;
+        merged[6] = mRightAxisMin;
+        merged[7] = mRightAxisMax;
     }
 
     /**
@@ -378,6 +503,22 @@ public abstract class ChartData<TDataSet extends IDataSet<TEntry>, TEntry extend
         }
     }
 
+    /**
+     * Adds all the given entries to the end of the DataSet at the specified index at once,
+     * and merges the new bounds of the DataSet only once.
+     */
+    public void addEntries(@NotNull List<TEntry> entries, int dataSetIndex) {
+        if (mDataSets.size() > dataSetIndex && dataSetIndex >= 0) {
+            TDataSet set = mDataSets.get(dataSetIndex);
+
+            if (set.addEntries(entries)) {
+                calcMinMax();
+            }
+        } else {
+            Log.e("addEntries", "Cannot add Entries because dataSetIndex too high or too low.");
+        }
+    }
+
     /**
      * Adjusts the current minimum and maximum values based on the provided Entry object.
      */
@@ -442,11 +583,18 @@ public abstract class ChartData<TDataSet extends IDataSet<TEntry>, TEntry extend
         TDataSet set = mDataSets.get(dataSetIndex);
 
         if (set != null) {
+            float xMin = set.getXMin();
+            float xMax = set.getXMax();
+            float yMin = set.getYMin();
+            float yMax = set.getYMax();
+
             // remove the entry from the dataset
             boolean removed = set.removeEntry(e);
 
-            if (removed) {
-                notifyDataChanged();
+            // the bounds of the data only change if the bounds of the DataSet did
+            if (removed && (xMin != set.getXMin() || xMax != set.getXMax()
+                    || yMin != set.getYMin() || yMax != set.getYMax())) {
+                calcMinMax();
             }
 
             return removed;
@@ -0,0 +1,367 @@
+package com.github.mikephil.charting.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List of Entries sorted by x, stored in blocks of limited size, for DataSets that receive many out-of-order
+ * inserts (see DataSet.addEntryOrdered(...)). Inserting or removing an entry only shifts the entries of one block
+ * and the start indices of the following blocks, instead of the whole array, and the block of an x-value is found
+ * by a binary search over the last x-values of the blocks. Access by index is a binary search over the block
+ * start indices, and sequential access (as done by the renderers) hits the block of the previous access.
+ * <p/>
+ * The entries must be kept sorted by x: add(...) appends, addOrdered(...) inserts at the right position.
+ *
+ * @param <T> the type of the Entries
+ */
+public class ChunkedEntryList<T extends Entry> extends AbstractList<T> implements RandomAccess {
+
+    /**
+     * the number of entries a new block is filled with, blocks are split when they reach twice this size and
+     * merged with a neighbour when they shrink below half of it
+     */
+    public static final int BLOCK_SIZE = 512;
+
+    @NotNull
+    private final List<ArrayList<T>> mBlocks = new ArrayList<>();
+
+    /**
+     * the index of the first entry of every block, plus the total size at the end
+     */
+    @NotNull
+    private int[] mBlockStarts = new int[]{0};
+
+    /**
+     * the block of the last access by index
+     */
+    private int mLastBlock;
+
+    public ChunkedEntryList() {
+    }
+
+    /**
+     * Creates a list of the given entries, which must be sorted by x.
+     */
+    public ChunkedEntryList(@NotNull Collection<? extends T> entries) {
+        addAll(entries);
+    }
+
+    @Override
+    public int size() {
+        return mBlockStarts[mBlocks.size()];
+    }
+
+    @Override
+    public T get(int index) {
+        int block = findBlock(index);
+        return mBlocks.get(block).get(index - mBlockStarts[block]);
+    }
+
+    @Override
+    public T set(int index, T e) {
+        int block = findBlock(index);
+        return mBlocks.get(block).set(index - mBlockStarts[block], e);
+    }
+
+    @Override
+    public boolean add(T e) {
+        int blockCount = mBlocks.size();
+
+        if (blockCount == 0 || mBlocks.get(blockCount - 1).size() >= BLOCK_SIZE) {
+            mBlocks.add(new ArrayList<T>(BLOCK_SIZE * 2));
+            ensureStarts(blockCount + 2);
+            mBlockStarts[blockCount + 1] = mBlockStarts[blockCount];
+            blockCount++;
+        }
+
+        mBlocks.get(blockCount - 1).add(e);
+        mBlockStarts[blockCount]++;
+        modCount++;
+
+        return true;
+    }
+
+    @Override
+    public void add(int index, T e) {
+        int size = size();
+
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if (index == size) {
+            add(e);
+            return;
+        }
+
+        int block = findBlock(index);
+        insert(block, index - mBlockStarts[block], e);
+    }
+
+    /**
+     * Inserts the entry after all the entries with a lower or equal x-value and returns its index.
+     */
+    public int addOrdered(@NotNull T e) {
+        int blockCount = mBlocks.size();
+        float x = e.getX();
+
+        if (blockCount == 0 || lastX(blockCount - 1) <= x) {
+            add(e);
+            return size() - 1;
+        }
+
+        // first block whose last x-value is higher
+        int low = 0;
+        int high = blockCount - 1;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (lastX(mid) <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        List<T> entries = mBlocks.get(low);
+        int position = upperBound(entries, x);
+
+        insert(low, position, e);
+
+        return mBlockStarts[low] + position;
+    }
+
+    @Override
+    public T remove(int index) {
+        int block = findBlock(index);
+        ArrayList<T> entries = mBlocks.get(block);
+
+        T removed = entries.remove(index - mBlockStarts[block]);
+        int blockCount = mBlocks.size();
+
+        for (int i = block + 1; i <= blockCount; i++) {
+            mBlockStarts[i]--;
+        }
+
+        if (entries.isEmpty()) {
+            mBlocks.remove(block);
+            System.arraycopy(mBlockStarts, block + 1, mBlockStarts, block, blockCount - block);
+            mLastBlock = 0;
+        } else if (entries.size() < BLOCK_SIZE / 2) {
+            mergeWithNeighbour(block);
+        }
+
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes the entry with a binary search on its x-value, so the list must be sorted by x.
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+
+        if (index < 0)
+            return false;
+
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Finds the entry with a binary search on its x-value, so the list must be sorted by x.
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Entry))
+            return -1;
+
+        float x = ((Entry) o).getX();
+        int size = size();
+
+        // first entry with the x-value
+        int low = 0;
+        int high = size;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (get(mid).getX() < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        for (int i = low; i < size; i++) {
+            T e = get(i);
+
+            if (e.getX() != x)
+                break;
+
+            if (o.equals(e))
+                return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        mBlocks.clear();
+        mBlockStarts = new int[]{0};
+        mLastBlock = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the number of blocks.
+     */
+    public int getBlockCount() {
+        return mBlocks.size();
+    }
+
+    private void insert(int block, int position, T e) {
+        ArrayList<T> entries = mBlocks.get(block);
+        entries.add(position, e);
+
+        int blockCount = mBlocks.size();
+
+        for (int i = block + 1; i <= blockCount; i++) {
+            mBlockStarts[i]++;
+        }
+
+        if (entries.size() >= BLOCK_SIZE * 2) {
+            split(block);
+        }
+
+        modCount++;
+    }
+
+    /**
+     * Moves the upper half of the given block into a new block after it.
+     */
+    private void split(int block) {
+        ArrayList<T> entries = mBlocks.get(block);
+        int half = entries.size() / 2;
+
+        List<T> upper = entries.subList(half, entries.size());
+        ArrayList<T> next = new ArrayList<>(BLOCK_SIZE * 2);
+        next.addAll(upper);
+        upper.clear();
+
+        int blockCount = mBlocks.size();
+        mBlocks.add(block + 1, next);
+
+        ensureStarts(blockCount + 2);
+        System.arraycopy(mBlockStarts, block + 1, mBlockStarts, block + 2, blockCount - block);
+        mBlockStarts[block + 1] = mBlockStarts[block] + half;
+    }
+
+    /**
+     * Merges the given block with its smaller neighbour, unless the merged block would have to be split again.
+     */
+    private void mergeWithNeighbour(int block) {
+        int blockCount = mBlocks.size();
+        int left;
+
+        if (block + 1 < blockCount && (block == 0 || mBlocks.get(block + 1).size() <= mBlocks.get(block - 1).size())) {
+            left = block;
+        } else if (block > 0) {
+            left = block - 1;
+        } else {
+            return;
+        }
+
+        ArrayList<T> entries = mBlocks.get(left);
+
+        if (entries.size() + mBlocks.get(left + 1).size() >= BLOCK_SIZE * 2)
+            return;
+
+        entries.addAll(mBlocks.remove(left + 1));
+        System.arraycopy(mBlockStarts, left + 2, mBlockStarts, left + 1, blockCount - left - 1);
+        mLastBlock = 0;
+    }
+
+    private void ensureStarts(int length) {
+        if (mBlockStarts.length < length) {
+            mBlockStarts = Arrays.copyOf(mBlockStarts, Math.max(length, mBlockStarts.length * 2));
+        }
+    }
+
+    private float lastX(int block) {
+        List<T> entries = mBlocks.get(block);
+        return entries.get(entries.size() - 1).getX();
+    }
+
+    /**
+     * Returns the block that contains the given index.
+     */
+    private int findBlock(int index) {
+        int blockCount = mBlocks.size();
+
+        if (index < 0 || index >= mBlockStarts[blockCount]) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        int block = mLastBlock;
+
+        if (block < blockCount && mBlockStarts[block] <= index && index < mBlockStarts[block + 1])
+            return block;
+
+        // sequential access moves on to the next block
+        if (block + 1 < blockCount && mBlockStarts[block + 1] <= index && index < mBlockStarts[block + 2]) {
+            mLastBlock = block + 1;
+            return block + 1;
+        }
+
+        int low = 0;
+        int high = blockCount - 1;
+
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+
+            if (mBlockStarts[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        mLastBlock = low;
+        return low;
+    }
+
+    /**
+     * Returns the position of the first entry with a higher x-value.
+     */
+    private static <T extends Entry> int upperBound(@NotNull List<T> entries, float x) {
+        int low = 0;
+        int high = entries.size();
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (entries.get(mid).getX() <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+}
@@ -0,0 +1,526 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.RangeMinMaxIndex;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * LineDataSet that stores its x- and y-values in two growable float arrays instead of a list of
+ * Entry objects. This drastically reduces the memory footprint and GC pressure of large series.
+ * The x-values must be sorted in ascending order, just like the entries of any other DataSet.
+ * <p/>
+ * Entry objects are only created on demand (getEntryForIndex(...), getEntries(), ...), so they
+ * carry neither data nor icons, and every call returns a new instance. Renderers read the values
+ * through getEntryXForIndex(...) and getEntryYForIndex(...) or directly from the raw arrays.
+ */
+public class ColumnarLineDataSet extends PrimitiveLineDataSet {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    @NotNull
+    private float[] mXValues;
+
+    @NotNull
+    private float[] mYValues;
+
+    /**
+     * the number of values that are actually used in the arrays
+     */
+    private int mCount;
+
+    /**
+     * index of the y-values for fast calcMinMaxY(...) queries, null if disabled
+     */
+    @Nullable
+    private RangeMinMaxIndex mRangeIndex;
+
+    /**
+     * Creates an empty ColumnarLineDataSet.
+     */
+    public ColumnarLineDataSet(@Nullable String label) {
+        this(new float[DEFAULT_CAPACITY], new float[DEFAULT_CAPACITY], 0, label);
+    }
+
+    /**
+     * Creates a ColumnarLineDataSet that represents all the values of the given arrays.
+     * The arrays are not copied, the DataSet takes the ownership of them.
+     */
+    public ColumnarLineDataSet(@NotNull float[] xValues, @NotNull float[] yValues, @Nullable String label) {
+        this(xValues, yValues, xValues.length, label);
+    }
+
+    /**
+     * Creates a ColumnarLineDataSet that represents all the values of the given arrays without scanning them for the
+     * y-bounds, which must be provided, for example from the metadata that is stored alongside the values. The
+     * x-bounds are read from the first and the last value. The arrays are not copied, the DataSet takes the
+     * ownership of them.
+     */
+    public ColumnarLineDataSet(
+            @NotNull float[] xValues,
+            @NotNull float[] yValues,
+            float yMin,
+            float yMax,
+            @Nullable String label
+    ) {
+        this(xValues, yValues, 0, label);
+
+        mCount = xValues.length;
+
+        if (mCount > 0) {
+            mXMin = xValues[0];
+            mXMax = xValues[mCount - 1];
+            mYMin = yMin;
+            mYMax = yMax;
+        }
+    }
+
+    /**
+     * Creates a ColumnarLineDataSet that represents the first count values of the given arrays.
+     * The arrays are not copied, the DataSet takes the ownership of them.
+     */
+    public ColumnarLineDataSet(
+            @NotNull float[] xValues,
+            @NotNull float[] yValues,
+            int count,
+            @Nullable String label
+    ) {
+        super(label);
+
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException("xValues and yValues must have the same length");
+        }
+
+        if (count < 0 || count > xValues.length) {
+            throw new IllegalArgumentException("count is out of bounds");
+        }
+
+        mXValues = xValues;
+        mYValues = yValues;
+        mCount = count;
+
+        calcMinMax();
+    }
+
+    /**
+     * Returns the array of x-values this DataSet represents. Only the first getEntryCount() values are valid.
+     * The array is returned directly (not a copy) and may be replaced when the DataSet grows.
+     */
+    @NotNull
+    public float[] getXValues() {
+        return mXValues;
+    }
+
+    /**
+     * Returns the array of y-values this DataSet represents. Only the first getEntryCount() values are valid.
+     * The array is returned directly (not a copy) and may be replaced when the DataSet grows.
+     */
+    @NotNull
+    public float[] getYValues() {
+        return mYValues;
+    }
+
+    /**
+     * If set to true, a range min/max index of the y-values is maintained, so calcMinMaxY(...), which is called on
+     * every frame with autoScaleMinMax enabled, takes O(log n) instead of scanning all the visible values.
+     * Appending stays O(log n) and removing the first value O(1), inserting or removing values in the middle
+     * rebuilds the index. Default: false
+     */
+    public void setRangeIndexEnabled(boolean enabled) {
+        if (!enabled) {
+            mRangeIndex = null;
+        } else if (mRangeIndex == null) {
+            mRangeIndex = new RangeMinMaxIndex();
+            mRangeIndex.rebuild(mYValues, mCount);
+        }
+    }
+
+    /**
+     * Returns true if the range min/max index of the y-values is enabled.
+     */
+    public boolean isRangeIndexEnabled() {
+        return mRangeIndex != null;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mCount;
+    }
+
+    @Override
+    public float getEntryXForIndex(int index) {
+        return mXValues[index];
+    }
+
+    @Override
+    public float getEntryYForIndex(int index) {
+        return mYValues[index];
+    }
+
+    @Override
+    public void calcMinMax() {
+        invalidateLevelOfDetail();
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        if (mRangeIndex != null) {
+            mRangeIndex.rebuild(mYValues, mCount);
+        }
+
+        // called by the super constructor before the arrays are assigned
+        if (mCount == 0) {
+            return;
+        }
+
+        // the x-values are sorted
+        mXMin = mXValues[0];
+        mXMax = mXValues[mCount - 1];
+
+        calcMinMaxYInRange(0, mCount - 1);
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        if (mCount == 0)
+            return;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, ROUNDING_DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, ROUNDING_UP);
+
+        if (indexTo < indexFrom) return;
+
+        if (mRangeIndex != null) {
+            mRangeIndex.resetQuery();
+            mRangeIndex.query(mYValues, indexFrom, indexTo);
+
+            mYMin = mRangeIndex.getQueryMin();
+            mYMax = mRangeIndex.getQueryMax();
+        } else {
+            calcMinMaxYInRange(indexFrom, indexTo);
+        }
+    }
+
+    private void calcMinMaxYInRange(int from, int to) {
+        float[] yValues = mYValues;
+        float yMin = mYMin;
+        float yMax = mYMax;
+
+        for (int i = from; i <= to; i++) {
+            float y = yValues[i];
+
+            if (y < yMin)
+                yMin = y;
+
+            if (y > yMax)
+                yMax = y;
+        }
+
+        mYMin = yMin;
+        mYMax = yMax;
+    }
+
+    /**
+     * Adds the given x- and y-value to the end of this DataSet.
+     * The x-value should not be lower than the x-value of the last entry.
+     */
+    public void addEntry(float x, float y) {
+        ensureCapacity(mCount + 1);
+
+        mXValues[mCount] = x;
+        mYValues[mCount] = y;
+
+        markValuesChanged(mCount, Integer.MAX_VALUE);
+
+        if (mRangeIndex != null) {
+            mRangeIndex.update(mYValues, mCount);
+        }
+
+        mCount++;
+
+        calcMinMax(x, y);
+    }
+
+    /**
+     * Inserts the given x- and y-value at the position respective to the x-value.
+     */
+    public void addEntryOrdered(float x, float y) {
+        if (mCount == 0 || mXValues[mCount - 1] <= x) {
+            addEntry(x, y);
+            return;
+        }
+
+        // find the first value with greater x, so the new value is inserted after equal x-values
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (mXValues[m] <= x) {
+                low = m + 1;
+            } else {
+                high = m;
+            }
+        }
+
+        insert(low, x, y);
+    }
+
+    /**
+     * Inserts the given x- and y-value at the given index, the x-values must stay sorted.
+     */
+    @Override
+    protected void insertEntry(int index, @NotNull Entry e) {
+        if (index == mCount) {
+            addEntry(e.getX(), e.getY());
+        } else {
+            insert(index, e.getX(), e.getY());
+        }
+    }
+
+    private void insert(int index, float x, float y) {
+        ensureCapacity(mCount + 1);
+        markValuesChanged(index, Integer.MAX_VALUE);
+
+        System.arraycopy(mXValues, index, mXValues, index + 1, mCount - index);
+        System.arraycopy(mYValues, index, mYValues, index + 1, mCount - index);
+
+        mXValues[index] = x;
+        mYValues[index] = y;
+        mCount++;
+
+        if (mRangeIndex != null) {
+            mRangeIndex.rebuild(mYValues, mCount);
+        }
+
+        calcMinMax(x, y);
+    }
+
+    /**
+     * Appends all the given x- and y-values to the end of this DataSet with at most one array growth and one
+     * min/max pass over the new values. The x-values must be sorted in ascending order and must not be lower
+     * than the x-value of the last entry.
+     */
+    public void appendBatch(@NotNull float[] xValues, @NotNull float[] yValues) {
+        appendBatch(xValues, yValues, 0, xValues.length);
+    }
+
+    @Override
+    public void appendBatch(@NotNull float[] xValues, @NotNull float[] yValues, int offset, int count) {
+        if (count <= 0)
+            return;
+
+        ensureCapacity(mCount + count);
+
+        System.arraycopy(xValues, offset, mXValues, mCount, count);
+        System.arraycopy(yValues, offset, mYValues, mCount, count);
+
+        onValuesAppended(mCount, count);
+    }
+
+    @Override
+    public boolean addEntries(@NotNull List<Entry> entries) {
+        int count = entries.size();
+
+        if (count == 0)
+            return false;
+
+        ensureCapacity(mCount + count);
+
+        int i = mCount;
+
+        for (Entry e : entries) {
+            mXValues[i] = e.getX();
+            mYValues[i] = e.getY();
+            i++;
+        }
+
+        onValuesAppended(mCount, count);
+
+        return true;
+    }
+
+    /**
+     * Takes count values that were written to the end of the arrays into account.
+     */
+    private void onValuesAppended(int from, int count) {
+        mCount += count;
+
+        markValuesChanged(from, Integer.MAX_VALUE);
+
+        if (mRangeIndex != null) {
+            mRangeIndex.update(mYValues, from, mCount - 1);
+        }
+
+        if (mXValues[from] < mXMin)
+            mXMin = mXValues[from];
+
+        if (mXValues[mCount - 1] > mXMax)
+            mXMax = mXValues[mCount - 1];
+
+        calcMinMaxYInRange(from, mCount - 1);
+    }
+
+    @Override
+    public boolean addEntry(@NotNull Entry e) {
+        addEntry(e.getX(), e.getY());
+
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(@NotNull Entry e) {
+        addEntryOrdered(e.getX(), e.getY());
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        if (index < 0 || index >= mCount)
+            return false;
+
+        if (index == 0) {
+            markValuesRemovedFromStart(1);
+        } else {
+            markValuesChanged(index, Integer.MAX_VALUE);
+        }
+
+        float y = mYValues[index];
+
+        int moved = mCount - index - 1;
+
+        if (moved > 0) {
+            System.arraycopy(mXValues, index + 1, mXValues, index, moved);
+            System.arraycopy(mYValues, index + 1, mYValues, index, moved);
+        }
+
+        mCount--;
+
+        if (mCount == 0) {
+            calcMinMax();
+        } else {
+            if (mRangeIndex != null) {
+                // a sliding window only moves the start of the index
+                if (index == 0) {
+                    mRangeIndex.removeFromStart(1);
+                } else {
+                    mRangeIndex.rebuild(mYValues, mCount);
+                }
+            }
+
+            // the x-values are sorted, so the x-bounds are simply the first and the last value
+            mXMin = mXValues[0];
+            mXMax = mXValues[mCount - 1];
+
+            // a rescan is only needed if the removed value might have been one of the y-extremes
+            if (y <= mYMin || y >= mYMax) {
+                if (mRangeIndex != null) {
+                    mRangeIndex.resetQuery();
+                    mRangeIndex.query(mYValues, 0, mCount - 1);
+
+                    mYMin = mRangeIndex.getQueryMin();
+                    mYMax = mRangeIndex.getQueryMax();
+                } else {
+                    mYMax = -Float.MAX_VALUE;
+                    mYMin = Float.MAX_VALUE;
+
+                    calcMinMaxYInRange(0, mCount - 1);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mCount - 1);
+    }
+
+    @Override
+    public void clear() {
+        mCount = 0;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Replaces the values of this DataSet with the values of the given entries and calls notifyDataSetChanged()
+     */
+    @Override
+    public void setEntries(@NotNull List<Entry> entries) {
+        int size = entries.size();
+
+        mCount = 0;
+        ensureCapacity(size);
+
+        for (int i = 0; i < size; i++) {
+            Entry e = entries.get(i);
+
+            mXValues[i] = e.getX();
+            mYValues[i] = e.getY();
+        }
+
+        mCount = size;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Trims the capacity of the arrays to the current entry count.
+     */
+    public void trimToSize() {
+        if (mXValues.length != mCount) {
+            mXValues = Arrays.copyOf(mXValues, mCount);
+            mYValues = Arrays.copyOf(mYValues, mCount);
+        }
+    }
+
+    @Override
+    @NotNull
+    public DataSet<Entry> copy() {
+        ColumnarLineDataSet copied = new ColumnarLineDataSet(
+                Arrays.copyOf(mXValues, mCount),
+                Arrays.copyOf(mYValues, mCount),
+                getLabel()
+        );
+        copied.setRangeIndexEnabled(isRangeIndexEnabled());
+        copy(copied);
+        return copied;
+    }
+
+    private void calcMinMax(float x, float y) {
+        if (x < mXMin)
+            mXMin = x;
+
+        if (x > mXMax)
+            mXMax = x;
+
+        if (y < mYMin)
+            mYMin = y;
+
+        if (y > mYMax)
+            mYMax = y;
+    }
+
+    private void ensureCapacity(int capacity) {
+        int length = mXValues.length;
+
+        if (capacity > length) {
+            int newLength = Math.max(capacity, length + (length >> 1) + 1);
+
+            mXValues = Arrays.copyOf(mXValues, newLength);
+            mYValues = Arrays.copyOf(mYValues, newLength);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copy-on-write builder for the DataSets of a new ChartData, used to prepare the next state of a chart on a
+ * background thread while the current ChartData is drawn. The DataSets of the current data are shared until
+ * they are edited: edit(...) replaces a DataSet with a copy the first time, so the DataSets that are drawn are
+ * never modified. The ChartData that is created from build() is then handed to the chart at once with
+ * Chart.publishData(...).
+ * <p/>
+ * A published ChartData must be treated as immutable: further changes are made with a new builder from it.
+ *
+ * @param <TDataSet> the type of the DataSets
+ * @param <TEntry>   the type of the Entries
+ */
+public class CopyOnWriteDataSets<TDataSet extends IDataSet<TEntry>, TEntry extends Entry> {
+
+    @NotNull
+    private final List<TDataSet> mDataSets;
+
+    /**
+     * the DataSets that were created by this builder and can be modified in place
+     */
+    @NotNull
+    private final Map<TDataSet, Boolean> mOwned = new IdentityHashMap<>();
+
+    /**
+     * Creates a builder that starts with the DataSets of the given data, which are shared until they are edited.
+     */
+    public CopyOnWriteDataSets(@NotNull ChartData<TDataSet, TEntry> data) {
+        mDataSets = new ArrayList<>(data.getDataSets());
+    }
+
+    public int size() {
+        return mDataSets.size();
+    }
+
+    /**
+     * Returns the DataSet at the given index for reading. It may be shared with the current data and must
+     * not be modified, see edit(...).
+     */
+    @NotNull
+    public TDataSet get(int index) {
+        return mDataSets.get(index);
+    }
+
+    /**
+     * Returns the DataSet at the given index for modification. A shared DataSet is replaced with a copy
+     * (see DataSet.copy()) the first time it is edited.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public TDataSet edit(int index) {
+        TDataSet set = mDataSets.get(index);
+
+        if (mOwned.containsKey(set))
+            return set;
+
+        if (!(set instanceof DataSet)) {
+            throw new IllegalStateException("Only DataSets can be copied, use set(...) to replace " + set);
+        }
+
+        TDataSet copy = (TDataSet) ((DataSet<?>) set).copy();
+
+        mDataSets.set(index, copy);
+        mOwned.put(copy, Boolean.TRUE);
+
+        return copy;
+    }
+
+    /**
+     * Replaces the DataSet at the given index with a new one, which is owned by the builder.
+     */
+    public void set(int index, @NotNull TDataSet set) {
+        mDataSets.set(index, set);
+        mOwned.put(set, Boolean.TRUE);
+    }
+
+    /**
+     * Adds a new DataSet, which is owned by the builder.
+     */
+    public void add(@NotNull TDataSet set) {
+        mDataSets.add(set);
+        mOwned.put(set, Boolean.TRUE);
+    }
+
+    public void remove(int index) {
+        mOwned.remove(mDataSets.remove(index));
+    }
+
+    /**
+     * Returns the DataSets for creating the new ChartData, e.g. new LineData(builder.build()). All the DataSets
+     * become shared with it, so editing them again copies them again.
+     */
+    @NotNull
+    public List<TDataSet> build() {
+        mOwned.clear();
+        return new ArrayList<>(mDataSets);
+    }
+}
@@ -210,12 +210,20 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     public void addEntryOrdered(@NotNull T e) {
         calcMinMax(e);
 
-        if (mEntries.size() > 0 && mEntries.get(mEntries.size() - 1).getX() > e.getX()) {
-            int closestIndex = getEntryIndex(e.getX(), e.getY(), ROUNDING_UP);
-            mEntries.add(closestIndex, e);
+        int index;
+
+        if (mEntries instanceof ChunkedEntryList) {
+            // finds the block and shifts only its entries
+            index = ((ChunkedEntryList<T>) mEntries).addOrdered(e);
+        } else if (mEntries.size() > 0 && mEntries.get(mEntries.size() - 1).getX() > e.getX()) {
+            index = getEntryIndex(e.getX(), e.getY(), ROUNDING_UP);
+            mEntries.add(index, e);
         } else {
+            index = mEntries.size();
             mEntries.add(e);
         }
+
+        markValuesChanged(index, Integer.MAX_VALUE);
     }
 
     @Override
@@ -228,24 +236,135 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     public boolean addEntry(@NotNull T e) {
         List<T> values = getEntries();
 
+        markValuesChanged(values.size(), Integer.MAX_VALUE);
         calcMinMax(e);
 
         // add the entry
         return values.add(e);
     }
 
+    @Override
+    public boolean addEntries(@NotNull List<T> entries) {
+        if (entries.isEmpty())
+            return false;
+
+        markValuesChanged(mEntries.size(), Integer.MAX_VALUE);
+
+        for (T e : entries) {
+            calcMinMax(e);
+        }
+
+        return mEntries.addAll(entries);
+    }
+
     @Override
     public boolean removeEntry(@NotNull T e) {
         // remove the entry
         boolean removed = mEntries.remove(e);
 
         if (removed) {
-            calcMinMax();
+            incrementVersion();
+            calcMinMaxOnRemove(e);
         }
 
         return removed;
     }
 
+    @Override
+    public boolean removeEntry(int index) {
+        if (index < 0 || index >= mEntries.size())
+            return false;
+
+        if (index == 0) {
+            markValuesRemovedFromStart(1);
+        } else {
+            markValuesChanged(index, Integer.MAX_VALUE);
+        }
+
+        calcMinMaxOnRemove(mEntries.remove(index));
+
+        return true;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mEntries.size() - 1);
+    }
+
+    /**
+     * Updates the min and max values after the given Entry was removed. Nothing is recalculated unless the Entry
+     * was on one of the bounds: then the x-bounds are taken from the ends of the (sorted) entries, and the y-bounds
+     * are recalculated with a single pass over all entries.
+     */
+    protected void calcMinMaxOnRemove(@NotNull T e) {
+        if (mEntries.isEmpty()) {
+            calcMinMax();
+            return;
+        }
+
+        float xMin = mXMin;
+        float xMax = mXMax;
+        float yMin = mYMin;
+        float yMax = mYMax;
+
+        // let the subclass calculate the bounds of the removed Entry alone
+        mXMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mYMax = -Float.MAX_VALUE;
+
+        calcMinMax(e);
+
+        boolean xTouched = (mXMin != Float.MAX_VALUE && mXMin <= xMin)
+                || (mXMax != -Float.MAX_VALUE && mXMax >= xMax);
+        boolean yTouched = (mYMin != Float.MAX_VALUE && mYMin <= yMin)
+                || (mYMax != -Float.MAX_VALUE && mYMax >= yMax);
+
+        mXMin = xMin;
+        mXMax = xMax;
+        mYMin = yMin;
+        mYMax = yMax;
+
+        if (yTouched) {
+            calcMinMax();
+        } else if (xTouched) {
+            calcMinMaxXFromEnds();
+        }
+    }
+
+    /**
+     * Recalculates the x-bounds from the first and the last entries that contribute to them,
+     * which is O(1) in the common case as the entries are sorted by x.
+     */
+    private void calcMinMaxXFromEnds() {
+        float yMin = mYMin;
+        float yMax = mYMax;
+
+        mXMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+
+        int count = mEntries.size();
+
+        for (int i = 0; i < count && mXMin == Float.MAX_VALUE; i++) {
+            calcMinMax(mEntries.get(i));
+        }
+
+        mXMax = -Float.MAX_VALUE;
+
+        for (int i = count - 1; i >= 0 && mXMax == -Float.MAX_VALUE; i--) {
+            calcMinMax(mEntries.get(i));
+        }
+
+        // calcMinMax(e) is only used for the x-bounds here
+        mYMin = yMin;
+        mYMax = yMax;
+    }
+
     @Override
     public int getEntryIndex(@NotNull Entry e) {
         return mEntries.indexOf(e);
@@ -257,7 +376,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         int index = getEntryIndex(xValue, closestToY, rounding);
 
         if (index > -1)
-            return mEntries.get(index);
+            return getEntryForIndex(index);
         return null;
     }
 
@@ -273,20 +392,36 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         return mEntries.get(index);
     }
 
+    @Override
+    public float getEntryXForIndex(int index) {
+        return mEntries.get(index).getX();
+    }
+
+    @Override
+    public float getEntryYForIndex(int index) {
+        return mEntries.get(index).getY();
+    }
+
+    /**
+     * The search reads values only through getEntryCount(), getEntryXForIndex(int) and
+     * getEntryYForIndex(int), so subclasses that store their values differently get it for free.
+     */
     @Override
     public int getEntryIndex(float xValue, float closestToY, @Rounding int rounding) {
-        if (mEntries.isEmpty())
+        int entryCount = getEntryCount();
+
+        if (entryCount == 0)
             return -1;
 
         int low = 0;
-        int high = mEntries.size() - 1;
+        int high = entryCount - 1;
         int closest = high;
 
         while (low < high) {
             int m = (low + high) / 2;
 
-            final float d1 = mEntries.get(m).getX() - xValue,
-                    d2 = mEntries.get(m + 1).getX() - xValue,
+            final float d1 = getEntryXForIndex(m) - xValue,
+                    d2 = getEntryXForIndex(m + 1) - xValue,
                     ad1 = Math.abs(d1), ad2 = Math.abs(d2);
 
             if (ad2 < ad1) {
@@ -313,10 +448,10 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         }
 
         if (closest != -1) {
-            float closestXValue = mEntries.get(closest).getX();
+            float closestXValue = getEntryXForIndex(closest);
             if (rounding == ROUNDING_UP) {
                 // If rounding up, and found x-value is lower than specified x, and we can go upper...
-                if (closestXValue < xValue && closest < mEntries.size() - 1) {
+                if (closestXValue < xValue && closest < entryCount - 1) {
                     ++closest;
                 }
             } else if (rounding == ROUNDING_DOWN) {
@@ -328,23 +463,21 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
             // Search by closest to y-value
             if (!Float.isNaN(closestToY)) {
-                while (closest > 0 && mEntries.get(closest - 1).getX() == closestXValue)
+                while (closest > 0 && getEntryXForIndex(closest - 1) == closestXValue)
                     closest -= 1;
 
-                float closestYValue = mEntries.get(closest).getY();
+                float closestYValue = getEntryYForIndex(closest);
                 int closestYIndex = closest;
 
                 while (true) {
                     closest += 1;
-                    if (closest >= mEntries.size())
+                    if (closest >= entryCount)
                         break;
 
-                    final Entry value = mEntries.get(closest);
-
-                    if (value.getX() != closestXValue)
+                    if (getEntryXForIndex(closest) != closestXValue)
                         break;
 
-                    if (Math.abs(value.getY() - closestToY) <= Math.abs(closestYValue - closestToY)) {
+                    if (Math.abs(getEntryYForIndex(closest) - closestToY) <= Math.abs(closestYValue - closestToY)) {
                         closestYValue = closestToY;
                         closestYIndex = closest;
                     }
@@ -363,24 +496,23 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         ArrayList<T> entries = new ArrayList<>();
 
         int low = 0;
-        int high = mEntries.size() - 1;
+        int high = getEntryCount() - 1;
 
         while (low <= high) {
             int m = (high + low) / 2;
-            T entry = mEntries.get(m);
+            float entryX = getEntryXForIndex(m);
 
             // if we have a match
-            if (xValue == entry.getX()) {
-                while (m > 0 && mEntries.get(m - 1).getX() == xValue)
+            if (xValue == entryX) {
+                while (m > 0 && getEntryXForIndex(m - 1) == xValue)
                     m--;
 
-                high = mEntries.size();
+                high = getEntryCount();
 
                 // loop over all "equal" entries
                 for (; m < high; m++) {
-                    entry = mEntries.get(m);
-                    if (entry.getX() == xValue) {
-                        entries.add(entry);
+                    if (getEntryXForIndex(m) == xValue) {
+                        entries.add(getEntryForIndex(m));
                     } else {
                         break;
                     }
@@ -388,7 +520,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
                 break;
             } else {
-                if (xValue > entry.getX())
+                if (xValue > entryX)
                     low = m + 1;
                 else
                     high = m - 1;
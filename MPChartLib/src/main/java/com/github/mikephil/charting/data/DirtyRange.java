@@ -0,0 +1,69 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * The changes of the values of a DataSet since a given version, see IDataSet.getDirtyRange(...). A cache that
+ * was built for that version first drops the removedFromStart oldest values, which shifts the indices of the
+ * remaining ones, and then only has to update the values from index from to index to. Everything after the
+ * dirty range is unchanged, so a cache of an append-only DataSet only has to compute the new tail.
+ */
+public final class DirtyRange {
+
+    /**
+     * true if the changes are unknown, e.g. after notifyDataSetChanged() or if the version is too old,
+     * in which case the cache has to be rebuilt
+     */
+    public boolean all;
+
+    /**
+     * the number of values that were removed from the start of the DataSet
+     */
+    public int removedFromStart;
+
+    /**
+     * the first changed index, in the current indices of the DataSet
+     */
+    public int from;
+
+    /**
+     * the last changed index (inclusive), in the current indices of the DataSet; changes that end at the last
+     * entry (appending, inserting or removing values) report Integer.MAX_VALUE
+     */
+    public int to;
+
+    /**
+     * Returns true if nothing changed, i.e. the cache is up to date.
+     */
+    public boolean isEmpty() {
+        return !all && removedFromStart == 0 && from > to;
+    }
+
+    void reset() {
+        all = false;
+        removedFromStart = 0;
+        from = Integer.MAX_VALUE;
+        to = -1;
+    }
+
+    void add(int changedFrom, int changedTo) {
+        from = Math.min(from, changedFrom);
+        to = Math.max(to, changedTo);
+    }
+
+    void removeFromStart(int count) {
+        removedFromStart += count;
+
+        if (from > to)
+            return;
+
+        if (to != Integer.MAX_VALUE) {
+            to -= count;
+        }
+
+        if (to < 0) {
+            from = Integer.MAX_VALUE;
+            to = -1;
+        } else {
+            from = Math.max(from - count, 0);
+        }
+    }
+}
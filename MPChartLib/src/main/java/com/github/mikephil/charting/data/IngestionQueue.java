@@ -0,0 +1,199 @@
+package com.github.mikephil.charting.data;
+
+import android.util.Log;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lock-free single-producer / single-consumer queue of samples for line charts. One background thread offers
+ * x/y-values with the index of the target DataSet, and the chart drains them in bulk at the start of every
+ * frame (see BarLineChartBase.setIngestionQueue(...)), so the producer never touches the data or the view and
+ * the UI thread appends one batch per DataSet and frame.
+ * <p/>
+ * The samples are kept in primitive arrays of a fixed capacity, offering fails when the queue is full. The
+ * samples of every DataSet must be offered in ascending x-order, and the targets must be ILineDataSets.
+ */
+public class IngestionQueue {
+    private static final String LOG_TAG = "MPChart-IngestionQueue";
+
+    /**
+     * Called from the producer thread when samples become available after the queue was drained.
+     */
+    public interface OnSamplesAvailableListener {
+        void onSamplesAvailable(@NotNull IngestionQueue queue);
+    }
+
+    @NotNull
+    private final float[] mXValues;
+
+    @NotNull
+    private final float[] mYValues;
+
+    @NotNull
+    private final int[] mDataSetIndices;
+
+    private final int mMask;
+
+    /**
+     * the number of samples that were offered, only written by the producer
+     */
+    private volatile long mHead;
+
+    /**
+     * the number of samples that were drained, only written by the consumer
+     */
+    private volatile long mTail;
+
+    /**
+     * true if the listener was called since the last drain
+     */
+    @NotNull
+    private final AtomicBoolean mSignalled = new AtomicBoolean();
+
+    @Nullable
+    private volatile OnSamplesAvailableListener mListener;
+
+    /**
+     * @param capacity the maximum number of samples that are queued, rounded up to a power of two
+     */
+    public IngestionQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+
+        mXValues = new float[size];
+        mYValues = new float[size];
+        mDataSetIndices = new int[size];
+        mMask = size - 1;
+    }
+
+    public int getCapacity() {
+        return mMask + 1;
+    }
+
+    /**
+     * Returns the number of samples that are queued.
+     */
+    public int size() {
+        return (int) (mHead - mTail);
+    }
+
+    public void setOnSamplesAvailableListener(@Nullable OnSamplesAvailableListener listener) {
+        mListener = listener;
+    }
+
+    /**
+     * Queues a sample for the DataSet at the given index. Must only be called by the producer thread.
+     * Returns false if the queue is full.
+     */
+    public boolean offer(int dataSetIndex, float x, float y) {
+        long head = mHead;
+
+        if (head - mTail > mMask)
+            return false;
+
+        int slot = (int) head & mMask;
+        mXValues[slot] = x;
+        mYValues[slot] = y;
+        mDataSetIndices[slot] = dataSetIndex;
+
+        // publishes the sample
+        mHead = head + 1;
+
+        signal();
+        return true;
+    }
+
+    /**
+     * Queues count samples, starting at offset in the given arrays, for the DataSet at the given index.
+     * Must only be called by the producer thread. Returns the number of samples that fit into the queue.
+     */
+    public int offer(int dataSetIndex, @NotNull float[] xValues, @NotNull float[] yValues, int offset, int count) {
+        long head = mHead;
+        int free = (int) (mMask + 1 - (head - mTail));
+
+        count = Math.min(count, free);
+
+        for (int i = 0; i < count; i++) {
+            int slot = (int) (head + i) & mMask;
+            mXValues[slot] = xValues[offset + i];
+            mYValues[slot] = yValues[offset + i];
+            mDataSetIndices[slot] = dataSetIndex;
+        }
+
+        if (count > 0) {
+            mHead = head + count;
+            signal();
+        }
+
+        return count;
+    }
+
+    private void signal() {
+        OnSamplesAvailableListener listener = mListener;
+
+        if (listener != null && !mSignalled.getAndSet(true)) {
+            listener.onSamplesAvailable(this);
+        }
+    }
+
+    /**
+     * Appends all the queued samples to their DataSets with appendBatch(...), one batch per consecutive run of
+     * samples of the same DataSet, and updates the bounds of the data. Must only be called by the consumer
+     * thread. Returns the number of samples that were drained.
+     */
+    public int drainTo(@NotNull ChartData<?, ?> data) {
+        // samples that are offered from now on signal again
+        mSignalled.set(false);
+
+        long tail = mTail;
+        long head = mHead;
+
+        if (head == tail)
+            return 0;
+
+        long position = tail;
+
+        while (position < head) {
+            int slot = (int) position & mMask;
+            int dataSetIndex = mDataSetIndices[slot];
+
+            // a run ends at a different DataSet or at the end of the arrays
+            int runEnd = slot + 1;
+            int limit = (int) Math.min(mMask + 1, slot + (head - position));
+
+            while (runEnd < limit && mDataSetIndices[runEnd] == dataSetIndex) {
+                runEnd++;
+            }
+
+            IDataSet<?> set = dataSetIndex >= 0 && dataSetIndex < data.getDataSetCount()
+                    ? data.getDataSetByIndex(dataSetIndex) : null;
+
+            if (set instanceof ILineDataSet) {
+                ((ILineDataSet) set).appendBatch(mXValues, mYValues, slot, runEnd - slot);
+            } else {
+                Log.e(LOG_TAG, "Cannot append samples because there is no ILineDataSet at index " + dataSetIndex);
+            }
+
+            position += runEnd - slot;
+        }
+
+        // frees the slots
+        mTail = head;
+
+        data.notifyDataChanged();
+
+        return (int) (head - tail);
+    }
+}
@@ -0,0 +1,322 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Multi-resolution summary of the y-values of a DataSet, used to draw huge line series in time proportional
+ * to the width of the chart instead of the number of entries.
+ * <p/>
+ * Level 0 splits the entries into buckets of 2^BASE_SHIFT consecutive indices, every further level merges two
+ * buckets of the level below. For every bucket, the indices of its minimum and maximum y-value are kept, so
+ * together with the first and the last index of the bucket, the renderer can draw the exact envelope of the
+ * bucket with at most 4 points.
+ * <p/>
+ * The pyramid is updated incrementally from the dirty range of the DataSet (see IDataSet.getDirtyRange(...)):
+ * only the buckets from the first changed index on are computed again, so appending entries only computes the
+ * new ones. The buckets stay aligned to the entries they were built for when entries are removed from the start,
+ * so the first bucket of every level may be partial; only that one is computed again, e.g. for a sliding window
+ * of a stream. The pyramid is rebuilt once the removed entries outnumber the remaining ones.
+ */
+public final class LevelOfDetailPyramid {
+    /**
+     * the finest level summarizes 2^BASE_SHIFT entries per bucket
+     */
+    public static final int BASE_SHIFT = 3;
+
+    /**
+     * positions of the minimum and maximum y-value of every bucket, per level, indexed by the position of the
+     * bucket (see mOffset)
+     */
+    @NotNull
+    private int[][] mMinIndices = new int[0][];
+
+    @NotNull
+    private int[][] mMaxIndices = new int[0][];
+
+    private int mLevelCount;
+
+    /**
+     * the number of entries the pyramid was built for
+     */
+    private int mCount;
+
+    /**
+     * the number of entries removed from the start since the pyramid was rebuilt, the position of an entry
+     * is its index plus the offset
+     */
+    private int mOffset;
+
+    /**
+     * the version of the DataSet the pyramid was built for
+     */
+    private int mVersion;
+
+    @NotNull
+    private final DirtyRange mDirtyRange = new DirtyRange();
+
+    private boolean mValid;
+
+    /**
+     * Makes the next update(...) rebuild the pyramid.
+     */
+    public void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Brings the pyramid up to date with the given DataSet. Only the buckets of the values that changed since
+     * the last update and their parents are computed.
+     */
+    public void update(@NotNull IDataSet<?> dataSet) {
+        int count = dataSet.getEntryCount();
+        int removed = 0;
+        int from = 0;
+        int to = count - 1;
+        boolean rebuild = !mValid;
+
+        if (mValid) {
+            dataSet.getDirtyRange(mVersion, mDirtyRange);
+
+            if (mDirtyRange.all || mDirtyRange.removedFromStart > mCount) {
+                rebuild = true;
+            } else {
+                removed = mDirtyRange.removedFromStart;
+
+                // the number of entries that were kept from the last update
+                int kept = mCount - removed;
+
+                from = Math.min(mDirtyRange.from, kept);
+
+                if (count == kept) {
+                    // values changed in place
+                    to = Math.min(mDirtyRange.to, to);
+                } else if (count < kept) {
+                    // the last bucket lost entries
+                    from = Math.min(from, Math.max(count - 1, 0));
+                }
+            }
+        }
+
+        mValid = true;
+        mVersion = dataSet.getVersion();
+        mCount = count;
+
+        // rebuilding is cheaper than keeping more removed than remaining entries around
+        if (rebuild || mOffset + removed > count) {
+            mOffset = 0;
+            mLevelCount = 0;
+            removed = 0;
+            from = 0;
+            to = count - 1;
+        } else {
+            mOffset += removed;
+        }
+
+        if (count == 0)
+            return;
+
+        ensureLevels();
+
+        // the first bucket of every level lost entries
+        if (removed > 0) {
+            updateBuckets(dataSet, 0, 0);
+        }
+
+        if (from <= to) {
+            updateBuckets(dataSet, from, to);
+        }
+    }
+
+    /**
+     * Computes the buckets of the entries from index from to index to and their parents.
+     */
+    private void updateBuckets(@NotNull IDataSet<?> dataSet, int from, int to) {
+        int offset = mOffset;
+        int count = mCount;
+
+        // finest level
+        int firstBucket = (from + offset) >> BASE_SHIFT;
+        int lastBucket = (to + offset) >> BASE_SHIFT;
+
+        int[] minIndices = mMinIndices[0];
+        int[] maxIndices = mMaxIndices[0];
+
+        for (int bucket = firstBucket; bucket <= lastBucket; bucket++) {
+            int start = Math.max((bucket << BASE_SHIFT) - offset, 0);
+            int end = Math.min(((bucket + 1) << BASE_SHIFT) - offset, count);
+
+            int minIndex = start;
+            int maxIndex = start;
+            float min = dataSet.getEntryYForIndex(start);
+            float max = min;
+
+            for (int i = start + 1; i < end; i++) {
+                float y = dataSet.getEntryYForIndex(i);
+
+                if (y < min) {
+                    min = y;
+                    minIndex = i;
+                }
+
+                if (y > max) {
+                    max = y;
+                    maxIndex = i;
+                }
+            }
+
+            minIndices[bucket] = minIndex + offset;
+            maxIndices[bucket] = maxIndex + offset;
+        }
+
+        // coarser levels
+        for (int level = 1; level < mLevelCount; level++) {
+            int childShift = getBucketShift(level - 1);
+            int childFirst = offset >> childShift;
+            int childLast = (offset + count - 1) >> childShift;
+            int[] childMin = mMinIndices[level - 1];
+            int[] childMax = mMaxIndices[level - 1];
+
+            minIndices = mMinIndices[level];
+            maxIndices = mMaxIndices[level];
+
+            firstBucket >>= 1;
+            lastBucket >>= 1;
+
+            for (int bucket = firstBucket; bucket <= lastBucket; bucket++) {
+                int left = bucket * 2;
+                int right = left + 1;
+
+                if (right > childLast) {
+                    minIndices[bucket] = childMin[left];
+                    maxIndices[bucket] = childMax[left];
+                    continue;
+                }
+
+                // the left child only holds removed entries
+                if (left < childFirst) {
+                    minIndices[bucket] = childMin[right];
+                    maxIndices[bucket] = childMax[right];
+                    continue;
+                }
+
+                minIndices[bucket] = dataSet.getEntryYForIndex(childMin[right] - offset)
+                        < dataSet.getEntryYForIndex(childMin[left] - offset)
+                        ? childMin[right] : childMin[left];
+                maxIndices[bucket] = dataSet.getEntryYForIndex(childMax[right] - offset)
+                        > dataSet.getEntryYForIndex(childMax[left] - offset)
+                        ? childMax[right] : childMax[left];
+            }
+        }
+    }
+
+    /**
+     * Makes sure there are enough levels and buckets for the current entries. Levels are only dropped when
+     * the pyramid is rebuilt, as their buckets are kept up to date until then.
+     */
+    private void ensureLevels() {
+        int first = mOffset;
+        int last = mOffset + mCount - 1;
+
+        int levelCount = Math.max(mLevelCount, 1);
+        while ((first >> getBucketShift(levelCount - 1)) != (last >> getBucketShift(levelCount - 1))) {
+            levelCount++;
+        }
+
+        if (levelCount > mMinIndices.length) {
+            mMinIndices = Arrays.copyOf(mMinIndices, levelCount);
+            mMaxIndices = Arrays.copyOf(mMaxIndices, levelCount);
+        }
+
+        mLevelCount = levelCount;
+
+        for (int level = 0; level < levelCount; level++) {
+            int length = (last >> getBucketShift(level)) + 1;
+
+            if (mMinIndices[level] == null || mMinIndices[level].length < length) {
+                int capacity = length + (length >> 1) + 1;
+
+                mMinIndices[level] = mMinIndices[level] == null
+                        ? new int[capacity] : Arrays.copyOf(mMinIndices[level], capacity);
+                mMaxIndices[level] = mMaxIndices[level] == null
+                        ? new int[capacity] : Arrays.copyOf(mMaxIndices[level], capacity);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of levels, the coarsest level has a single bucket.
+     */
+    public int getLevelCount() {
+        return mLevelCount;
+    }
+
+    /**
+     * Returns the log2 of the number of entries per bucket at the given level.
+     */
+    public int getBucketShift(int level) {
+        return BASE_SHIFT + level;
+    }
+
+    /**
+     * Returns the number of buckets at the given level.
+     */
+    public int getBucketCount(int level) {
+        if (mCount == 0)
+            return 0;
+
+        int shift = getBucketShift(level);
+
+        return ((mOffset + mCount - 1) >> shift) - (mOffset >> shift) + 1;
+    }
+
+    /**
+     * Returns the bucket of the entry at the given index at the given level.
+     */
+    public int getBucketForIndex(int level, int index) {
+        int shift = getBucketShift(level);
+
+        return ((index + mOffset) >> shift) - (mOffset >> shift);
+    }
+
+    /**
+     * Returns the index of the first entry of the given bucket. The first bucket may hold less than
+     * 2^getBucketShift(level) entries after entries were removed from the start.
+     */
+    public int getBucketStart(int level, int bucket) {
+        int shift = getBucketShift(level);
+
+        return Math.max(((bucket + (mOffset >> shift)) << shift) - mOffset, 0);
+    }
+
+    /**
+     * Returns the coarsest level whose buckets contain at most the given number of entries, or -1 if even
+     * the finest level is too coarse.
+     */
+    public int getLevelForBucketSize(float entriesPerBucket) {
+        int level = -1;
+
+        while (level + 1 < mLevelCount && (1 << getBucketShift(level + 1)) <= entriesPerBucket) {
+            level++;
+        }
+
+        return level;
+    }
+
+    /**
+     * Returns the index of the entry with the minimum y-value in the given bucket.
+     */
+    public int getMinIndex(int level, int bucket) {
+        return mMinIndices[level][bucket + (mOffset >> getBucketShift(level))] - mOffset;
+    }
+
+    /**
+     * Returns the index of the entry with the maximum y-value in the given bucket.
+     */
+    public int getMaxIndex(int level, int bucket) {
+        return mMaxIndices[level][bucket + (mOffset >> getBucketShift(level))] - mOffset;
+    }
+}
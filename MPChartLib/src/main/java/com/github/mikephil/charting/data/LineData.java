@@ -1,6 +1,8 @@
 
 package com.github.mikephil.charting.data;
 
+import android.util.Log;
+
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 
 import org.jetbrains.annotations.NotNull;
@@ -24,4 +26,21 @@ public class LineData extends BarLineScatterCandleBubbleData<ILineDataSet, Entry
     public LineData(@NotNull List<ILineDataSet> dataSets) {
         super(dataSets);
     }
+
+    /**
+     * Appends all the given x- and y-values to the DataSet at the specified index at once,
+     * and merges the new bounds of the DataSet only once.
+     */
+    public void appendBatch(@NotNull float[] xValues, @NotNull float[] yValues, int dataSetIndex) {
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException("xValues and yValues must have the same length");
+        }
+
+        if (mDataSets.size() > dataSetIndex && dataSetIndex >= 0) {
+            mDataSets.get(dataSetIndex).appendBatch(xValues, yValues, 0, xValues.length);
+            calcMinMax();
+        } else {
+            Log.e("appendBatch", "Cannot append values because dataSetIndex too high or too low.");
+        }
+    }
 }
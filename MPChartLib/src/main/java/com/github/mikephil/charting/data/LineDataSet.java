@@ -78,6 +78,25 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
 
     private boolean mDrawCircleHole = true;
 
+    /**
+     * level of detail summary of the y-values for drawing huge series, null if disabled
+     */
+    @Nullable
+    private LevelOfDetailPyramid mLevelOfDetail;
+
+    /**
+     * the entries that remain after dropping the ones within mSimplificationTolerance, null if disabled
+     */
+    @Nullable
+    private LineSimplification mSimplification;
+
+    private float mSimplificationTolerance = 0f;
+
+    /**
+     * if true, linear lines are aggregated per pixel column
+     */
+    private boolean mDrawM4Enabled = false;
+
     public LineDataSet(@NotNull List<Entry> values, @Nullable String label) {
         super(values, label);
 
@@ -109,6 +128,108 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         lineDataSet.mDrawCircles = mDrawCircleHole;
         lineDataSet.mFillFormatter = mFillFormatter;
         lineDataSet.mMode = mMode;
+        lineDataSet.setLevelOfDetailEnabled(isLevelOfDetailEnabled());
+        lineDataSet.setSimplificationTolerance(mSimplificationTolerance);
+        lineDataSet.mDrawM4Enabled = mDrawM4Enabled;
+    }
+
+    /**
+     * If set to true, a level of detail pyramid of the y-values is maintained, so linear lines with a single color
+     * are drawn with at most a few points per pixel when zoomed out, instead of a segment for every entry.
+     * Appending entries extends the pyramid incrementally, any other change rebuilds it. Default: false
+     */
+    public void setLevelOfDetailEnabled(boolean enabled) {
+        if (!enabled) {
+            mLevelOfDetail = null;
+        } else if (mLevelOfDetail == null) {
+            mLevelOfDetail = new LevelOfDetailPyramid();
+        }
+    }
+
+    public boolean isLevelOfDetailEnabled() {
+        return mLevelOfDetail != null;
+    }
+
+    @Override
+    @Nullable
+    public LevelOfDetailPyramid getLevelOfDetail() {
+        return mLevelOfDetail;
+    }
+
+    /**
+     * Sets the distance in pixels within which entries are dropped when drawing a linear line with a single
+     * color, so dense lines are drawn with a fraction of the segments. The result is cached per zoom level.
+     * 0 disables the simplification. Default: 0
+     */
+    public void setSimplificationTolerance(float pixels) {
+        if (pixels > 0f) {
+            mSimplificationTolerance = pixels;
+
+            if (mSimplification == null) {
+                mSimplification = new LineSimplification();
+            }
+        } else {
+            mSimplificationTolerance = 0f;
+            mSimplification = null;
+        }
+    }
+
+    @Override
+    public float getSimplificationTolerance() {
+        return mSimplificationTolerance;
+    }
+
+    @Override
+    @Nullable
+    public LineSimplification getSimplification() {
+        return mSimplification;
+    }
+
+    /**
+     * If set to true, a linear line with a single color is drawn with the M4 aggregation: for every pixel column,
+     * only the first, last, minimum and maximum entry in it are drawn. The output is the same as drawing all
+     * the entries, with at most 4 points per column. Default: false
+     */
+    public void setDrawM4Enabled(boolean enabled) {
+        mDrawM4Enabled = enabled;
+    }
+
+    @Override
+    public boolean isDrawM4Enabled() {
+        return mDrawM4Enabled;
+    }
+
+    /**
+     * Invalidates the level of detail pyramid and the simplification, which makes them rebuild on the next draw.
+     * Changes that are reported with markValuesChanged(...) don't need it, the pyramid only updates the changed
+     * part then.
+     */
+    protected void invalidateLevelOfDetail() {
+        if (mLevelOfDetail != null) {
+            mLevelOfDetail.invalidate();
+        }
+
+        if (mSimplification != null) {
+            mSimplification.invalidate();
+        }
+    }
+
+    @Override
+    public void calcMinMax() {
+        invalidateLevelOfDetail();
+        super.calcMinMax();
+    }
+
+    @Override
+    public boolean removeEntry(@NotNull Entry e) {
+        invalidateLevelOfDetail();
+        return super.removeEntry(e);
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        invalidateLevelOfDetail();
+        return super.removeEntry(index);
     }
 
     /**
@@ -374,6 +495,17 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         return mFillFormatter;
     }
 
+    @Override
+    public void appendBatch(@NotNull float[] xValues, @NotNull float[] yValues, int offset, int count) {
+        ArrayList<Entry> entries = new ArrayList<>(count);
+
+        for (int i = offset; i < offset + count; i++) {
+            entries.add(new Entry(xValues[i], yValues[i]));
+        }
+
+        addEntries(entries);
+    }
+
     public static final int MODE_LINEAR = 0;
     public static final int MODE_STEPPED = 1;
     public static final int MODE_CUBIC_BEZIER = 2;
@@ -0,0 +1,161 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Indices of the entries of a DataSet that remain after dropping every entry that lies within a tolerance
+ * in pixels of the line through its neighbours, used to draw dense lines with a fraction of the segments.
+ * <p/>
+ * The simplification is done with the Reumann-Witkam algorithm in linear time, on the values scaled to
+ * pixels. As the scale only changes when zooming, the result is cached for the current zoom level and
+ * reused while panning. Changes of the DataSet are detected by its version, see IDataSet.getVersion().
+ */
+public final class LineSimplification {
+
+    @NotNull
+    private int[] mIndices = new int[0];
+
+    private int mIndexCount;
+
+    /**
+     * the parameters the indices were computed for
+     */
+    private int mCount = -1;
+    private int mVersion;
+    private float mScaleX;
+    private float mScaleY;
+    private float mTolerance;
+
+    private boolean mValid;
+
+    /**
+     * Makes the next update(...) compute the indices again.
+     */
+    public void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Brings the indices up to date for the given DataSet and the given number of pixels per value on both
+     * axes. Returns true if they had to be computed again.
+     */
+    public boolean update(@NotNull IDataSet<?> dataSet, float scaleX, float scaleY, float tolerance) {
+        int count = dataSet.getEntryCount();
+
+        int version = dataSet.getVersion();
+
+        if (mValid && count == mCount && version == mVersion && scaleX == mScaleX && scaleY == mScaleY && tolerance == mTolerance)
+            return false;
+
+        mValid = true;
+        mCount = count;
+        mVersion = version;
+        mScaleX = scaleX;
+        mScaleY = scaleY;
+        mTolerance = tolerance;
+
+        simplify(dataSet, count, scaleX, scaleY, tolerance);
+
+        return true;
+    }
+
+    private void simplify(@NotNull IDataSet<?> dataSet, int count, float scaleX, float scaleY, float tolerance) {
+        if (mIndices.length < count) {
+            mIndices = new int[count];
+        }
+
+        mIndexCount = 0;
+
+        if (count == 0)
+            return;
+
+        float toleranceSquared = tolerance * tolerance;
+
+        int key = 0;
+        mIndices[mIndexCount++] = 0;
+
+        while (key < count - 1) {
+            float keyX = dataSet.getEntryXForIndex(key) * scaleX;
+            float keyY = dataSet.getEntryYForIndex(key) * scaleY;
+
+            // skip the entries that are drawn on top of the key, the first one further away gives the direction
+            int next = key + 1;
+            float dx = 0f;
+            float dy = 0f;
+
+            for (; next < count; next++) {
+                dx = dataSet.getEntryXForIndex(next) * scaleX - keyX;
+                dy = dataSet.getEntryYForIndex(next) * scaleY - keyY;
+
+                if (dx * dx + dy * dy > toleranceSquared)
+                    break;
+            }
+
+            if (next == count) {
+                mIndices[mIndexCount++] = count - 1;
+                break;
+            }
+
+            float length = (float) Math.sqrt(dx * dx + dy * dy);
+            float dirX = dx / length;
+            float dirY = dy / length;
+            float lastProjection = length;
+
+            // follow the direction while the entries stay within the tolerance and don't turn back
+            int end = next + 1;
+
+            for (; end < count; end++) {
+                float px = dataSet.getEntryXForIndex(end) * scaleX - keyX;
+                float py = dataSet.getEntryYForIndex(end) * scaleY - keyY;
+
+                float projection = px * dirX + py * dirY;
+                float distance = Math.abs(px * dirY - py * dirX);
+
+                if (distance > tolerance || projection < lastProjection - tolerance)
+                    break;
+
+                lastProjection = Math.max(lastProjection, projection);
+            }
+
+            key = end - 1;
+            mIndices[mIndexCount++] = key;
+        }
+    }
+
+    /**
+     * Returns the number of entries that remain.
+     */
+    public int getIndexCount() {
+        return mIndexCount;
+    }
+
+    /**
+     * Returns the index in the DataSet of the remaining entry at the given position.
+     */
+    public int getIndex(int position) {
+        return mIndices[position];
+    }
+
+    /**
+     * Returns the position of the first remaining entry whose index is not lower than the given index,
+     * or getIndexCount() if there is none.
+     */
+    public int getPositionForIndex(int index) {
+        int low = 0;
+        int high = mIndexCount;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (mIndices[mid] < index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+}
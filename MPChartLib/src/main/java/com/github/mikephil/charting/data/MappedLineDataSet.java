@@ -0,0 +1,280 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+/**
+ * Read-only LineDataSet that is backed by a memory-mapped file of packed little-endian float pairs
+ * (x0, y0, x1, y1, ...) sorted by x, see writeFile(...). The values are never loaded into memory,
+ * binary searches and renderers read them directly from the mapping, so only the pages that are
+ * touched by the visible range are faulted in by the OS.
+ * <p/>
+ * Files with more than 2GB are mapped in multiple segments. Entry objects are only created on demand,
+ * so they carry neither data nor icons, and every call returns a new instance. All the methods that
+ * modify the values throw an UnsupportedOperationException.
+ */
+public class MappedLineDataSet extends PrimitiveLineDataSet {
+    /**
+     * the number of values (x/y pairs) per mapped segment
+     */
+    private static final int SEGMENT_SHIFT = 26;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    /**
+     * the number of bytes of one value (x/y pair)
+     */
+    private static final int VALUE_BYTES = 8;
+
+    @NotNull
+    private final FloatBuffer[] mSegments;
+
+    private final int mCount;
+
+    /**
+     * Maps the given file and scans all the y-values for the bounds of this DataSet, which touches all
+     * the pages of the file once. Use the constructor that takes the y-bounds if they are known beforehand.
+     */
+    public MappedLineDataSet(@NotNull File file, @Nullable String label) throws IOException {
+        this(map(file), label);
+
+        calcMinMaxY();
+    }
+
+    /**
+     * Maps the given file without reading it. The x-bounds are read from the first and the last value,
+     * the y-bounds must be provided, for example from the metadata that is stored alongside the file.
+     */
+    public MappedLineDataSet(@NotNull File file, float yMin, float yMax, @Nullable String label) throws IOException {
+        this(map(file), label);
+
+        mYMin = yMin;
+        mYMax = yMax;
+    }
+
+    private MappedLineDataSet(@NotNull FloatBuffer[] segments, @Nullable String label) {
+        super(label);
+
+        mSegments = segments;
+
+        int count = 0;
+        for (FloatBuffer segment : segments) {
+            count += segment.capacity() / 2;
+        }
+
+        mCount = count;
+
+        if (mCount > 0) {
+            mXMin = getEntryXForIndex(0);
+            mXMax = getEntryXForIndex(mCount - 1);
+        }
+    }
+
+    /**
+     * Maps the given file read-only in segments of at most SEGMENT_SIZE values.
+     */
+    @NotNull
+    private static FloatBuffer[] map(@NotNull File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+
+        try {
+            FileChannel channel = raf.getChannel();
+
+            long count = channel.size() / VALUE_BYTES;
+
+            if (count > Integer.MAX_VALUE) {
+                throw new IOException("File contains more than " + Integer.MAX_VALUE + " values");
+            }
+
+            int segmentCount = (int) ((count + SEGMENT_SIZE - 1) >> SEGMENT_SHIFT);
+            FloatBuffer[] segments = new FloatBuffer[segmentCount];
+
+            for (int i = 0; i < segmentCount; i++) {
+                long position = (long) i * SEGMENT_SIZE * VALUE_BYTES;
+                long size = Math.min(SEGMENT_SIZE, count - (long) i * SEGMENT_SIZE) * VALUE_BYTES;
+
+                // the mapping stays valid after the channel is closed
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, size)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asFloatBuffer();
+            }
+
+            return segments;
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Writes the values of the given DataSet to the given file in the format that is mapped by this class.
+     */
+    public static void writeFile(@NotNull IDataSet<?> dataSet, @NotNull File file) throws IOException {
+        FileOutputStream out = new FileOutputStream(file);
+
+        try {
+            FileChannel channel = out.getChannel();
+            ByteBuffer buffer = ByteBuffer.allocate(8192).order(ByteOrder.LITTLE_ENDIAN);
+
+            for (int i = 0; i < dataSet.getEntryCount(); i++) {
+                if (buffer.remaining() < VALUE_BYTES) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    buffer.clear();
+                }
+
+                buffer.putFloat(dataSet.getEntryXForIndex(i));
+                buffer.putFloat(dataSet.getEntryYForIndex(i));
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mCount;
+    }
+
+    @Override
+    public float getEntryXForIndex(int index) {
+        return mSegments[index >>> SEGMENT_SHIFT].get((index & SEGMENT_MASK) << 1);
+    }
+
+    @Override
+    public float getEntryYForIndex(int index) {
+        return mSegments[index >>> SEGMENT_SHIFT].get(((index & SEGMENT_MASK) << 1) + 1);
+    }
+
+    /**
+     * The values can't change, so this only recalculates the y-bounds over all the values,
+     * which touches all the pages of the file.
+     */
+    @Override
+    public void calcMinMax() {
+        // called by the super constructor before the file is mapped
+        if (mSegments == null) {
+            return;
+        }
+
+        calcMinMaxY();
+    }
+
+    private void calcMinMaxY() {
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        calcMinMaxYInRange(0, mCount - 1);
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        if (mCount == 0)
+            return;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, ROUNDING_DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, ROUNDING_UP);
+
+        if (indexTo < indexFrom) return;
+
+        calcMinMaxYInRange(indexFrom, indexTo);
+    }
+
+    private void calcMinMaxYInRange(int from, int to) {
+        float yMin = mYMin;
+        float yMax = mYMax;
+
+        for (int i = from; i <= to; i++) {
+            float y = getEntryYForIndex(i);
+
+            if (y < yMin)
+                yMin = y;
+
+            if (y > yMax)
+                yMax = y;
+        }
+
+        mYMin = yMin;
+        mYMax = yMax;
+    }
+
+    @Override
+    public boolean addEntry(@NotNull Entry e) {
+        throw new UnsupportedOperationException("MappedLineDataSet is read-only");
+    }
+
+    @Override
+    public void addEntryOrdered(@NotNull Entry e) {
+        throw new UnsupportedOperationException("MappedLineDataSet is read-only");
+    }
+
+    @Override
+    public boolean addEntries(@NotNull List<Entry> entries) {
+        throw new UnsupportedOperationException("MappedLineDataSet is read-only");
+    }
+
+    @Override
+    public void appendBatch(@NotNull float[] xValues, @NotNull float[] yValues, int offset, int count) {
+        throw new UnsupportedOperationException("MappedLineDataSet is read-only");
+    }
+
+    @Override
+    public boolean removeEntry(@NotNull Entry e) {
+        throw new UnsupportedOperationException("MappedLineDataSet is read-only");
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        throw new UnsupportedOperationException("MappedLineDataSet is read-only");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("MappedLineDataSet is read-only");
+    }
+
+    @Override
+    public void setEntries(@NotNull List<Entry> entries) {
+        throw new UnsupportedOperationException("MappedLineDataSet is read-only");
+    }
+
+    /**
+     * Returns a copy that shares the mapping with this DataSet, which is safe as the values can't change.
+     */
+    @Override
+    @NotNull
+    public DataSet<Entry> copy() {
+        FloatBuffer[] segments = new FloatBuffer[mSegments.length];
+
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = mSegments[i].duplicate();
+        }
+
+        MappedLineDataSet copied = new MappedLineDataSet(segments, getLabel());
+        copied.mYMin = mYMin;
+        copied.mYMax = mYMax;
+        copy(copied);
+        return copied;
+    }
+}
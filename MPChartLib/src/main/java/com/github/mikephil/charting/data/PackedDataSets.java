@@ -0,0 +1,752 @@
+package com.github.mikephil.charting.data;
+
+import android.annotation.TargetApi;
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.os.SharedMemory;
+import android.system.ErrnoException;
+
+import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IRadarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parcelable representation of whole DataSets, e.g. for saving a chart in onSaveInstanceState(...). Instead of
+ * parceling every Entry, the values of every DataSet are packed into float columns once (x, y and the extra values
+ * of the entry type), which are written to the Parcel with Parcel.writeFloatArray(...).
+ * <p/>
+ * Columns of more than DEFAULT_SPILL_THRESHOLD bytes (about 32k entries) are too large for a Binder transaction:
+ * <ul>
+ * <li>PackedDataSets(dataSets, spillFile) writes them to the given file and only parcels its path. The file
+ * outlives the process, so it also restores the state after process death. It is owned by the caller: packing
+ * again overwrites it (or deletes it if the new DataSets are small), and release() deletes it once the DataSets
+ * were unpacked.</li>
+ * <li>inSharedMemory(...) writes them to a SharedMemory region (API 27+), whose file descriptor is parceled. This
+ * is for passing DataSets to another process, e.g. a bound service. Saved instance state and Intents reject file
+ * descriptors. Every instance owns its descriptor and release() closes it.</li>
+ * </ul>
+ * Packing them into memory throws an IllegalArgumentException instead of a TransactionTooLargeException later.
+ * <p/>
+ * Only the values, the labels and the types of the DataSets are packed, not the styling (colors, line width, axis
+ * dependency, formatters) nor the data objects and icons of the entries. unpackInto(...) therefore restores the
+ * values into the DataSets the app has created and styled again, while unpack() creates new DataSets of the
+ * packed types with the default styling.
+ */
+public class PackedDataSets implements Parcelable {
+
+    /**
+     * DataSets whose columns take more bytes are spilled, the most that is packed into the Parcel
+     */
+    public static final int DEFAULT_SPILL_THRESHOLD = 256 * 1024;
+
+    private static final int STORAGE_PARCEL = 0;
+    private static final int STORAGE_FILE = 1;
+    private static final int STORAGE_SHARED_MEMORY = 2;
+
+    private static final int TYPE_LINE = 0;
+    private static final int TYPE_COLUMNAR_LINE = 1;
+    private static final int TYPE_SCATTER = 2;
+    private static final int TYPE_RADAR = 3;
+    private static final int TYPE_BUBBLE = 4;
+    private static final int TYPE_CANDLE = 5;
+    private static final int TYPE_BAR = 6;
+    private static final int TYPE_PIE = 7;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private int mStorage;
+
+    @NotNull
+    private int[] mTypes;
+
+    @NotNull
+    private String[] mLabels;
+
+    @NotNull
+    private int[] mCounts;
+
+    @NotNull
+    private int[] mColumnCounts;
+
+    /**
+     * the labels of the PieEntries, null for the other types
+     */
+    @NotNull
+    private String[][] mEntryLabels;
+
+    /**
+     * the columns of every DataSet, null until they are read if they are stored in the file or the shared memory
+     */
+    @Nullable
+    private float[][][] mColumns;
+
+    @Nullable
+    private String mPath;
+
+    /**
+     * the SharedMemory of the columns, typed as Parcelable as the class only exists on API 27+
+     */
+    @Nullable
+    private Parcelable mSharedMemory;
+
+    /**
+     * Packs the given DataSets into memory.
+     *
+     * @throws IllegalArgumentException if they take more than DEFAULT_SPILL_THRESHOLD bytes, use a spill file then
+     */
+    public PackedDataSets(@NotNull List<? extends IDataSet<?>> dataSets) throws IOException {
+        this(dataSets, null, DEFAULT_SPILL_THRESHOLD);
+    }
+
+    /**
+     * Packs the given DataSets, and writes their columns to the given file instead if they take more than
+     * DEFAULT_SPILL_THRESHOLD bytes. The file is overwritten, or deleted if it's not needed.
+     */
+    public PackedDataSets(@NotNull List<? extends IDataSet<?>> dataSets, @NotNull File spillFile) throws IOException {
+        this(dataSets, spillFile, DEFAULT_SPILL_THRESHOLD);
+    }
+
+    /**
+     * Packs the given DataSets, and writes their columns to the given file instead if they take more than
+     * spillThreshold bytes (at most DEFAULT_SPILL_THRESHOLD). The file is overwritten, or deleted if it's not
+     * needed.
+     *
+     * @throws IllegalArgumentException if there's no spill file and the DataSets take more than spillThreshold bytes
+     */
+    public PackedDataSets(
+            @NotNull List<? extends IDataSet<?>> dataSets,
+            @Nullable File spillFile,
+            int spillThreshold
+    ) throws IOException {
+        pack(dataSets);
+
+        long bytes = getColumnBytes();
+        spillThreshold = Math.min(spillThreshold, DEFAULT_SPILL_THRESHOLD);
+
+        if (bytes > spillThreshold && spillFile == null) {
+            throw new IllegalArgumentException("The DataSets take " + bytes
+                    + " bytes, which is too much for a Parcel, use a spill file");
+        }
+
+        if (bytes > spillThreshold) {
+            writeColumns(new FileOutputStream(spillFile));
+
+            mColumns = null;
+            mPath = spillFile.getAbsolutePath();
+            mStorage = STORAGE_FILE;
+        } else {
+            // a file of a previous, larger state is no longer needed
+            if (spillFile != null && spillFile.exists() && !spillFile.delete()) {
+                throw new IOException("Cannot delete the spill file " + spillFile);
+            }
+
+            mPath = null;
+            mStorage = STORAGE_PARCEL;
+        }
+    }
+
+    @TargetApi(27)
+    private PackedDataSets(@NotNull List<? extends IDataSet<?>> dataSets, int spillThreshold) throws IOException {
+        pack(dataSets);
+
+        long bytes = getColumnBytes();
+
+        if (bytes > spillThreshold) {
+            SharedMemory memory;
+
+            try {
+                memory = SharedMemory.create("PackedDataSets", (int) bytes);
+            } catch (ErrnoException e) {
+                throw new IOException("Cannot create the shared memory", e);
+            }
+
+            try {
+                ByteBuffer buffer = memory.mapReadWrite();
+                FloatBuffer floats = buffer.asFloatBuffer();
+
+                for (float[][] columns : mColumns) {
+                    for (float[] column : columns) {
+                        floats.put(column);
+                    }
+                }
+
+                SharedMemory.unmap(buffer);
+            } catch (ErrnoException e) {
+                memory.close();
+                throw new IOException("Cannot map the shared memory", e);
+            }
+
+            mColumns = null;
+            mSharedMemory = memory;
+            mStorage = STORAGE_SHARED_MEMORY;
+        } else {
+            mStorage = STORAGE_PARCEL;
+        }
+
+        mPath = null;
+    }
+
+    protected PackedDataSets(@NotNull Parcel in) {
+        mStorage = in.readInt();
+
+        int size = in.readInt();
+
+        mTypes = new int[size];
+        mLabels = new String[size];
+        mCounts = new int[size];
+        mColumnCounts = new int[size];
+        mEntryLabels = new String[size][];
+
+        for (int i = 0; i < size; i++) {
+            mTypes[i] = in.readInt();
+            mLabels[i] = in.readString();
+            mCounts[i] = in.readInt();
+            mColumnCounts[i] = in.readInt();
+
+            if (mTypes[i] == TYPE_PIE) {
+                mEntryLabels[i] = in.createStringArray();
+            }
+        }
+
+        if (mStorage == STORAGE_PARCEL) {
+            float[][][] columns = new float[size][][];
+
+            for (int i = 0; i < size; i++) {
+                columns[i] = new float[mColumnCounts[i]][];
+
+                for (int column = 0; column < mColumnCounts[i]; column++) {
+                    columns[i][column] = in.createFloatArray();
+                }
+            }
+
+            mColumns = columns;
+            mPath = null;
+        } else if (mStorage == STORAGE_FILE) {
+            mPath = in.readString();
+        } else {
+            mSharedMemory = in.readParcelable(PackedDataSets.class.getClassLoader());
+            mPath = null;
+        }
+    }
+
+    /**
+     * Packs the given DataSets, and writes their columns to a SharedMemory region instead if they take more than
+     * DEFAULT_SPILL_THRESHOLD bytes. Only for passing DataSets to other processes, as saved instance state and
+     * Intents reject the file descriptor. Call release() when the DataSets were unpacked or are no longer needed.
+     */
+    @TargetApi(27)
+    @NotNull
+    public static PackedDataSets inSharedMemory(@NotNull List<? extends IDataSet<?>> dataSets) throws IOException {
+        return new PackedDataSets(dataSets, DEFAULT_SPILL_THRESHOLD);
+    }
+
+    /**
+     * Returns true if the columns were written to a file.
+     */
+    public boolean isSpilled() {
+        return mStorage == STORAGE_FILE;
+    }
+
+    /**
+     * Returns true if the columns were written to a SharedMemory region.
+     */
+    public boolean isInSharedMemory() {
+        return mStorage == STORAGE_SHARED_MEMORY;
+    }
+
+    /**
+     * Deletes the spill file or closes the shared memory. The DataSets can't be unpacked afterwards, unless they
+     * were already unpacked once.
+     */
+    public void release() {
+        if (mStorage == STORAGE_FILE) {
+            new File(mPath).delete();
+        } else if (mSharedMemory != null) {
+            closeSharedMemory();
+        }
+    }
+
+    @TargetApi(27)
+    private void closeSharedMemory() {
+        ((SharedMemory) mSharedMemory).close();
+        mSharedMemory = null;
+    }
+
+    /**
+     * Returns the number of packed DataSets.
+     */
+    public int getDataSetCount() {
+        return mTypes.length;
+    }
+
+    /**
+     * Creates the DataSets again, with the default styling. ColumnarLineDataSets and the other LineDataSets that
+     * store their values in primitive arrays come back as ColumnarLineDataSets, the other DataSets as DataSets of
+     * their type (LineDataSet, ScatterDataSet, RadarDataSet, BubbleDataSet, CandleDataSet, BarDataSet and
+     * PieDataSet).
+     */
+    @NotNull
+    public List<IDataSet<?>> unpack() throws IOException {
+        float[][][] columns = getColumns();
+        List<IDataSet<?>> dataSets = new ArrayList<>(mTypes.length);
+
+        for (int i = 0; i < mTypes.length; i++) {
+            if (mTypes[i] == TYPE_COLUMNAR_LINE) {
+                dataSets.add(new ColumnarLineDataSet(columns[i][0].clone(), columns[i][1].clone(), mLabels[i]));
+                continue;
+            }
+
+            List<? extends Entry> entries = createEntries(i, columns[i]);
+
+            switch (mTypes[i]) {
+                case TYPE_SCATTER:
+                    dataSets.add(new ScatterDataSet(cast(entries), mLabels[i]));
+                    break;
+                case TYPE_RADAR:
+                    dataSets.add(new RadarDataSet(cast(entries), mLabels[i]));
+                    break;
+                case TYPE_BUBBLE:
+                    dataSets.add(new BubbleDataSet(cast(entries), mLabels[i]));
+                    break;
+                case TYPE_CANDLE:
+                    dataSets.add(new CandleDataSet(cast(entries), mLabels[i]));
+                    break;
+                case TYPE_BAR:
+                    dataSets.add(new BarDataSet(cast(entries), mLabels[i]));
+                    break;
+                case TYPE_PIE:
+                    dataSets.add(new PieDataSet(cast(entries), mLabels[i]));
+                    break;
+                default:
+                    dataSets.add(new LineDataSet(cast(entries), mLabels[i]));
+                    break;
+            }
+        }
+
+        return dataSets;
+    }
+
+    /**
+     * Replaces the values of the given DataSets, e.g. the styled DataSets of a recreated Activity, with the packed
+     * values. The DataSets must be in the same order and of the same types as the packed ones. The values of line
+     * DataSets are appended with ILineDataSet.appendBatch(...) after clear(), the other DataSets get new entries
+     * with setEntries(...). Call notifyDataChanged() on the ChartData afterwards.
+     *
+     * @throws IllegalArgumentException if the number or the types of the DataSets don't match
+     */
+    public void unpackInto(@NotNull List<? extends IDataSet<?>> dataSets) throws IOException {
+        if (dataSets.size() != mTypes.length) {
+            throw new IllegalArgumentException(mTypes.length + " DataSets were packed, but " + dataSets.size()
+                    + " were given");
+        }
+
+        for (int i = 0; i < mTypes.length; i++) {
+            IDataSet<?> set = dataSets.get(i);
+            int type = getType(set);
+
+            boolean lines = isLineType(type) && isLineType(mTypes[i]);
+
+            if (!lines && type != mTypes[i]) {
+                throw new IllegalArgumentException("DataSet " + i + " is a " + set.getClass().getSimpleName()
+                        + ", which doesn't match the packed DataSet");
+            }
+        }
+
+        float[][][] columns = getColumns();
+
+        for (int i = 0; i < mTypes.length; i++) {
+            IDataSet<?> set = dataSets.get(i);
+
+            if (set instanceof ILineDataSet) {
+                set.clear();
+                ((ILineDataSet) set).appendBatch(columns[i][0], columns[i][1], 0, mCounts[i]);
+            } else {
+                DataSet<Entry> dataSet = cast(set);
+                dataSet.setEntries(cast(createEntries(i, columns[i])));
+            }
+        }
+    }
+
+    @Override
+    public int describeContents() {
+        return mStorage == STORAGE_SHARED_MEMORY ? CONTENTS_FILE_DESCRIPTOR : 0;
+    }
+
+    @Override
+    public void writeToParcel(@NotNull Parcel dest, int flags) {
+        dest.writeInt(mStorage);
+        dest.writeInt(mTypes.length);
+
+        for (int i = 0; i < mTypes.length; i++) {
+            dest.writeInt(mTypes[i]);
+            dest.writeString(mLabels[i]);
+            dest.writeInt(mCounts[i]);
+            dest.writeInt(mColumnCounts[i]);
+
+            if (mTypes[i] == TYPE_PIE) {
+                dest.writeStringArray(mEntryLabels[i]);
+            }
+        }
+
+        if (mStorage == STORAGE_PARCEL) {
+            for (float[][] columns : mColumns) {
+                for (float[] column : columns) {
+                    dest.writeFloatArray(column);
+                }
+            }
+        } else if (mStorage == STORAGE_FILE) {
+            dest.writeString(mPath);
+        } else {
+            if (mSharedMemory == null) {
+                throw new IllegalStateException("The shared memory was released");
+            }
+
+            dest.writeParcelable(mSharedMemory, flags);
+        }
+    }
+
+    @NotNull
+    public static final Parcelable.Creator<PackedDataSets> CREATOR = new Parcelable.Creator<PackedDataSets>() {
+        @NotNull
+        public PackedDataSets createFromParcel(@NotNull Parcel source) {
+            return new PackedDataSets(source);
+        }
+
+        @NotNull
+        public PackedDataSets[] newArray(int size) {
+            return new PackedDataSets[size];
+        }
+    };
+
+    /**
+     * Packs the values of the given DataSets into columns.
+     */
+    private void pack(@NotNull List<? extends IDataSet<?>> dataSets) {
+        int size = dataSets.size();
+
+        mTypes = new int[size];
+        mLabels = new String[size];
+        mCounts = new int[size];
+        mColumnCounts = new int[size];
+        mEntryLabels = new String[size][];
+        mColumns = new float[size][][];
+
+        for (int i = 0; i < size; i++) {
+            IDataSet<?> set = dataSets.get(i);
+
+            mTypes[i] = getType(set);
+            mLabels[i] = set.getLabel();
+            mCounts[i] = set.getEntryCount();
+            mColumns[i] = packColumns(set, mTypes[i]);
+            mColumnCounts[i] = mColumns[i].length;
+
+            if (mTypes[i] == TYPE_PIE) {
+                IPieDataSet pieSet = (IPieDataSet) set;
+                String[] labels = new String[mCounts[i]];
+
+                for (int j = 0; j < labels.length; j++) {
+                    labels[j] = pieSet.getEntryForIndex(j).getLabel();
+                }
+
+                mEntryLabels[i] = labels;
+            }
+        }
+    }
+
+    private static int getType(@NotNull IDataSet<?> set) {
+        if (set instanceof ColumnarLineDataSet || set instanceof PrimitiveLineDataSet)
+            return TYPE_COLUMNAR_LINE;
+        else if (set instanceof ICandleDataSet)
+            return TYPE_CANDLE;
+        else if (set instanceof IBarDataSet)
+            return TYPE_BAR;
+        else if (set instanceof IBubbleDataSet)
+            return TYPE_BUBBLE;
+        else if (set instanceof IScatterDataSet)
+            return TYPE_SCATTER;
+        else if (set instanceof IRadarDataSet)
+            return TYPE_RADAR;
+        else if (set instanceof IPieDataSet)
+            return TYPE_PIE;
+        else
+            return TYPE_LINE;
+    }
+
+    private static boolean isLineType(int type) {
+        return type == TYPE_LINE || type == TYPE_COLUMNAR_LINE;
+    }
+
+    /**
+     * Returns the columns of the values: x and y, plus the size for bubbles, x, high, low, open and close for
+     * candles, and x, the stack lengths and the stack values for stacked bars.
+     */
+    @NotNull
+    private static float[][] packColumns(@NotNull IDataSet<?> set, int type) {
+        int count = set.getEntryCount();
+        float[] x = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            x[i] = set.getEntryXForIndex(i);
+        }
+
+        if (type == TYPE_CANDLE) {
+            ICandleDataSet candleSet = (ICandleDataSet) set;
+            float[][] columns = {x, new float[count], new float[count], new float[count], new float[count]};
+
+            for (int i = 0; i < count; i++) {
+                CandleEntry e = candleSet.getEntryForIndex(i);
+
+                columns[1][i] = e.getHigh();
+                columns[2][i] = e.getLow();
+                columns[3][i] = e.getOpen();
+                columns[4][i] = e.getClose();
+            }
+
+            return columns;
+        }
+
+        if (type == TYPE_BAR && ((IBarDataSet) set).isStacked()) {
+            IBarDataSet barSet = (IBarDataSet) set;
+            int stackSize = barSet.getStackSize();
+            float[][] columns = new float[2 + stackSize][];
+
+            columns[0] = x;
+
+            for (int column = 1; column < columns.length; column++) {
+                columns[column] = new float[count];
+            }
+
+            for (int i = 0; i < count; i++) {
+                BarEntry e = barSet.getEntryForIndex(i);
+                float[] vals = e.getYVals();
+
+                // 0 for entries that are not stacked
+                columns[1][i] = vals == null ? 0 : vals.length;
+
+                for (int j = 0; j < stackSize; j++) {
+                    if (vals == null)
+                        columns[2 + j][i] = j == 0 ? e.getY() : Float.NaN;
+                    else
+                        columns[2 + j][i] = j < vals.length ? vals[j] : Float.NaN;
+                }
+            }
+
+            return columns;
+        }
+
+        float[] y = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            y[i] = set.getEntryYForIndex(i);
+        }
+
+        if (type == TYPE_BUBBLE) {
+            IBubbleDataSet bubbleSet = (IBubbleDataSet) set;
+            float[] sizes = new float[count];
+
+            for (int i = 0; i < count; i++) {
+                sizes[i] = bubbleSet.getEntryForIndex(i).getSize();
+            }
+
+            return new float[][]{x, y, sizes};
+        }
+
+        return new float[][]{x, y};
+    }
+
+    /**
+     * Creates the entries of the DataSet at the given index from its columns.
+     */
+    @NotNull
+    private List<? extends Entry> createEntries(int index, @NotNull float[][] columns) {
+        int count = mCounts[index];
+        float[] x = columns[0];
+
+        switch (mTypes[index]) {
+            case TYPE_RADAR: {
+                List<RadarEntry> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    entries.add(new RadarEntry(columns[1][i]));
+                }
+                return entries;
+            }
+            case TYPE_BUBBLE: {
+                List<BubbleEntry> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    entries.add(new BubbleEntry(x[i], columns[1][i], columns[2][i]));
+                }
+                return entries;
+            }
+            case TYPE_CANDLE: {
+                List<CandleEntry> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    entries.add(new CandleEntry(x[i], columns[1][i], columns[2][i], columns[3][i], columns[4][i]));
+                }
+                return entries;
+            }
+            case TYPE_BAR: {
+                List<BarEntry> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    int length = columns.length > 2 ? (int) columns[1][i] : 0;
+
+                    if (length == 0) {
+                        entries.add(new BarEntry(x[i], columns[columns.length > 2 ? 2 : 1][i]));
+                    } else {
+                        float[] vals = new float[length];
+                        for (int j = 0; j < length; j++) {
+                            vals[j] = columns[2 + j][i];
+                        }
+
+                        entries.add(new BarEntry(x[i], vals));
+                    }
+                }
+                return entries;
+            }
+            case TYPE_PIE: {
+                List<PieEntry> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    entries.add(new PieEntry(columns[1][i], mEntryLabels[index][i]));
+                }
+                return entries;
+            }
+            default: {
+                List<Entry> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    entries.add(new Entry(x[i], columns[1][i]));
+                }
+                return entries;
+            }
+        }
+    }
+
+    private long getColumnBytes() {
+        long bytes = 0;
+
+        for (int i = 0; i < mTypes.length; i++) {
+            bytes += 4L * mCounts[i] * mColumnCounts[i];
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Returns the columns, reads them from the file or the shared memory on first use.
+     */
+    @NotNull
+    private float[][][] getColumns() throws IOException {
+        if (mColumns != null)
+            return mColumns;
+
+        float[][][] columns = new float[mTypes.length][][];
+
+        for (int i = 0; i < mTypes.length; i++) {
+            columns[i] = new float[mColumnCounts[i]][mCounts[i]];
+        }
+
+        if (mStorage == STORAGE_FILE) {
+            readColumns(new FileInputStream(mPath), columns);
+        } else {
+            readSharedColumns(columns);
+        }
+
+        mColumns = columns;
+        return columns;
+    }
+
+    @TargetApi(27)
+    private void readSharedColumns(@NotNull float[][][] columns) throws IOException {
+        if (mSharedMemory == null) {
+            throw new IOException("The shared memory was released");
+        }
+
+        try {
+            ByteBuffer buffer = ((SharedMemory) mSharedMemory).mapReadOnly();
+            FloatBuffer floats = buffer.asFloatBuffer();
+
+            for (float[][] dataSetColumns : columns) {
+                for (float[] column : dataSetColumns) {
+                    floats.get(column);
+                }
+            }
+
+            SharedMemory.unmap(buffer);
+        } catch (ErrnoException e) {
+            throw new IOException("Cannot map the shared memory", e);
+        }
+    }
+
+    /**
+     * Writes all the columns as packed floats to the stream and closes it.
+     */
+    private void writeColumns(@NotNull OutputStream stream) throws IOException {
+        OutputStream out = new BufferedOutputStream(stream, BUFFER_SIZE);
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        try {
+            for (float[][] columns : mColumns) {
+                for (float[] column : columns) {
+                    for (int offset = 0; offset < column.length; offset += BUFFER_SIZE / 4) {
+                        int length = Math.min(column.length - offset, BUFFER_SIZE / 4);
+
+                        buffer.clear();
+                        buffer.asFloatBuffer().put(column, offset, length);
+                        out.write(buffer.array(), 0, length * 4);
+                    }
+                }
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Reads all the columns as packed floats from the stream and closes it.
+     */
+    private static void readColumns(@NotNull InputStream stream, @NotNull float[][][] columns) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream, BUFFER_SIZE));
+        byte[] bytes = new byte[BUFFER_SIZE];
+
+        try {
+            for (float[][] dataSetColumns : columns) {
+                for (float[] column : dataSetColumns) {
+                    for (int offset = 0; offset < column.length; offset += BUFFER_SIZE / 4) {
+                        int length = Math.min(column.length - offset, BUFFER_SIZE / 4);
+
+                        in.readFully(bytes, 0, length * 4);
+                        ByteBuffer.wrap(bytes, 0, length * 4).asFloatBuffer().get(column, offset, length);
+                    }
+                }
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private <T> T cast(@NotNull Object value) {
+        return (T) value;
+    }
+}
@@ -0,0 +1,556 @@
+package com.github.mikephil.charting.data;
+
+import android.util.Log;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only LineDataSet for histories that are too large to be held in memory. The x-range of the DataSet is
+ * split into pages of a fixed width which are loaded from a PageSource on a background thread and kept in an
+ * LRU cache. The DataSet only represents the pages of the visible window, which is reported by the chart
+ * (see BarLineChartBase) through setVisibleRange(...): indices refer to the values of the current window.
+ * <p/>
+ * Pages that are not loaded yet are treated as empty, so drawing never blocks on I/O. When a page arrives,
+ * the OnPageLoadedListener is called (from the loading thread) to redraw the chart. The adjacent pages of
+ * the window are prefetched, so panning usually finds them in the cache. A page that failed to load is retried
+ * after a delay that doubles with every failure.
+ * <p/>
+ * By default, the pages of all the PagedLineDataSets are loaded by one shared background thread, which stops
+ * when it has been idle for a while, so there is nothing to shut down.
+ * <p/>
+ * The bounds of the whole history must be provided, as they can't be calculated without loading everything.
+ * Entry objects are only created on demand, and all the methods that modify the values throw an
+ * UnsupportedOperationException.
+ */
+public class PagedLineDataSet extends PrimitiveLineDataSet {
+    private static final String LOG_TAG = "MPChart-PagedDataSet";
+
+    private static final int DEFAULT_MAX_CACHED_PAGES = 16;
+
+    /**
+     * the delay before the first retry of a page that failed to load, and the longest delay
+     */
+    private static final long RETRY_DELAY_MILLIS = 1000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60 * 1000;
+
+    /**
+     * the seconds after which the thread of the default executor stops when there's nothing to load
+     */
+    private static final int DEFAULT_EXECUTOR_KEEP_ALIVE_SECONDS = 10;
+
+    @Nullable
+    private static Executor sDefaultExecutor;
+
+    /**
+     * Source of the values of a PagedLineDataSet.
+     */
+    public interface PageSource {
+        /**
+         * Loads all the values with fromX <= x < toX, sorted by x. This is called on a background thread.
+         */
+        @NotNull
+        Page loadRange(float fromX, float toX) throws Exception;
+    }
+
+    /**
+     * Called when a page was loaded, from the thread that loaded it.
+     */
+    public interface OnPageLoadedListener {
+        void onPageLoaded(@NotNull PagedLineDataSet dataSet);
+    }
+
+    /**
+     * Values of one page, sorted by x.
+     */
+    public static final class Page {
+        @NotNull
+        final float[] mXValues;
+
+        @NotNull
+        final float[] mYValues;
+
+        final int mCount;
+
+        /**
+         * Creates a page of the first count values of the given arrays. The arrays are not copied.
+         */
+        public Page(@NotNull float[] xValues, @NotNull float[] yValues, int count) {
+            if (count < 0 || count > xValues.length || count > yValues.length) {
+                throw new IllegalArgumentException("count is out of bounds");
+            }
+
+            mXValues = xValues;
+            mYValues = yValues;
+            mCount = count;
+        }
+    }
+
+    @NotNull
+    private final PageSource mSource;
+
+    private final float mPageWidth;
+
+    /**
+     * the bounds of the whole history
+     */
+    private final float mTotalXMin;
+    private final float mTotalXMax;
+    private final float mTotalYMin;
+    private final float mTotalYMax;
+
+    private final int mPageCount;
+
+    private int mMaxCachedPages = DEFAULT_MAX_CACHED_PAGES;
+
+    /**
+     * the loaded pages by page index in access order, only accessed on the UI thread
+     */
+    @NotNull
+    private final LinkedHashMap<Integer, Page> mCache = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * the pages that are currently loaded by the executor, guarded by itself
+     */
+    @NotNull
+    private final Set<Integer> mPendingPages = new HashSet<>();
+
+    /**
+     * the pages that were loaded by the executor but are not in the cache yet, guarded by mPendingPages
+     */
+    @NotNull
+    private final Map<Integer, Page> mLoadedPages = new LinkedHashMap<>();
+
+    /**
+     * the pages that failed to load, guarded by mPendingPages
+     */
+    @NotNull
+    private final Map<Integer, Failure> mFailedPages = new HashMap<>();
+
+    /**
+     * The number of failed attempts to load a page and when it may be retried.
+     */
+    private static final class Failure {
+        int mAttempts;
+        long mRetryTimeNanos;
+    }
+
+    @Nullable
+    private Executor mExecutor;
+
+    @Nullable
+    private volatile OnPageLoadedListener mOnPageLoadedListener;
+
+    /**
+     * the first and the last page of the current window, and whether all of them were loaded when the window
+     * was built
+     */
+    private int mWindowFirstPage = -1;
+    private int mWindowLastPage = -1;
+    private boolean mWindowComplete;
+
+    /**
+     * the values of the current window
+     */
+    @NotNull
+    private float[] mXValues = new float[0];
+
+    @NotNull
+    private float[] mYValues = new float[0];
+
+    private int mCount;
+
+    /**
+     * @param source    the source of the values
+     * @param pageWidth the x-range of one page
+     * @param xMin      the minimum x-value of the whole history
+     * @param xMax      the maximum x-value of the whole history
+     * @param yMin      the minimum y-value of the whole history
+     * @param yMax      the maximum y-value of the whole history
+     */
+    public PagedLineDataSet(
+            @NotNull PageSource source,
+            float pageWidth,
+            float xMin,
+            float xMax,
+            float yMin,
+            float yMax,
+            @Nullable String label
+    ) {
+        super(label);
+
+        if (!(pageWidth > 0f)) {
+            throw new IllegalArgumentException("pageWidth must be positive");
+        }
+
+        if (xMax < xMin) {
+            throw new IllegalArgumentException("xMax must not be lower than xMin");
+        }
+
+        mSource = source;
+        mPageWidth = pageWidth;
+        mTotalXMin = xMin;
+        mTotalXMax = xMax;
+        mTotalYMin = yMin;
+        mTotalYMax = yMax;
+        mPageCount = (int) ((xMax - xMin) / pageWidth) + 1;
+
+        calcMinMax();
+    }
+
+    /**
+     * Sets the maximum number of pages that are kept in memory. It should be at least the number of pages that
+     * are visible at once plus the two prefetched ones. Default: 16
+     */
+    public void setMaxCachedPages(int maxPages) {
+        mMaxCachedPages = Math.max(1, maxPages);
+    }
+
+    /**
+     * Sets the Executor that loads the pages, null uses the background thread that is shared by all the
+     * PagedLineDataSets. The given Executor is owned by the caller, who has to shut it down.
+     */
+    public void setExecutor(@Nullable Executor executor) {
+        mExecutor = executor;
+    }
+
+    /**
+     * Sets the listener that is called when a page was loaded. The chart sets itself to redraw if no listener is set.
+     */
+    public void setOnPageLoadedListener(@Nullable OnPageLoadedListener listener) {
+        mOnPageLoadedListener = listener;
+    }
+
+    @Nullable
+    public OnPageLoadedListener getOnPageLoadedListener() {
+        return mOnPageLoadedListener;
+    }
+
+    /**
+     * Sets the visible x-range. The DataSet then represents the values of the pages that cover the range,
+     * the missing pages and the adjacent ones are loaded in the background. Must be called on the UI thread,
+     * the chart calls it before every frame.
+     */
+    public void setVisibleRange(float lowX, float highX) {
+        int firstPage = getPageIndex(Math.min(lowX, highX));
+        int lastPage = getPageIndex(Math.max(lowX, highX));
+
+        boolean cacheChanged = drainLoadedPages();
+
+        for (int page = firstPage - 1; page <= lastPage + 1; page++) {
+            if (page >= 0 && page < mPageCount && !mCache.containsKey(page)) {
+                requestPage(page);
+            }
+        }
+
+        if (firstPage != mWindowFirstPage || lastPage != mWindowLastPage || (cacheChanged && !mWindowComplete)) {
+            buildWindow(firstPage, lastPage);
+        } else {
+            // mark the visible pages as recently used
+            for (int page = firstPage; page <= lastPage; page++) {
+                mCache.get(page);
+            }
+        }
+    }
+
+    private int getPageIndex(float x) {
+        int page = (int) Math.floor((x - mTotalXMin) / mPageWidth);
+
+        return Math.max(0, Math.min(mPageCount - 1, page));
+    }
+
+    /**
+     * Moves the pages that were loaded in the background to the cache. Returns true if there were any.
+     */
+    private boolean drainLoadedPages() {
+        synchronized (mPendingPages) {
+            if (mLoadedPages.isEmpty())
+                return false;
+
+            mCache.putAll(mLoadedPages);
+            mLoadedPages.clear();
+        }
+
+        trimCache();
+
+        return true;
+    }
+
+    private void trimCache() {
+        Iterator<Integer> iterator = mCache.keySet().iterator();
+
+        while (mCache.size() > mMaxCachedPages && iterator.hasNext()) {
+            int page = iterator.next();
+
+            // never evict the pages of the current window
+            if (page < mWindowFirstPage || page > mWindowLastPage) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void requestPage(final int page) {
+        synchronized (mPendingPages) {
+            if (mPendingPages.contains(page) || mLoadedPages.containsKey(page))
+                return;
+
+            Failure failure = mFailedPages.get(page);
+
+            if (failure != null && System.nanoTime() - failure.mRetryTimeNanos < 0)
+                return;
+
+            mPendingPages.add(page);
+        }
+
+        final float fromX = mTotalXMin + page * mPageWidth;
+        final float toX = fromX + mPageWidth;
+
+        getExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                Page loaded = null;
+
+                try {
+                    loaded = mSource.loadRange(fromX, toX);
+                } catch (Exception e) {
+                    Log.e(LOG_TAG, "Loading page " + page + " failed: " + e);
+                }
+
+                synchronized (mPendingPages) {
+                    mPendingPages.remove(page);
+
+                    if (loaded != null) {
+                        mLoadedPages.put(page, loaded);
+                        mFailedPages.remove(page);
+                    } else {
+                        onPageFailed(page);
+                    }
+                }
+
+                OnPageLoadedListener listener = mOnPageLoadedListener;
+
+                if (loaded != null && listener != null) {
+                    listener.onPageLoaded(PagedLineDataSet.this);
+                }
+            }
+        });
+    }
+
+    /**
+     * Delays the next attempt to load the given page. Must be called while holding mPendingPages.
+     */
+    private void onPageFailed(int page) {
+        Failure failure = mFailedPages.get(page);
+
+        if (failure == null) {
+            failure = new Failure();
+            mFailedPages.put(page, failure);
+        }
+
+        failure.mAttempts++;
+
+        long delay = Math.min(RETRY_DELAY_MILLIS << Math.min(failure.mAttempts - 1, 16), MAX_RETRY_DELAY_MILLIS);
+        failure.mRetryTimeNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+    }
+
+    @NotNull
+    private Executor getExecutor() {
+        return mExecutor != null ? mExecutor : getDefaultExecutor();
+    }
+
+    /**
+     * Returns the executor that is shared by all the PagedLineDataSets, its single thread stops when it's idle.
+     */
+    @NotNull
+    private static synchronized Executor getDefaultExecutor() {
+        if (sDefaultExecutor == null) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+                    DEFAULT_EXECUTOR_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(),
+                    new ThreadFactory() {
+                        @Override
+                        public Thread newThread(@NotNull Runnable r) {
+                            Thread thread = new Thread(r, "PagedLineDataSet");
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            executor.allowCoreThreadTimeOut(true);
+
+            sDefaultExecutor = executor;
+        }
+
+        return sDefaultExecutor;
+    }
+
+    /**
+     * Concatenates the values of the loaded pages from firstPage to lastPage.
+     */
+    private void buildWindow(int firstPage, int lastPage) {
+        invalidateLevelOfDetail();
+        incrementVersion();
+
+        mWindowFirstPage = firstPage;
+        mWindowLastPage = lastPage;
+        mWindowComplete = true;
+
+        int count = 0;
+
+        for (int page = firstPage; page <= lastPage; page++) {
+            Page p = mCache.get(page);
+
+            if (p == null) {
+                mWindowComplete = false;
+            } else {
+                count += p.mCount;
+            }
+        }
+
+        if (mXValues.length < count) {
+            mXValues = new float[count];
+            mYValues = new float[count];
+        }
+
+        int offset = 0;
+
+        for (int page = firstPage; page <= lastPage; page++) {
+            Page p = mCache.get(page);
+
+            if (p != null) {
+                System.arraycopy(p.mXValues, 0, mXValues, offset, p.mCount);
+                System.arraycopy(p.mYValues, 0, mYValues, offset, p.mCount);
+                offset += p.mCount;
+            }
+        }
+
+        mCount = count;
+
+        trimCache();
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mCount;
+    }
+
+    @Override
+    public float getEntryXForIndex(int index) {
+        return mXValues[index];
+    }
+
+    @Override
+    public float getEntryYForIndex(int index) {
+        return mYValues[index];
+    }
+
+    /**
+     * Resets the bounds to the bounds of the whole history.
+     */
+    @Override
+    public void calcMinMax() {
+        mXMin = mTotalXMin;
+        mXMax = mTotalXMax;
+        mYMin = mTotalYMin;
+        mYMax = mTotalYMax;
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        // keep the bounds of the whole history until the window is loaded
+        if (mCount == 0) {
+            mYMin = mTotalYMin;
+            mYMax = mTotalYMax;
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, ROUNDING_DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, ROUNDING_UP);
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+            float y = mYValues[i];
+
+            if (y < mYMin)
+                mYMin = y;
+
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    @Override
+    public boolean addEntry(@NotNull Entry e) {
+        throw new UnsupportedOperationException("PagedLineDataSet is read-only");
+    }
+
+    @Override
+    public void addEntryOrdered(@NotNull Entry e) {
+        throw new UnsupportedOperationException("PagedLineDataSet is read-only");
+    }
+
+    @Override
+    public boolean addEntries(@NotNull List<Entry> entries) {
+        throw new UnsupportedOperationException("PagedLineDataSet is read-only");
+    }
+
+    @Override
+    public void appendBatch(@NotNull float[] xValues, @NotNull float[] yValues, int offset, int count) {
+        throw new UnsupportedOperationException("PagedLineDataSet is read-only");
+    }
+
+    @Override
+    public boolean removeEntry(@NotNull Entry e) {
+        throw new UnsupportedOperationException("PagedLineDataSet is read-only");
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        throw new UnsupportedOperationException("PagedLineDataSet is read-only");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("PagedLineDataSet is read-only");
+    }
+
+    @Override
+    public void setEntries(@NotNull List<Entry> entries) {
+        throw new UnsupportedOperationException("PagedLineDataSet is read-only");
+    }
+
+    /**
+     * Returns a new PagedLineDataSet with the same source and bounds, the pages are not copied.
+     */
+    @Override
+    @NotNull
+    public DataSet<Entry> copy() {
+        PagedLineDataSet copied = new PagedLineDataSet(
+                mSource,
+                mPageWidth,
+                mTotalXMin,
+                mTotalXMax,
+                mTotalYMin,
+                mTotalYMax,
+                getLabel()
+        );
+        copied.mMaxCachedPages = mMaxCachedPages;
+        copied.mExecutor = mExecutor;
+        copy(copied);
+        return copied;
+    }
+}
@@ -0,0 +1,159 @@
+package com.github.mikephil.charting.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+
+/**
+ * Base of the LineDataSets that store their values in primitive arrays or buffers instead of a list of Entry
+ * objects. Subclasses provide the values through getEntryCount(), getEntryXForIndex(...) and
+ * getEntryYForIndex(...).
+ * <p/>
+ * Entry objects are only created on demand, so the list of entries (getEntries()) is a view of the values and
+ * entries are looked up by their values instead of their identity. The view is read-only unless the subclass
+ * overrides insertEntry(...), setEntry(...), removeEntry(int) and clear().
+ */
+abstract class PrimitiveLineDataSet extends LineDataSet {
+
+    PrimitiveLineDataSet(@Nullable String label) {
+        super(new ArrayList<Entry>(0), label);
+
+        mEntries = new EntryView();
+    }
+
+    @Override
+    public abstract int getEntryCount();
+
+    @Override
+    public abstract float getEntryXForIndex(int index);
+
+    @Override
+    public abstract float getEntryYForIndex(int index);
+
+    @Override
+    @NotNull
+    public Entry getEntryForIndex(int index) {
+        checkIndex(index);
+
+        return new Entry(getEntryXForIndex(index), getEntryYForIndex(index));
+    }
+
+    /**
+     * Returns the index of the value with the same x- and y-value as the given Entry, or -1 if there's no such value.
+     * As the Entry objects of this DataSet are created on demand, the values are compared instead of the identity.
+     */
+    @Override
+    public int getEntryIndex(@NotNull Entry e) {
+        int index = getEntryIndex(e.getX(), e.getY(), ROUNDING_CLOSEST);
+
+        if (index >= 0 && getEntryXForIndex(index) == e.getX() && getEntryYForIndex(index) == e.getY()) {
+            return index;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(@NotNull Entry e) {
+        return getEntryIndex(e) >= 0;
+    }
+
+    @Override
+    public boolean removeEntry(@NotNull Entry e) {
+        return removeEntry(getEntryIndex(e));
+    }
+
+    /**
+     * Inserts the values of the given Entry at the given index, used by the list view of the entries.
+     */
+    protected void insertEntry(int index, @NotNull Entry e) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " is read-only");
+    }
+
+    /**
+     * Replaces the values at the given index with the values of the given Entry, used by the list view of the
+     * entries.
+     */
+    protected void setEntry(int index, @NotNull Entry e) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " is read-only");
+    }
+
+    @Override
+    public String toSimpleString() {
+        return getClass().getSimpleName() + ", label: " + (getLabel() == null ? "" : getLabel()) + ", entries: " +
+                getEntryCount() + "\n";
+    }
+
+    protected void checkIndex(int index) {
+        if (index < 0 || index >= getEntryCount()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + getEntryCount());
+        }
+    }
+
+    /**
+     * List view of the values, the Entry objects are created on demand.
+     */
+    private final class EntryView extends AbstractList<Entry> implements RandomAccess {
+        @Override
+        @NotNull
+        public Entry get(int index) {
+            return getEntryForIndex(index);
+        }
+
+        @Override
+        public int size() {
+            return getEntryCount();
+        }
+
+        /**
+         * Looks the Entry up by its values with a binary search, like getEntryIndex(Entry).
+         */
+        @Override
+        public int indexOf(Object o) {
+            return o instanceof Entry ? getEntryIndex((Entry) o) : -1;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        @Override
+        public void add(int index, @NotNull Entry e) {
+            if (index < 0 || index > getEntryCount()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + getEntryCount());
+            }
+
+            insertEntry(index, e);
+            modCount++;
+        }
+
+        @Override
+        @NotNull
+        public Entry set(int index, @NotNull Entry e) {
+            Entry previous = getEntryForIndex(index);
+            setEntry(index, e);
+
+            return previous;
+        }
+
+        @Override
+        @NotNull
+        public Entry remove(int index) {
+            Entry e = getEntryForIndex(index);
+            removeEntry(index);
+            modCount++;
+
+            return e;
+        }
+
+        @Override
+        public void clear() {
+            PrimitiveLineDataSet.this.clear();
+            modCount++;
+        }
+    }
+}
@@ -0,0 +1,581 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.RangeMinMaxIndex;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * LineDataSet with a fixed capacity that is meant for realtime streaming. The values are stored
+ * in a ring buffer, so when the DataSet is full, appending a value evicts the oldest one in O(1)
+ * instead of shifting all the entries like removeFirst() on a list-backed DataSet does.
+ * <p/>
+ * The minimum and maximum y-values of the buffer are maintained incrementally with monotonic queues,
+ * so appending and evicting never requires a rescan of the values. The x-values must be appended in
+ * ascending order.
+ * <p/>
+ * Entry objects are only created on demand, so they carry neither data nor icons, and every call
+ * returns a new instance.
+ */
+public class RingBufferLineDataSet extends PrimitiveLineDataSet {
+    @NotNull
+    private final float[] mXValues;
+
+    @NotNull
+    private final float[] mYValues;
+
+    /**
+     * physical index of the oldest value (the value at logical index 0)
+     */
+    private int mStart;
+
+    /**
+     * the number of values that are currently held in the buffer
+     */
+    private int mCount;
+
+    /**
+     * physical indices of the values that are candidates for the minimum y-value, the y-values are ascending
+     */
+    @NotNull
+    private final MonotonicQueue mMinQueue;
+
+    /**
+     * physical indices of the values that are candidates for the maximum y-value, the y-values are descending
+     */
+    @NotNull
+    private final MonotonicQueue mMaxQueue;
+
+    /**
+     * index of the y-values (by physical index) for fast calcMinMaxY(...) queries, null if disabled
+     */
+    @Nullable
+    private RangeMinMaxIndex mRangeIndex;
+
+    /**
+     * Creates an empty RingBufferLineDataSet that holds at most capacity values.
+     */
+    public RingBufferLineDataSet(int capacity, @Nullable String label) {
+        super(label);
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+
+        mXValues = new float[capacity];
+        mYValues = new float[capacity];
+        mMinQueue = new MonotonicQueue(capacity, false);
+        mMaxQueue = new MonotonicQueue(capacity, true);
+    }
+
+    /**
+     * Returns the maximum number of values this DataSet can hold.
+     */
+    public int getCapacity() {
+        return mXValues.length;
+    }
+
+    /**
+     * Returns true if the buffer is full, which means that the next append evicts the oldest value.
+     */
+    public boolean isFull() {
+        return mCount == mXValues.length;
+    }
+
+    /**
+     * If set to true, a range min/max index of the y-values is maintained, so calcMinMaxY(...), which is called on
+     * every frame with autoScaleMinMax enabled, takes O(log n) instead of scanning all the visible values.
+     * Appending stays O(log n), inserting or removing values in the middle rebuilds the index. Default: false
+     */
+    public void setRangeIndexEnabled(boolean enabled) {
+        if (!enabled) {
+            mRangeIndex = null;
+        } else if (mRangeIndex == null) {
+            mRangeIndex = new RangeMinMaxIndex();
+            mRangeIndex.rebuild(mYValues, mYValues.length);
+        }
+    }
+
+    /**
+     * Returns true if the range min/max index of the y-values is enabled.
+     */
+    public boolean isRangeIndexEnabled() {
+        return mRangeIndex != null;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mCount;
+    }
+
+    /**
+     * Converts a logical index (0 is the oldest value) to the index in the arrays.
+     */
+    private int toPhysicalIndex(int index) {
+        int i = mStart + index;
+        int capacity = mXValues.length;
+
+        return i >= capacity ? i - capacity : i;
+    }
+
+    @Override
+    public float getEntryXForIndex(int index) {
+        return mXValues[toPhysicalIndex(index)];
+    }
+
+    @Override
+    public float getEntryYForIndex(int index) {
+        return mYValues[toPhysicalIndex(index)];
+    }
+
+    @Override
+    public void calcMinMax() {
+        invalidateLevelOfDetail();
+        rebuildQueues();
+    }
+
+    /**
+     * Rebuilds the monotonic queues and the range index from all the values, and updates the bounds.
+     */
+    private void rebuildQueues() {
+        // called by the super constructor before the buffer is created
+        if (mCount == 0) {
+            mYMax = -Float.MAX_VALUE;
+            mYMin = Float.MAX_VALUE;
+            mXMax = -Float.MAX_VALUE;
+            mXMin = Float.MAX_VALUE;
+
+            if (mMinQueue != null) {
+                mMinQueue.clear();
+                mMaxQueue.clear();
+            }
+
+            return;
+        }
+
+        mMinQueue.clear();
+        mMaxQueue.clear();
+
+        if (mRangeIndex != null) {
+            mRangeIndex.rebuild(mYValues, mYValues.length);
+        }
+
+        for (int i = 0; i < mCount; i++) {
+            int physicalIndex = toPhysicalIndex(i);
+
+            mMinQueue.push(physicalIndex, mYValues);
+            mMaxQueue.push(physicalIndex, mYValues);
+        }
+
+        updateMinMax();
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        if (mCount == 0)
+            return;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, ROUNDING_DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, ROUNDING_UP);
+
+        if (indexTo < indexFrom) return;
+
+        if (mRangeIndex != null) {
+            int from = toPhysicalIndex(indexFrom);
+            int to = toPhysicalIndex(indexTo);
+
+            mRangeIndex.resetQuery();
+
+            // a range that wraps around the end of the arrays consists of two physical ranges
+            if (from <= to) {
+                mRangeIndex.query(mYValues, from, to);
+            } else {
+                mRangeIndex.query(mYValues, from, mYValues.length - 1);
+                mRangeIndex.query(mYValues, 0, to);
+            }
+
+            mYMin = mRangeIndex.getQueryMin();
+            mYMax = mRangeIndex.getQueryMax();
+            return;
+        }
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+            float y = mYValues[toPhysicalIndex(i)];
+
+            if (y < mYMin)
+                mYMin = y;
+
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    /**
+     * Sets the bounds of this DataSet from the ends of the buffer and the fronts of the monotonic queues.
+     */
+    private void updateMinMax() {
+        if (mCount == 0) {
+            mYMax = -Float.MAX_VALUE;
+            mYMin = Float.MAX_VALUE;
+            mXMax = -Float.MAX_VALUE;
+            mXMin = Float.MAX_VALUE;
+        } else {
+            mXMin = mXValues[mStart];
+            mXMax = mXValues[toPhysicalIndex(mCount - 1)];
+            mYMin = mYValues[mMinQueue.peekFirst()];
+            mYMax = mYValues[mMaxQueue.peekFirst()];
+        }
+    }
+
+    /**
+     * Appends the given x- and y-value to the end of the buffer. If the buffer is full, the oldest value is evicted.
+     * The x-value should not be lower than the x-value of the last entry. This is O(1) amortized.
+     */
+    public void addEntry(float x, float y) {
+        int evicted = mCount == mXValues.length ? 1 : 0;
+
+        append(x, y);
+        markValuesAppended(evicted, 1);
+        updateMinMax();
+    }
+
+    /**
+     * Appends the value without updating the bounds of this DataSet or reporting the change.
+     */
+    private void append(float x, float y) {
+        if (mCount == mXValues.length) {
+            evictFirst();
+        }
+
+        int physicalIndex = toPhysicalIndex(mCount);
+
+        mXValues[physicalIndex] = x;
+        mYValues[physicalIndex] = y;
+        mCount++;
+
+        if (mRangeIndex != null) {
+            mRangeIndex.update(mYValues, physicalIndex);
+        }
+
+        mMinQueue.push(physicalIndex, mYValues);
+        mMaxQueue.push(physicalIndex, mYValues);
+    }
+
+    /**
+     * Appends all the given x- and y-values to the end of the buffer, evicting the oldest values as needed.
+     * The bounds are only updated once for the whole batch. If there are more values than the capacity,
+     * only the newest ones are kept.
+     */
+    public void appendBatch(@NotNull float[] xValues, @NotNull float[] yValues) {
+        appendBatch(xValues, yValues, 0, xValues.length);
+    }
+
+    @Override
+    public void appendBatch(@NotNull float[] xValues, @NotNull float[] yValues, int offset, int count) {
+        if (count <= 0)
+            return;
+
+        // values that would be evicted by the same batch are skipped
+        int skipped = Math.max(0, count - mXValues.length);
+        int evicted = Math.max(0, mCount + count - skipped - mXValues.length);
+
+        for (int i = offset + skipped; i < offset + count; i++) {
+            append(xValues[i], yValues[i]);
+        }
+
+        markValuesAppended(evicted, count - skipped);
+        updateMinMax();
+    }
+
+    @Override
+    public boolean addEntries(@NotNull List<Entry> entries) {
+        int count = entries.size();
+
+        if (count == 0)
+            return false;
+
+        int skipped = Math.max(0, count - mXValues.length);
+        int evicted = Math.max(0, mCount + count - skipped - mXValues.length);
+
+        for (int i = skipped; i < count; i++) {
+            Entry e = entries.get(i);
+
+            append(e.getX(), e.getY());
+        }
+
+        markValuesAppended(evicted, count - skipped);
+        updateMinMax();
+
+        return true;
+    }
+
+    @Override
+    public boolean addEntry(@NotNull Entry e) {
+        addEntry(e.getX(), e.getY());
+
+        return true;
+    }
+
+    /**
+     * Only appending is supported, use addEntryOrdered(...) to insert values in the middle.
+     */
+    @Override
+    protected void insertEntry(int index, @NotNull Entry e) {
+        if (index != mCount) {
+            throw new UnsupportedOperationException("RingBufferLineDataSet only appends values");
+        }
+
+        addEntry(e.getX(), e.getY());
+    }
+
+    /**
+     * Adds the Entry at the position respective to its x-value. If the buffer is full, the oldest value is evicted.
+     * Only appending to the end is O(1), inserting in the middle shifts the newer values and rebuilds the queues.
+     */
+    @Override
+    public void addEntryOrdered(@NotNull Entry e) {
+        float x = e.getX();
+
+        if (mCount == 0 || getEntryXForIndex(mCount - 1) <= x) {
+            addEntry(x, e.getY());
+            return;
+        }
+
+        if (mCount == mXValues.length) {
+            // the new value would be the oldest one, so it's evicted right away
+            if (x < mXValues[mStart]) {
+                return;
+            }
+
+            evictFirst();
+            markValuesRemovedFromStart(1);
+        }
+
+        // find the first value with greater x, so the new value is inserted after equal x-values
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (getEntryXForIndex(m) <= x) {
+                low = m + 1;
+            } else {
+                high = m;
+            }
+        }
+
+        for (int i = mCount; i > low; i--) {
+            int to = toPhysicalIndex(i);
+            int from = toPhysicalIndex(i - 1);
+
+            mXValues[to] = mXValues[from];
+            mYValues[to] = mYValues[from];
+        }
+
+        int physicalIndex = toPhysicalIndex(low);
+        mXValues[physicalIndex] = x;
+        mYValues[physicalIndex] = e.getY();
+        mCount++;
+
+        markValuesChanged(low, Integer.MAX_VALUE);
+        rebuildQueues();
+    }
+
+    /**
+     * Reports the given number of values evicted from the start and appended to the end as one change each,
+     * so a whole batch only takes two entries of the change log.
+     */
+    private void markValuesAppended(int evicted, int appended) {
+        if (evicted > 0) {
+            markValuesRemovedFromStart(evicted);
+        }
+
+        markValuesChanged(mCount - appended, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Removes the oldest value in O(1) without reporting the change. The monotonic queues only need to drop
+     * the value if it's at their front.
+     */
+    private void evictFirst() {
+        mMinQueue.evict(mStart);
+        mMaxQueue.evict(mStart);
+
+        mStart = toPhysicalIndex(1);
+        mCount--;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        if (mCount == 0)
+            return false;
+
+        evictFirst();
+        markValuesRemovedFromStart(1);
+        updateMinMax();
+
+        return true;
+    }
+
+    /**
+     * Removes the newest value. The queues can't restore the candidates that were dropped by the removed value,
+     * so this rebuilds them in O(n).
+     */
+    @Override
+    public boolean removeLast() {
+        if (mCount == 0)
+            return false;
+
+        mCount--;
+        markValuesChanged(mCount, Integer.MAX_VALUE);
+        rebuildQueues();
+
+        return true;
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        if (index < 0 || index >= mCount)
+            return false;
+
+        if (index == 0)
+            return removeFirst();
+
+        for (int i = index; i < mCount - 1; i++) {
+            int to = toPhysicalIndex(i);
+            int from = toPhysicalIndex(i + 1);
+
+            mXValues[to] = mXValues[from];
+            mYValues[to] = mYValues[from];
+        }
+
+        mCount--;
+        markValuesChanged(index, Integer.MAX_VALUE);
+        rebuildQueues();
+
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        mStart = 0;
+        mCount = 0;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Replaces the values of this DataSet with the given entries and calls notifyDataSetChanged().
+     * If there are more entries than the capacity, only the newest ones are kept.
+     */
+    @Override
+    public void setEntries(@NotNull List<Entry> entries) {
+        int size = entries.size();
+        int first = Math.max(0, size - mXValues.length);
+
+        mStart = 0;
+        mCount = size - first;
+
+        for (int i = first; i < size; i++) {
+            Entry e = entries.get(i);
+
+            mXValues[i - first] = e.getX();
+            mYValues[i - first] = e.getY();
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    @NotNull
+    public DataSet<Entry> copy() {
+        RingBufferLineDataSet copied = new RingBufferLineDataSet(mXValues.length, getLabel());
+        copied.setRangeIndexEnabled(isRangeIndexEnabled());
+
+        for (int i = 0; i < mCount; i++) {
+            int physicalIndex = toPhysicalIndex(i);
+
+            copied.addEntry(mXValues[physicalIndex], mYValues[physicalIndex]);
+        }
+
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * Deque of physical indices whose values are monotonic. Used to track the extremes of a sliding window:
+     * a value is dropped from the back as soon as a newer value makes it irrelevant, so the front always holds
+     * the extreme of all the values in the window.
+     */
+    private static final class MonotonicQueue {
+        @NotNull
+        private final int[] mIndices;
+
+        private final boolean mMax;
+
+        private int mHead;
+
+        private int mSize;
+
+        MonotonicQueue(int capacity, boolean max) {
+            mIndices = new int[capacity];
+            mMax = max;
+        }
+
+        void push(int physicalIndex, @NotNull float[] values) {
+            float value = values[physicalIndex];
+            int capacity = mIndices.length;
+
+            while (mSize > 0) {
+                int last = mHead + mSize - 1;
+                if (last >= capacity) {
+                    last -= capacity;
+                }
+
+                float lastValue = values[mIndices[last]];
+
+                if (mMax ? lastValue <= value : lastValue >= value) {
+                    mSize--;
+                } else {
+                    break;
+                }
+            }
+
+            int tail = mHead + mSize;
+            if (tail >= capacity) {
+                tail -= capacity;
+            }
+
+            mIndices[tail] = physicalIndex;
+            mSize++;
+        }
+
+        /**
+         * Must be called when the value at the given physical index leaves the window (it's always the oldest one).
+         */
+        void evict(int physicalIndex) {
+            if (mSize > 0 && mIndices[mHead] == physicalIndex) {
+                mHead++;
+                if (mHead == mIndices.length) {
+                    mHead = 0;
+                }
+
+                mSize--;
+            }
+        }
+
+        int peekFirst() {
+            return mIndices[mHead];
+        }
+
+        void clear() {
+            mHead = 0;
+            mSize = 0;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.mikephil.charting.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Sorted x-values that are shared by all the DataSets of a SharedXDataSetGroup. The index lookups by x-value
+ * remember their last result, so when every DataSet of the group asks for the same x-value or x-range (the
+ * visible range of a frame, the x-value of a touch), the binary search is only done for the first one.
+ * <p/>
+ * The lookups are not thread-safe, they must be done on the UI thread like drawing and highlighting.
+ */
+public class SharedXColumn {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    @NotNull
+    private float[] mXValues;
+
+    private int mCount;
+
+    /**
+     * incremented on every change, the remembered lookups are only valid for the same modification count
+     */
+    private int mModCount;
+
+    private int mLastIndexModCount = -1;
+    private float mLastIndexX;
+    private int mLastIndexRounding;
+    private int mLastIndex;
+
+    private int mLastRangeModCount = -1;
+    private float mLastRangeFrom;
+    private float mLastRangeTo;
+    private int mLastRangeLow;
+    private int mLastRangeHigh;
+
+    public SharedXColumn() {
+        mXValues = new float[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a column of the given x-values, which must be sorted in ascending order. The array is not copied.
+     */
+    public SharedXColumn(@NotNull float[] xValues) {
+        mXValues = xValues;
+        mCount = xValues.length;
+    }
+
+    public int getCount() {
+        return mCount;
+    }
+
+    public float getX(int index) {
+        return mXValues[index];
+    }
+
+    /**
+     * Returns the array of x-values. Only the first getCount() values are valid.
+     * The array is returned directly (not a copy) and may be replaced when the column grows.
+     */
+    @NotNull
+    public float[] getXValues() {
+        return mXValues;
+    }
+
+    /**
+     * Returns the number of changes of the column, e.g. for checking whether the values changed since a lookup.
+     */
+    public int getModCount() {
+        return mModCount;
+    }
+
+    /**
+     * Returns the index of the x-value closest to the given one, with the same rounding as
+     * DataSet.getEntryIndex(xValue, Float.NaN, rounding), or -1 if the column is empty.
+     */
+    public int getIndex(float xValue, @DataSet.Rounding int rounding) {
+        if (mLastIndexModCount == mModCount && mLastIndexX == xValue && mLastIndexRounding == rounding)
+            return mLastIndex;
+
+        int index = search(xValue, rounding);
+
+        mLastIndexModCount = mModCount;
+        mLastIndexX = xValue;
+        mLastIndexRounding = rounding;
+        mLastIndex = index;
+
+        return index;
+    }
+
+    /**
+     * Finds the range of indices that covers the x-range from fromX to toX, see IDataSet.getEntryIndexRange(...).
+     */
+    public void getIndexRange(float fromX, float toX, @NotNull int[] outRange) {
+        if (mLastRangeModCount != mModCount || mLastRangeFrom != fromX || mLastRangeTo != toX) {
+            mLastRangeLow = search(fromX, DataSet.ROUNDING_DOWN);
+            mLastRangeHigh = search(toX, DataSet.ROUNDING_UP);
+
+            mLastRangeModCount = mModCount;
+            mLastRangeFrom = fromX;
+            mLastRangeTo = toX;
+        }
+
+        outRange[0] = mLastRangeLow;
+        outRange[1] = mLastRangeHigh;
+    }
+
+    void append(float x) {
+        ensureCapacity(mCount + 1);
+
+        mXValues[mCount++] = x;
+        mModCount++;
+    }
+
+    void append(@NotNull float[] xValues, int offset, int count) {
+        ensureCapacity(mCount + count);
+
+        System.arraycopy(xValues, offset, mXValues, mCount, count);
+        mCount += count;
+        mModCount++;
+    }
+
+    void removeFirst(int count) {
+        System.arraycopy(mXValues, count, mXValues, 0, mCount - count);
+        mCount -= count;
+        mModCount++;
+    }
+
+    void clear() {
+        mCount = 0;
+        mModCount++;
+    }
+
+    /**
+     * The same search as DataSet.getEntryIndex(...) without the y-value, on the array.
+     */
+    private int search(float xValue, @DataSet.Rounding int rounding) {
+        float[] xValues = mXValues;
+        int count = mCount;
+
+        if (count == 0)
+            return -1;
+
+        int low = 0;
+        int high = count - 1;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            float d1 = xValues[m] - xValue;
+            float d2 = xValues[m + 1] - xValue;
+            float ad1 = Math.abs(d1);
+            float ad2 = Math.abs(d2);
+
+            if (ad2 < ad1) {
+                low = m + 1;
+            } else if (ad1 < ad2) {
+                high = m;
+            } else if (d1 >= 0f) {
+                high = m;
+            } else {
+                low = m + 1;
+            }
+        }
+
+        int closest = high;
+        float closestXValue = xValues[closest];
+
+        if (rounding == DataSet.ROUNDING_UP) {
+            if (closestXValue < xValue && closest < count - 1) {
+                ++closest;
+            }
+        } else if (rounding == DataSet.ROUNDING_DOWN) {
+            if (closestXValue > xValue && closest > 0) {
+                --closest;
+            }
+        }
+
+        return closest;
+    }
+
+    private void ensureCapacity(int capacity) {
+        int length = mXValues.length;
+
+        if (capacity > length) {
+            mXValues = Arrays.copyOf(mXValues, Math.max(capacity, length + (length >> 1) + 1));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Group of LineDataSets that are sampled at the same x-values, e.g. many channels of a recording with a common
+ * time base. The x-values are stored once in a SharedXColumn, every DataSet of the group only stores its
+ * y-values, and the index lookups of all the DataSets (visible range, highlighting) are done once per group.
+ * <p/>
+ * The values are added to all the DataSets at once through the group:
+ * <pre>
+ * SharedXDataSetGroup group = new SharedXDataSetGroup();
+ * group.addDataSet("channel 1");
+ * group.addDataSet("channel 2");
+ * group.append(x, new float[]{y1, y2});
+ * chart.setData(new LineData(group.getDataSets()));
+ * </pre>
+ * After changing the values, notifyDataChanged() must be called on the LineData as usual.
+ */
+public class SharedXDataSetGroup {
+
+    @NotNull
+    private final SharedXColumn mColumn;
+
+    @NotNull
+    private final List<SharedXLineDataSet> mDataSets = new ArrayList<>();
+
+    /**
+     * Creates an empty group.
+     */
+    public SharedXDataSetGroup() {
+        mColumn = new SharedXColumn();
+    }
+
+    /**
+     * Creates a group of the given x-values, which must be sorted in ascending order.
+     * The array is not copied, the group takes the ownership of it.
+     */
+    public SharedXDataSetGroup(@NotNull float[] xValues) {
+        mColumn = new SharedXColumn(xValues);
+    }
+
+    @NotNull
+    public SharedXColumn getColumn() {
+        return mColumn;
+    }
+
+    /**
+     * Adds a DataSet with the given y-values, one for every x-value of the group.
+     * The array is not copied, the DataSet takes the ownership of it.
+     */
+    @NotNull
+    public SharedXLineDataSet addDataSet(@NotNull float[] yValues, @Nullable String label) {
+        if (yValues.length < mColumn.getCount()) {
+            throw new IllegalArgumentException("yValues must have a value for every x-value of the group");
+        }
+
+        SharedXLineDataSet set = new SharedXLineDataSet(mColumn, yValues, label);
+        mDataSets.add(set);
+
+        return set;
+    }
+
+    /**
+     * Adds a DataSet whose y-values are all 0 so far.
+     */
+    @NotNull
+    public SharedXLineDataSet addDataSet(@Nullable String label) {
+        return addDataSet(new float[Math.max(mColumn.getXValues().length, 16)], label);
+    }
+
+    public int getDataSetCount() {
+        return mDataSets.size();
+    }
+
+    @NotNull
+    public SharedXLineDataSet getDataSetByIndex(int index) {
+        return mDataSets.get(index);
+    }
+
+    /**
+     * Returns a new list of the DataSets of the group, e.g. for creating a LineData.
+     */
+    @NotNull
+    public List<ILineDataSet> getDataSets() {
+        return new ArrayList<ILineDataSet>(mDataSets);
+    }
+
+    /**
+     * Returns the number of x-values, which is the entry count of every DataSet of the group.
+     */
+    public int getEntryCount() {
+        return mColumn.getCount();
+    }
+
+    /**
+     * Appends an x-value with a y-value for every DataSet (in the order they were added).
+     * The x-value should not be lower than the last x-value of the group.
+     */
+    public void append(float x, @NotNull float[] yValues) {
+        checkDataSetCount(yValues.length);
+
+        int index = mColumn.getCount();
+
+        for (int i = 0; i < mDataSets.size(); i++) {
+            SharedXLineDataSet set = mDataSets.get(i);
+            set.ensureCapacity(index + 1);
+            set.getYValues()[index] = yValues[i];
+        }
+
+        mColumn.append(x);
+
+        for (int i = 0; i < mDataSets.size(); i++) {
+            mDataSets.get(i).onValuesAppended(1);
+        }
+    }
+
+    /**
+     * Appends count x-values with the y-values of every DataSet at once, yValues[i] holds the values of the
+     * DataSet at index i. The x-values must be sorted in ascending order and must not be lower than the last
+     * x-value of the group.
+     */
+    public void appendBatch(@NotNull float[] xValues, @NotNull float[][] yValues, int offset, int count) {
+        checkDataSetCount(yValues.length);
+
+        if (count <= 0)
+            return;
+
+        int index = mColumn.getCount();
+
+        for (int i = 0; i < mDataSets.size(); i++) {
+            SharedXLineDataSet set = mDataSets.get(i);
+            set.ensureCapacity(index + count);
+            System.arraycopy(yValues[i], offset, set.getYValues(), index, count);
+        }
+
+        mColumn.append(xValues, offset, count);
+
+        for (int i = 0; i < mDataSets.size(); i++) {
+            mDataSets.get(i).onValuesAppended(count);
+        }
+    }
+
+    /**
+     * Removes the first count values of all the DataSets, e.g. to keep a sliding window of a stream.
+     */
+    public void removeFirst(int count) {
+        count = Math.min(count, mColumn.getCount());
+
+        if (count <= 0)
+            return;
+
+        int remaining = mColumn.getCount() - count;
+
+        for (int i = 0; i < mDataSets.size(); i++) {
+            float[] values = mDataSets.get(i).getYValues();
+            System.arraycopy(values, count, values, 0, remaining);
+        }
+
+        mColumn.removeFirst(count);
+
+        for (int i = 0; i < mDataSets.size(); i++) {
+            mDataSets.get(i).onValuesRemovedFromStart(count);
+        }
+    }
+
+    /**
+     * Removes all the values of all the DataSets.
+     */
+    public void clear() {
+        mColumn.clear();
+        notifyDataSetsChanged();
+    }
+
+    private void notifyDataSetsChanged() {
+        for (int i = 0; i < mDataSets.size(); i++) {
+            mDataSets.get(i).notifyDataSetChanged();
+        }
+    }
+
+    private void checkDataSetCount(int count) {
+        if (count != mDataSets.size()) {
+            throw new IllegalArgumentException("Expected values for " + mDataSets.size() + " DataSets, got " + count);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.github.mikephil.charting.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * LineDataSet of a SharedXDataSetGroup: it only stores its y-values, the x-values are read from the SharedXColumn
+ * of the group. The index lookups by x-value (getEntryIndex(...), getEntryIndexRange(...), getEntriesForXValue(...))
+ * are answered by the column, so they are done once for the whole group instead of once per DataSet.
+ * <p/>
+ * The values are changed through the group only, so all its DataSets always have the same entry count. Entry
+ * objects are created on demand like in ColumnarLineDataSet.
+ */
+public class SharedXLineDataSet extends PrimitiveLineDataSet {
+
+    @NotNull
+    private final SharedXColumn mColumn;
+
+    @NotNull
+    private float[] mYValues;
+
+    SharedXLineDataSet(@NotNull SharedXColumn column, @NotNull float[] yValues, @Nullable String label) {
+        super(label);
+
+        mColumn = column;
+        mYValues = yValues;
+
+        calcMinMax();
+    }
+
+    @NotNull
+    public SharedXColumn getColumn() {
+        return mColumn;
+    }
+
+    /**
+     * Returns the array of y-values this DataSet represents. Only the first getEntryCount() values are valid.
+     * The array is returned directly (not a copy) and may be replaced when the group grows.
+     */
+    @NotNull
+    public float[] getYValues() {
+        return mYValues;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mColumn.getCount();
+    }
+
+    @Override
+    public float getEntryXForIndex(int index) {
+        return mColumn.getX(index);
+    }
+
+    @Override
+    public float getEntryYForIndex(int index) {
+        return mYValues[index];
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, @Rounding int rounding) {
+        // the y-values are unique per x-value unless the column has duplicate x-values
+        if (Float.isNaN(closestToY))
+            return mColumn.getIndex(xValue, rounding);
+
+        return super.getEntryIndex(xValue, closestToY, rounding);
+    }
+
+    @Override
+    public void getEntryIndexRange(float fromX, float toX, @NotNull int[] outRange) {
+        mColumn.getIndexRange(fromX, toX, outRange);
+    }
+
+    @Override
+    @NotNull
+    public List<Entry> getEntriesForXValue(float xValue) {
+        ArrayList<Entry> entries = new ArrayList<>();
+
+        int index = mColumn.getIndex(xValue, ROUNDING_CLOSEST);
+
+        if (index < 0 || mColumn.getX(index) != xValue)
+            return entries;
+
+        while (index > 0 && mColumn.getX(index - 1) == xValue)
+            index--;
+
+        for (int count = mColumn.getCount(); index < count && mColumn.getX(index) == xValue; index++) {
+            entries.add(new Entry(xValue, mYValues[index]));
+        }
+
+        return entries;
+    }
+
+    @Override
+    public void calcMinMax() {
+        invalidateLevelOfDetail();
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        // called by the super constructor before the fields are assigned
+        if (mColumn == null)
+            return;
+
+        int count = mColumn.getCount();
+
+        if (count == 0)
+            return;
+
+        mXMin = mColumn.getX(0);
+        mXMax = mColumn.getX(count - 1);
+
+        calcMinMaxYInRange(0, count - 1);
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        if (mColumn.getCount() == 0)
+            return;
+
+        int indexFrom = mColumn.getIndex(fromX, ROUNDING_DOWN);
+        int indexTo = mColumn.getIndex(toX, ROUNDING_UP);
+
+        if (indexTo < indexFrom) return;
+
+        calcMinMaxYInRange(indexFrom, indexTo);
+    }
+
+    private void calcMinMaxYInRange(int from, int to) {
+        float[] yValues = mYValues;
+        float yMin = mYMin;
+        float yMax = mYMax;
+
+        for (int i = from; i <= to; i++) {
+            float y = yValues[i];
+
+            if (y < yMin)
+                yMin = y;
+
+            if (y > yMax)
+                yMax = y;
+        }
+
+        mYMin = yMin;
+        mYMax = yMax;
+    }
+
+    /**
+     * Takes the count values that the group appended to the column and this DataSet into account.
+     */
+    void onValuesAppended(int count) {
+        int size = mColumn.getCount();
+
+        markValuesChanged(size - count, Integer.MAX_VALUE);
+
+        if (size == count) {
+            calcMinMax();
+            return;
+        }
+
+        mXMax = mColumn.getX(size - 1);
+
+        calcMinMaxYInRange(size - count, size - 1);
+    }
+
+    /**
+     * Takes the count values that the group removed from the start of the column and this DataSet into account.
+     */
+    void onValuesRemovedFromStart(int count) {
+        markValuesRemovedFromStart(count);
+        calcMinMax();
+    }
+
+    /**
+     * Makes room for the given number of values, keeping the first count values.
+     */
+    void ensureCapacity(int capacity) {
+        int length = mYValues.length;
+
+        if (capacity > length) {
+            mYValues = Arrays.copyOf(mYValues, Math.max(capacity, length + (length >> 1) + 1));
+        }
+    }
+
+    @Override
+    public boolean addEntry(@NotNull Entry e) {
+        throw new UnsupportedOperationException("Values are added through the SharedXDataSetGroup");
+    }
+
+    @Override
+    public void addEntryOrdered(@NotNull Entry e) {
+        throw new UnsupportedOperationException("Values are added through the SharedXDataSetGroup");
+    }
+
+    @Override
+    public boolean addEntries(@NotNull List<Entry> entries) {
+        throw new UnsupportedOperationException("Values are added through the SharedXDataSetGroup");
+    }
+
+    @Override
+    public void appendBatch(@NotNull float[] xValues, @NotNull float[] yValues, int offset, int count) {
+        throw new UnsupportedOperationException("Values are added through the SharedXDataSetGroup");
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        throw new UnsupportedOperationException("Values are removed through the SharedXDataSetGroup");
+    }
+
+    @Override
+    public boolean removeEntry(@NotNull Entry e) {
+        throw new UnsupportedOperationException("Values are removed through the SharedXDataSetGroup");
+    }
+
+    @Override
+    public boolean removeFirst() {
+        throw new UnsupportedOperationException("Values are removed through the SharedXDataSetGroup");
+    }
+
+    @Override
+    public boolean removeLast() {
+        throw new UnsupportedOperationException("Values are removed through the SharedXDataSetGroup");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("Values are removed through the SharedXDataSetGroup");
+    }
+
+    @Override
+    public void setEntries(@NotNull List<Entry> entries) {
+        throw new UnsupportedOperationException("Values are set through the SharedXDataSetGroup");
+    }
+
+    /**
+     * Returns an independent ColumnarLineDataSet with a copy of the values, as the copy cannot share the column.
+     */
+    @Override
+    @NotNull
+    public DataSet<Entry> copy() {
+        int count = mColumn.getCount();
+
+        ColumnarLineDataSet copied = new ColumnarLineDataSet(
+                Arrays.copyOf(mColumn.getXValues(), count),
+                Arrays.copyOf(mYValues, count),
+                getLabel()
+        );
+        copy(copied);
+        return copied;
+    }
+}
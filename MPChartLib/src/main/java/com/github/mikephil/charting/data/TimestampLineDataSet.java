@@ -0,0 +1,397 @@
+package com.github.mikephil.charting.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * LineDataSet for time series with 64-bit timestamps (e.g. epoch milliseconds), which cannot be used as float
+ * x-values without losing their precision. The timestamps are stored as int offsets from a long base, in units of
+ * a given number of milliseconds, so they take as much memory as float x-values and are exact. The offsets may
+ * be up to 2^31 units away from the base, e.g. 24 days in milliseconds or 68 years in seconds.
+ * <p/>
+ * The x-values of the entries, which the chart, its Transformer and the IAxisValueFormatter of the x-axis work
+ * with, are the offsets in units from an origin (getXForTimestamp(...)). As floats are only exact for up to 2^24
+ * units, the chart moves the origin to the visible range when it is further away (see setOriginMillis(...)), so
+ * the visible x-values are always exact. Use a TimestampAxisValueFormatter created for this DataSet to label the
+ * x-axis with the timestamps, and the same unit for all the TimestampLineDataSets of a chart. As the x-values
+ * move with the origin, x-values given to the chart (e.g. to moveViewToX(...)) have to be converted with
+ * getXForTimestamp(...) when they are used, and the x-axis should not have a custom minimum or maximum.
+ */
+public class TimestampLineDataSet extends PrimitiveLineDataSet {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final long mBaseMillis;
+
+    private final long mUnitMillis;
+
+    /**
+     * the offset from the base, in units, of the x-value 0
+     */
+    private long mOrigin;
+
+    @NotNull
+    private int[] mOffsets;
+
+    @NotNull
+    private float[] mYValues;
+
+    private int mCount;
+
+    /**
+     * Creates an empty DataSet whose x-values are units of unitMillis milliseconds since the given base.
+     * The timestamps are rounded to whole units and may be up to 2^31 units away from the base. The origin of
+     * the x-values is the base.
+     */
+    public TimestampLineDataSet(long baseMillis, long unitMillis, @Nullable String label) {
+        super(label);
+
+        if (unitMillis <= 0) {
+            throw new IllegalArgumentException("unitMillis must be positive");
+        }
+
+        mBaseMillis = baseMillis;
+        mUnitMillis = unitMillis;
+        mOffsets = new int[DEFAULT_CAPACITY];
+        mYValues = new float[DEFAULT_CAPACITY];
+    }
+
+    public long getBaseMillis() {
+        return mBaseMillis;
+    }
+
+    public long getUnitMillis() {
+        return mUnitMillis;
+    }
+
+    /**
+     * Returns the timestamp of the x-value 0.
+     */
+    public long getOriginMillis() {
+        return mBaseMillis + mOrigin * mUnitMillis;
+    }
+
+    /**
+     * Moves the origin of the x-values to the given timestamp, rounded to whole units, and calls
+     * notifyDataSetChanged(). All x-values are shifted, so x-values near the origin stay exact however far the
+     * timestamps are from the base. The chart does this when its visible range is far from the origin.
+     */
+    public void setOriginMillis(long originMillis) {
+        long origin = Math.round((originMillis - mBaseMillis) / (double) mUnitMillis);
+
+        if (origin == mOrigin)
+            return;
+
+        mOrigin = origin;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns the x-value of the given timestamp, i.e. its offset from the origin in units. It's only exact for
+     * timestamps up to 2^24 units away from the origin.
+     */
+    public float getXForTimestamp(long millis) {
+        return (float) ((millis - getOriginMillis()) / (double) mUnitMillis);
+    }
+
+    /**
+     * Returns the timestamp of the given x-value, rounded to whole units.
+     */
+    public long getTimestampForX(float x) {
+        return getOriginMillis() + Math.round((double) x) * mUnitMillis;
+    }
+
+    /**
+     * Returns the exact timestamp of the entry at the given index.
+     */
+    public long getTimestampForIndex(int index) {
+        return mBaseMillis + mOffsets[index] * mUnitMillis;
+    }
+
+    /**
+     * Adds the given timestamp and y-value to the end of this DataSet.
+     * The timestamp should not be lower than the timestamp of the last entry.
+     */
+    public void addEntry(long millis, float y) {
+        insert(mCount, toOffset(millis), y);
+    }
+
+    /**
+     * Inserts the given timestamp and y-value at the position respective to the timestamp.
+     */
+    public void addEntryOrdered(long millis, float y) {
+        int offset = toOffset(millis);
+
+        // find the first value with a greater offset, so the new value is inserted after equal offsets
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (mOffsets[m] <= offset) {
+                low = m + 1;
+            } else {
+                high = m;
+            }
+        }
+
+        insert(low, offset, y);
+    }
+
+    @Override
+    public void addEntryOrdered(@NotNull Entry e) {
+        addEntryOrdered(getTimestampForX(e.getX()), e.getY());
+    }
+
+    /**
+     * Appends count timestamps and y-values with at most one array growth. The timestamps must be sorted in
+     * ascending order and must not be lower than the timestamp of the last entry.
+     */
+    public void appendBatch(@NotNull long[] timestamps, @NotNull float[] yValues, int offset, int count) {
+        if (count <= 0)
+            return;
+
+        ensureCapacity(mCount + count);
+
+        for (int i = 0; i < count; i++) {
+            mOffsets[mCount + i] = toOffset(timestamps[offset + i]);
+        }
+
+        System.arraycopy(yValues, offset, mYValues, mCount, count);
+
+        int from = mCount;
+        mCount += count;
+
+        markValuesChanged(from, Integer.MAX_VALUE);
+
+        if (from == 0) {
+            mXMin = getEntryXForIndex(0);
+        }
+
+        mXMax = getEntryXForIndex(mCount - 1);
+
+        calcMinMaxYInRange(from, mCount - 1);
+    }
+
+    /**
+     * Appends x-values given as offsets from the origin in units, see getXForTimestamp(...).
+     */
+    @Override
+    public void appendBatch(@NotNull float[] xValues, @NotNull float[] yValues, int offset, int count) {
+        for (int i = 0; i < count; i++) {
+            addEntry(new Entry(xValues[offset + i], yValues[offset + i]));
+        }
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mCount;
+    }
+
+    @Override
+    public float getEntryXForIndex(int index) {
+        return mOffsets[index] - mOrigin;
+    }
+
+    @Override
+    public float getEntryYForIndex(int index) {
+        return mYValues[index];
+    }
+
+    @Override
+    public void calcMinMax() {
+        invalidateLevelOfDetail();
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        // called by the super constructor before the arrays are assigned
+        if (mCount == 0)
+            return;
+
+        mXMin = getEntryXForIndex(0);
+        mXMax = getEntryXForIndex(mCount - 1);
+
+        calcMinMaxYInRange(0, mCount - 1);
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        if (mCount == 0)
+            return;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, ROUNDING_DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, ROUNDING_UP);
+
+        if (indexTo < indexFrom) return;
+
+        calcMinMaxYInRange(indexFrom, indexTo);
+    }
+
+    private void calcMinMaxYInRange(int from, int to) {
+        float[] yValues = mYValues;
+        float yMin = mYMin;
+        float yMax = mYMax;
+
+        for (int i = from; i <= to; i++) {
+            float y = yValues[i];
+
+            if (y < yMin)
+                yMin = y;
+
+            if (y > yMax)
+                yMax = y;
+        }
+
+        mYMin = yMin;
+        mYMax = yMax;
+    }
+
+    /**
+     * Inserts the given Entry at the given index, its x-value is rounded to whole units.
+     */
+    @Override
+    protected void insertEntry(int index, @NotNull Entry e) {
+        insert(index, xToOffset(e.getX()), e.getY());
+    }
+
+    @Override
+    protected void setEntry(int index, @NotNull Entry e) {
+        mOffsets[index] = xToOffset(e.getX());
+        mYValues[index] = e.getY();
+
+        markValuesChanged(index, index);
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        if (index < 0 || index >= mCount)
+            return false;
+
+        Entry e = getEntryForIndex(index);
+
+        System.arraycopy(mOffsets, index + 1, mOffsets, index, mCount - index - 1);
+        System.arraycopy(mYValues, index + 1, mYValues, index, mCount - index - 1);
+        mCount--;
+
+        if (index == 0) {
+            markValuesRemovedFromStart(1);
+        } else {
+            markValuesChanged(index, Integer.MAX_VALUE);
+        }
+
+        calcMinMaxOnRemove(e);
+
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        mCount = 0;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Replaces the values of this DataSet with the values of the given entries and calls notifyDataSetChanged()
+     */
+    @Override
+    public void setEntries(@NotNull List<Entry> entries) {
+        int size = entries.size();
+
+        mCount = 0;
+        ensureCapacity(size);
+
+        for (int i = 0; i < size; i++) {
+            Entry e = entries.get(i);
+
+            mOffsets[i] = xToOffset(e.getX());
+            mYValues[i] = e.getY();
+        }
+
+        mCount = size;
+        notifyDataSetChanged();
+    }
+
+    @Override
+    @NotNull
+    public DataSet<Entry> copy() {
+        TimestampLineDataSet copied = new TimestampLineDataSet(mBaseMillis, mUnitMillis, getLabel());
+        copied.mOffsets = Arrays.copyOf(mOffsets, Math.max(mCount, 1));
+        copied.mYValues = Arrays.copyOf(mYValues, Math.max(mCount, 1));
+        copied.mCount = mCount;
+        copied.mOrigin = mOrigin;
+        copied.calcMinMax();
+        copy(copied);
+        return copied;
+    }
+
+    private int toOffset(long millis) {
+        long offset = Math.round((millis - mBaseMillis) / (double) mUnitMillis);
+
+        if (offset < Integer.MIN_VALUE || offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Timestamp " + millis + " is more than 2^31 units away from the base "
+                    + mBaseMillis + ", use a larger unit");
+        }
+
+        return (int) offset;
+    }
+
+    /**
+     * Converts an x-value, relative to the origin, to an offset from the base.
+     */
+    private int xToOffset(float x) {
+        long offset = Math.round((double) x) + mOrigin;
+
+        if (offset < Integer.MIN_VALUE || offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("x-value " + x + " is more than 2^31 units away from the base");
+        }
+
+        return (int) offset;
+    }
+
+    private void insert(int index, int offset, float y) {
+        ensureCapacity(mCount + 1);
+
+        System.arraycopy(mOffsets, index, mOffsets, index + 1, mCount - index);
+        System.arraycopy(mYValues, index, mYValues, index + 1, mCount - index);
+
+        mOffsets[index] = offset;
+        mYValues[index] = y;
+        mCount++;
+
+        markValuesChanged(index, Integer.MAX_VALUE);
+
+        float x = getEntryXForIndex(index);
+
+        if (x < mXMin)
+            mXMin = x;
+
+        if (x > mXMax)
+            mXMax = x;
+
+        if (y < mYMin)
+            mYMin = y;
+
+        if (y > mYMax)
+            mYMax = y;
+    }
+
+    private void ensureCapacity(int capacity) {
+        int length = mOffsets.length;
+
+        if (capacity > length) {
+            int newLength = Math.max(capacity, length + (length >> 1) + 1);
+
+            mOffsets = Arrays.copyOf(mOffsets, newLength);
+            mYValues = Arrays.copyOf(mYValues, newLength);
+        }
+    }
+}
@@ -1,4 +1,3 @@
-
 package com.github.mikephil.charting.data.filter;
 
 import android.annotation.TargetApi;
@@ -7,89 +6,216 @@ import android.os.Build;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Implemented according to Wiki-Pseudocode {@link}
  * http://en.wikipedia.org/wiki/Ramer�Douglas�Peucker_algorithm
+ * <p/>
+ * The polyline is not copied while it is reduced: the segments that still have to be checked are kept on an
+ * explicit stack of index pairs, and the points that remain are marked in a bitmap over the original array.
+ * Long polylines can be reduced in parallel on a ForkJoinPool.
  *
  * @author Philipp Baldauf & Phliipp Jahoda
  */
 public class Approximator {
 
-    @TargetApi(Build.VERSION_CODES.GINGERBREAD)
-    public float[] reduceWithDouglasPeucker(float[] points, float tolerance) {
-        int greatestIndex = 0;
-        float greatestDistance = 0f;
+    /**
+     * segments with less points are not split into further parallel tasks
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
 
-        Line line = new Line(points[0], points[1], points[points.length - 2], points[points.length - 1]);
+    private int mParallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
 
-        for (int i = 2; i < points.length - 2; i += 2) {
+    /**
+     * Sets the minimum number of points of a segment for reducing its two halves in parallel,
+     * see reduceWithDouglasPeucker(float[], float, ForkJoinPool). Default: DEFAULT_PARALLEL_THRESHOLD
+     */
+    public void setParallelThreshold(int points) {
+        mParallelThreshold = Math.max(3, points);
+    }
 
-            float distance = line.distance(points[i], points[i + 1]);
+    /**
+     * Reduces the given points (x and y interleaved) to the ones that are further than the tolerance from
+     * the simplified line.
+     */
+    @NotNull
+    public float[] reduceWithDouglasPeucker(@NotNull float[] points, float tolerance) {
+        int pointCount = points.length / 2;
 
-            if (distance > greatestDistance) {
-                greatestDistance = distance;
-                greatestIndex = i;
-            }
-        }
+        if (pointCount <= 2)
+            return Arrays.copyOf(points, points.length);
+
+        boolean[] keep = createKeep(pointCount);
+        reduce(points, 0, pointCount - 1, tolerance, keep);
+
+        return collect(points, keep);
+    }
+
+    /**
+     * Same as reduceWithDouglasPeucker(float[], float), but the halves of segments with at least
+     * the parallel threshold of points are reduced in parallel on the given pool.
+     */
+    @NotNull
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    public float[] reduceWithDouglasPeucker(@NotNull float[] points, float tolerance, @NotNull ForkJoinPool pool) {
+        int pointCount = points.length / 2;
+
+        if (pointCount <= 2)
+            return Arrays.copyOf(points, points.length);
+
+        boolean[] keep = createKeep(pointCount);
+        pool.invoke(new ReduceTask(points, 0, pointCount - 1, tolerance, keep, mParallelThreshold));
+
+        return collect(points, keep);
+    }
+
+    @NotNull
+    private static boolean[] createKeep(int pointCount) {
+        boolean[] keep = new boolean[pointCount];
+
+        // first and last always stay
+        keep[0] = true;
+        keep[pointCount - 1] = true;
+
+        return keep;
+    }
+
+    /**
+     * Marks the points between the start and the end point (by index) that remain.
+     */
+    private static void reduce(@NotNull float[] points, int start, int end, float tolerance, @NotNull boolean[] keep) {
+        int[] stack = new int[64];
+        int size = 0;
+
+        stack[size++] = start;
+        stack[size++] = end;
+
+        while (size > 0) {
+            end = stack[--size];
+            start = stack[--size];
+
+            int index = findFarthest(points, start, end, tolerance);
+
+            if (index < 0)
+                continue;
 
-        if (greatestDistance > tolerance) {
-            float[] reduced1 = reduceWithDouglasPeucker(Arrays.copyOfRange(points, 0, greatestIndex + 2), tolerance);
-            float[] reduced2 = reduceWithDouglasPeucker(Arrays.copyOfRange(points, greatestIndex, points.length),
-                    tolerance);
+            keep[index] = true;
 
-            float[] result2 = Arrays.copyOfRange(reduced2, 2, reduced2.length);
+            if (size + 4 > stack.length)
+                stack = Arrays.copyOf(stack, stack.length * 2);
 
-            return concat(reduced1, result2);
-        } else {
-            return line.points;
+            // the right half is pushed first, so the points are visited from left to right
+            if (end - index > 1) {
+                stack[size++] = index;
+                stack[size++] = end;
+            }
+
+            if (index - start > 1) {
+                stack[size++] = start;
+                stack[size++] = index;
+            }
         }
     }
 
     /**
-     * Combine arrays.
+     * Returns the index of the point between start and end that is farthest from the line through them,
+     * or -1 if no point is further than the tolerance.
      */
+    private static int findFarthest(@NotNull float[] points, int start, int end, float tolerance) {
+        float x1 = points[start * 2];
+        float y1 = points[start * 2 + 1];
+        float x2 = points[end * 2];
+        float y2 = points[end * 2 + 1];
+
+        float dx = x1 - x2;
+        float dy = y1 - y2;
+        float sxey = x1 * y2;
+        float exsy = x2 * y1;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+        int greatestIndex = -1;
+        float greatestDistance = 0f;
+
+        for (int i = start + 1, i2 = i * 2; i < end; i++, i2 += 2) {
+            float distance = Math.abs(dy * points[i2] - dx * points[i2 + 1] + sxey - exsy) / length;
+
+            if (distance > greatestDistance) {
+                greatestDistance = distance;
+                greatestIndex = i;
+            }
+        }
+
+        return greatestDistance > tolerance ? greatestIndex : -1;
+    }
+
     @NotNull
-    float[] concat(@NotNull float[]... arrays) {
-        int length = 0;
-        for (float[] array : arrays) {
-            length += array.length;
+    private static float[] collect(@NotNull float[] points, @NotNull boolean[] keep) {
+        int count = 0;
+
+        for (boolean k : keep) {
+            if (k)
+                count++;
         }
 
-        float[] result = new float[length];
-        int index = 0;
-        for (float[] array : arrays) {
-            for (float element : array) {
-                result[index++] = element;
+        float[] result = new float[count * 2];
+
+        for (int i = 0, j = 0; i < keep.length; i++) {
+            if (keep[i]) {
+                result[j++] = points[i * 2];
+                result[j++] = points[i * 2 + 1];
             }
         }
 
         return result;
     }
 
-    private static final class Line {
-        public final float[] points;
-
-        private final float sxey;
-        private final float exsy;
+    /**
+     * Splits a segment at its farthest point and reduces the halves in parallel, or sequentially below the
+     * threshold. The tasks mark disjoint ranges of the bitmap.
+     */
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    private static final class ReduceTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        @NotNull
+        private final float[] mPoints;
+
+        @NotNull
+        private final boolean[] mKeep;
+
+        private final int mStart;
+        private final int mEnd;
+        private final float mTolerance;
+        private final int mThreshold;
+
+        ReduceTask(@NotNull float[] points, int start, int end, float tolerance, @NotNull boolean[] keep, int threshold) {
+            mPoints = points;
+            mStart = start;
+            mEnd = end;
+            mTolerance = tolerance;
+            mKeep = keep;
+            mThreshold = threshold;
+        }
 
-        private final float dx;
-        private final float dy;
+        @Override
+        protected void compute() {
+            if (mEnd - mStart < mThreshold) {
+                reduce(mPoints, mStart, mEnd, mTolerance, mKeep);
+                return;
+            }
 
-        private final float length;
+            int index = findFarthest(mPoints, mStart, mEnd, mTolerance);
 
-        public Line(float x1, float y1, float x2, float y2) {
-            dx = x1 - x2;
-            dy = y1 - y2;
-            sxey = x1 * y2;
-            exsy = x2 * y1;
-            length = (float) Math.sqrt(dx * dx + dy * dy);
+            if (index < 0)
+                return;
 
-            points = new float[] { x1, y1, x2, y2 };
-        }
+            mKeep[index] = true;
 
-        public float distance(float x, float y) {
-            return Math.abs(dy * x - dx * y + sxey - exsy) / length;
+            invokeAll(
+                    new ReduceTask(mPoints, mStart, index, mTolerance, mKeep, mThreshold),
+                    new ReduceTask(mPoints, index, mEnd, mTolerance, mKeep, mThreshold));
         }
     }
 }
@@ -54,11 +54,11 @@ public class ApproximatorN {
                 int insertionIndex = insertionIndex(right, queue);
                 queue.add(insertionIndex, right);
             }
-        } while (queue.isEmpty());
+        } while (!queue.isEmpty());
 
         float[] reducedEntries = new float[currentStoredPoints * 2];
 
-        for (int i = 0, i2 = 0, r2 = 0; i < currentStoredPoints; i++, r2 += 2) {
+        for (int i = 0, i2 = 0, r2 = 0; i < pointCount; i++, r2 += 2) {
             if (keep[i]) {
                 reducedEntries[i2++] = points[r2];
                 reducedEntries[i2++] = points[r2 + 1];
@@ -125,7 +125,7 @@ public class ApproximatorN {
         int min = 0;
         int max = queue.size();
 
-        while (!queue.isEmpty()) {
+        while (min < max) {
             int midIndex = min + (max - min) / 2;
             Line midLine = queue.get(midIndex);
 
@@ -0,0 +1,156 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Downsampling with the Largest-Triangle-Three-Buckets algorithm by Sveinn Steinarsson {@link}
+ * https://skemman.is/bitstream/1946/15343/3/SS_MSthesis.pdf
+ * <p/>
+ * The values are split into buckets of equal size, and from every bucket the point is kept that forms the
+ * largest triangle with the point kept from the previous bucket and the average of the next bucket. This keeps
+ * the peaks and the overall shape of the line, so a series that is reduced to about one point per pixel looks
+ * the same as the full series. The first and the last point are always kept.
+ * <p/>
+ * The methods work on primitive arrays of values sorted by x and don't allocate.
+ */
+public class LargestTriangleThreeBuckets {
+
+    /**
+     * Reduces the values from index from (inclusive) to to (exclusive) to the given number of points, which
+     * are written to outX and outY starting at index 0. If the range has no more than threshold values (or
+     * threshold is lower than 3), the values are copied unchanged.
+     *
+     * @return the number of points that were written
+     */
+    public int downsample(
+            @NotNull float[] xValues,
+            @NotNull float[] yValues,
+            int from,
+            int to,
+            int threshold,
+            @NotNull float[] outX,
+            @NotNull float[] outY
+    ) {
+        int count = to - from;
+
+        if (count <= 0)
+            return 0;
+
+        if (threshold >= count || threshold < 3) {
+            System.arraycopy(xValues, from, outX, 0, count);
+            System.arraycopy(yValues, from, outY, 0, count);
+            return count;
+        }
+
+        // the first and the last point get a bucket of their own
+        double bucketSize = (double) (count - 2) / (threshold - 2);
+
+        int selected = from;
+        int out = 0;
+
+        outX[out] = xValues[from];
+        outY[out] = yValues[from];
+        out++;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int bucketStart = from + 1 + (int) (bucket * bucketSize);
+            int bucketEnd = from + 1 + (int) ((bucket + 1) * bucketSize);
+
+            // average of the next bucket, which is the last point for the last bucket
+            int nextStart = bucketEnd;
+            int nextEnd = Math.min(from + 1 + (int) ((bucket + 2) * bucketSize), to);
+
+            if (nextStart >= to - 1) {
+                nextStart = to - 1;
+                nextEnd = to;
+            }
+
+            double avgX = 0;
+            double avgY = 0;
+
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += xValues[i];
+                avgY += yValues[i];
+            }
+
+            avgX /= nextEnd - nextStart;
+            avgY /= nextEnd - nextStart;
+
+            double ax = xValues[selected];
+            double ay = yValues[selected];
+
+            double maxArea = -1;
+            int maxIndex = bucketStart;
+
+            for (int i = bucketStart; i < bucketEnd; i++) {
+                // twice the area, which is enough for comparing
+                double area = Math.abs((ax - avgX) * (yValues[i] - ay) - (ax - xValues[i]) * (avgY - ay));
+
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            outX[out] = xValues[maxIndex];
+            outY[out] = yValues[maxIndex];
+            out++;
+
+            selected = maxIndex;
+        }
+
+        outX[out] = xValues[to - 1];
+        outY[out] = yValues[to - 1];
+        out++;
+
+        return out;
+    }
+
+    /**
+     * Reduces the first count values that are currently visible in the given chart to one point per pixel of
+     * the content width. The values next to the visible range are included, so the line reaches the edges of
+     * the chart. outX and outY must have room for the width of the content in pixels (plus 2).
+     *
+     * @return the number of points that were written
+     */
+    public int downsampleVisible(
+            @NotNull BarLineScatterCandleBubbleDataProvider<?, ?, ?> chart,
+            @NotNull float[] xValues,
+            @NotNull float[] yValues,
+            int count,
+            @NotNull float[] outX,
+            @NotNull float[] outY
+    ) {
+        if (count <= 0)
+            return 0;
+
+        int from = Math.max(0, lowerBound(xValues, count, chart.getLowestVisibleX()) - 1);
+        int to = Math.min(count, lowerBound(xValues, count, chart.getHighestVisibleX()) + 1);
+
+        int threshold = (int) Math.ceil(chart.getContentRect().width()) + 2;
+
+        return downsample(xValues, yValues, from, to, threshold, outX, outY);
+    }
+
+    /**
+     * Returns the index of the first of the count values that is not lower than x.
+     */
+    private static int lowerBound(@NotNull float[] values, int count, float x) {
+        int low = 0;
+        int high = count;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (values[mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.mikephil.charting.formatter;
+
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.data.TimestampLineDataSet;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.DateFormat;
+import java.util.Date;
+
+/**
+ * Formats x-values that are offsets from a base timestamp, as used by TimestampLineDataSet, as dates. The offset
+ * is added to the base in long arithmetic, so the labels keep millisecond precision far away from 1970. A formatter
+ * created for a TimestampLineDataSet follows the origin of its x-values when the chart moves it.
+ */
+public class TimestampAxisValueFormatter implements IAxisValueFormatter {
+
+    @NotNull
+    private final DateFormat mFormat;
+
+    private final long mBaseMillis;
+
+    private final long mUnitMillis;
+
+    /**
+     * the DataSet whose origin is the base, null if the base is fixed
+     */
+    @Nullable
+    private final TimestampLineDataSet mDataSet;
+
+    /**
+     * reused for every label to avoid allocations
+     */
+    @NotNull
+    private final Date mDate = new Date();
+
+    /**
+     * @param baseMillis the timestamp of the x-value 0
+     * @param unitMillis the milliseconds of one x-unit
+     */
+    public TimestampAxisValueFormatter(@NotNull DateFormat format, long baseMillis, long unitMillis) {
+        mFormat = format;
+        mBaseMillis = baseMillis;
+        mUnitMillis = unitMillis;
+        mDataSet = null;
+    }
+
+    /**
+     * Creates a formatter for the x-values of the given DataSet, relative to its current origin.
+     */
+    public TimestampAxisValueFormatter(@NotNull DateFormat format, @NotNull TimestampLineDataSet dataSet) {
+        mFormat = format;
+        mBaseMillis = dataSet.getBaseMillis();
+        mUnitMillis = dataSet.getUnitMillis();
+        mDataSet = dataSet;
+    }
+
+    @Override
+    @NotNull
+    public String getFormattedValue(float value, @Nullable AxisBase axis) {
+        long base = mDataSet != null ? mDataSet.getOriginMillis() : mBaseMillis;
+
+        mDate.setTime(base + Math.round((double) value * mUnitMillis));
+        return mFormat.format(mDate);
+    }
+}
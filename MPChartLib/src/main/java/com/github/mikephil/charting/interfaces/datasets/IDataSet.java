@@ -9,6 +9,7 @@ import androidx.annotation.ColorInt;
 import com.github.mikephil.charting.components.Legend;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.DirtyRange;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -48,6 +49,20 @@ public interface IDataSet<T extends Entry> {
      */
     int getEntryCount();
 
+    /**
+     * Returns the modification version of the values, which is incremented on every change of the values
+     * (including notifyDataSetChanged()). Caches of values derived from the DataSet are valid as long as
+     * the version is the same.
+     */
+    int getVersion();
+
+    /**
+     * Writes the changes of the values since the given version to outRange, so a cache that was built for
+     * that version can be updated incrementally. Only the last few versions are kept, for older ones (or
+     * unknown changes) outRange.all is set.
+     */
+    void getDirtyRange(int sinceVersion, @NotNull DirtyRange outRange);
+
     /**
      * Calculates the minimum and maximum x and y values (mXMin, mXMax, mYMin, mYMax).
      */
@@ -105,6 +120,20 @@ public interface IDataSet<T extends Entry> {
     @NotNull
     T getEntryForIndex(int index);
 
+    /**
+     * Returns the x-value of the Entry at the given index (NOT xIndex) in the values array.
+     * DataSets backed by primitive storage answer this without creating an Entry object,
+     * so it should be preferred over getEntryForIndex(index).getX() in performance critical code.
+     */
+    float getEntryXForIndex(int index);
+
+    /**
+     * Returns the y-value of the Entry at the given index (NOT xIndex) in the values array.
+     * DataSets backed by primitive storage answer this without creating an Entry object,
+     * so it should be preferred over getEntryForIndex(index).getY() in performance critical code.
+     */
+    float getEntryYForIndex(int index);
+
     /**
      * Returns the first Entry index found at the given x-value with binary
      * search.
@@ -120,6 +149,14 @@ public interface IDataSet<T extends Entry> {
      */
     int getEntryIndex(float xValue, float closestToY, @DataSet.Rounding int rounding);
 
+    /**
+     * Finds the range of entry indices that covers the x-range from fromX to toX with one binary
+     * search per bound. The lower bound is rounded down and the upper bound is rounded up, so the
+     * entries right outside the range are included. The lower index is written to outRange[0] and
+     * the upper index to outRange[1]; both are -1 if the DataSet is empty.
+     */
+    void getEntryIndexRange(float fromX, float toX, @NotNull int[] outRange);
+
     /**
      * Returns the position of the provided entry in the DataSets Entry array.
      * Returns -1 if doesn't exist.
@@ -150,6 +187,13 @@ public interface IDataSet<T extends Entry> {
      */
     void addEntryOrdered(@NotNull T e);
 
+    /**
+     * Adds all the given entries to the end of the DataSet at once.
+     * Unlike calling addEntry(...) for every Entry, the values array grows at most once.
+     * Returns true if the DataSet changed.
+     */
+    boolean addEntries(@NotNull List<T> entries);
+
     /**
      * Removes the first Entry (at index 0) of this DataSet from the entries array.
      * Returns true if successful, false if not.
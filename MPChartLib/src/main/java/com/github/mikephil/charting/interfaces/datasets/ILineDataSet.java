@@ -5,7 +5,9 @@ import android.graphics.DashPathEffect;
 import androidx.annotation.ColorInt;
 
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LevelOfDetailPyramid;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.LineSimplification;
 import com.github.mikephil.charting.formatter.IFillFormatter;
 
 import org.jetbrains.annotations.NotNull;
@@ -88,4 +90,33 @@ public interface ILineDataSet extends ILineRadarDataSet<Entry> {
      */
     @Nullable
     IFillFormatter getFillFormatter();
+
+    /**
+     * Returns the level of detail pyramid of the y-values that is used for drawing huge series,
+     * or null if it's disabled.
+     */
+    @Nullable
+    LevelOfDetailPyramid getLevelOfDetail();
+
+    /**
+     * Returns the distance in pixels within which entries are dropped when drawing, 0 if disabled.
+     */
+    float getSimplificationTolerance();
+
+    /**
+     * Returns true if the line is drawn with at most 4 points per pixel column.
+     */
+    boolean isDrawM4Enabled();
+
+    /**
+     * Returns the cached simplification of the line, or null if it's disabled.
+     */
+    @Nullable
+    LineSimplification getSimplification();
+
+    /**
+     * Appends count values, starting at offset in the given arrays, to the end of the DataSet at once.
+     * The x-values must be sorted in ascending order and must not be lower than the x-value of the last entry.
+     */
+    void appendBatch(@NotNull float[] xValues, @NotNull float[] yValues, int offset, int count);
 }
\ No newline at end of file
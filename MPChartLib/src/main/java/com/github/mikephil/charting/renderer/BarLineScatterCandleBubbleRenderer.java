@@ -3,7 +3,6 @@ package com.github.mikephil.charting.renderer;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.charts.Chart;
 import com.github.mikephil.charting.data.ChartData;
-import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
@@ -12,6 +11,8 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.WeakHashMap;
+
 /**
  * Created by Philipp Jahoda on 09/06/16.
  */
@@ -22,6 +23,23 @@ public abstract class BarLineScatterCandleBubbleRenderer<TDataSet extends IBarLi
     @NotNull
     protected XBounds mXBounds = new XBounds();
 
+    /**
+     * number of the current frame, the cached bounds are only valid for the frame they were computed in
+     */
+    private int mFrame;
+
+    /**
+     * visible bounds of every DataSet, they are computed once per frame and shared across all the draw passes
+     */
+    @NotNull
+    private final WeakHashMap<IDataSet<?>, XBounds> mXBoundsCache = new WeakHashMap<>();
+
+    /**
+     * buffer for the index range query of XBounds
+     */
+    @NotNull
+    private final int[] mIndexRangeBuffer = new int[2];
+
     public BarLineScatterCandleBubbleRenderer(
             @NotNull ChartAnimator animator,
             @NotNull ViewPortHandler viewPortHandler
@@ -48,6 +66,14 @@ public abstract class BarLineScatterCandleBubbleRenderer<TDataSet extends IBarLi
         return !(entryIndex >= set.getEntryCount() * mAnimator.getPhaseX());
     }
 
+    /**
+     * Called at the start of every frame. Invalidates the visible bounds that were cached during the previous frame.
+     */
+    @Override
+    public void onFrameStart() {
+        mFrame++;
+    }
+
     /**
      * Class representing the bounds of the current viewport in terms of indices in the values array of a DataSet.
      */
@@ -67,9 +93,19 @@ public abstract class BarLineScatterCandleBubbleRenderer<TDataSet extends IBarLi
          */
         public int range;
 
+        /**
+         * the input the bounds were computed from, used to validate cached bounds
+         */
+        private int mComputedFrame = -1;
+        private float mLow;
+        private float mHigh;
+        private float mPhaseX;
+        private int mEntryCount;
+
         /**
          * Calculates the minimum and maximum x values as well as the range between them.
-         *
+         * The bounds of a DataSet are computed at most once per frame, the following calls (e.g. from drawValues(...) or
+         * drawExtras(...)) reuse them.
          */
         public void set(
                 BarLineScatterCandleBubbleDataProvider<? extends ChartData<TDataSet, TEntry>, TDataSet, TEntry> chart,
@@ -79,13 +115,37 @@ public abstract class BarLineScatterCandleBubbleRenderer<TDataSet extends IBarLi
 
             float low = chart.getLowestVisibleX();
             float high = chart.getHighestVisibleX();
+            int entryCount = dataSet.getEntryCount();
+
+            XBounds cached = mXBoundsCache.get(dataSet);
+
+            if (cached == null) {
+                cached = new XBounds();
+                mXBoundsCache.put(dataSet, cached);
+            }
+
+            if (cached.mComputedFrame != mFrame ||
+                    cached.mLow != low ||
+                    cached.mHigh != high ||
+                    cached.mPhaseX != phaseX ||
+                    cached.mEntryCount != entryCount) {
+                int[] indexRange = mIndexRangeBuffer;
+                dataSet.getEntryIndexRange(low, high, indexRange);
+
+                cached.min = Math.max(indexRange[0], 0);
+                cached.max = Math.max(indexRange[1], 0);
+                cached.range = (int) ((cached.max - cached.min) * phaseX);
 
-            TEntry entryFrom = dataSet.getEntryForXValue(low, Float.NaN, DataSet.ROUNDING_DOWN);
-            TEntry entryTo = dataSet.getEntryForXValue(high, Float.NaN, DataSet.ROUNDING_UP);
+                cached.mComputedFrame = mFrame;
+                cached.mLow = low;
+                cached.mHigh = high;
+                cached.mPhaseX = phaseX;
+                cached.mEntryCount = entryCount;
+            }
 
-            min = entryFrom == null ? 0 : dataSet.getEntryIndex(entryFrom);
-            max = entryTo == null ? 0 : dataSet.getEntryIndex(entryTo);
-            range = (int) ((max - min) * phaseX);
+            min = cached.min;
+            max = cached.max;
+            range = cached.range;
         }
     }
 }
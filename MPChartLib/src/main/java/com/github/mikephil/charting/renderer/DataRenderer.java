@@ -122,6 +122,13 @@ public abstract class DataRenderer extends Renderer {
      */
     public abstract void initBuffers();
 
+    /**
+     * Called by the chart at the start of every frame, before any of the draw methods.
+     * Renderers that share computations across the draw passes of a frame reset them here.
+     */
+    public void onFrameStart() {
+    }
+
     /**
      * Draws the actual data in form of lines, bars, ... depending on Renderer subclass.
      */
@@ -10,8 +10,10 @@ import android.graphics.drawable.Drawable;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.charts.LineChart;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LevelOfDetailPyramid;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.LineSimplification;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
@@ -23,8 +25,10 @@ import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 
@@ -56,6 +60,12 @@ public class LineChartRenderer extends LineRadarRenderer<ILineDataSet, Entry> {
     protected Path cubicPath = new Path();
     protected Path cubicFillPath = new Path();
 
+    /**
+     * prepares the pixels of linear lines on a worker thread, null if disabled
+     */
+    @Nullable
+    protected RenderPreparer mRenderPreparer;
+
     public LineChartRenderer(LineDataProvider chart, ChartAnimator animator,
                              ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -70,6 +80,19 @@ public class LineChartRenderer extends LineRadarRenderer<ILineDataSet, Entry> {
     public void initBuffers() {
     }
 
+    /**
+     * Sets the RenderPreparer that computes the pixels of linear lines with a single color on a worker thread,
+     * null draws them directly.
+     */
+    public void setRenderPreparer(@Nullable RenderPreparer preparer) {
+        mRenderPreparer = preparer;
+    }
+
+    @Nullable
+    public RenderPreparer getRenderPreparer() {
+        return mRenderPreparer;
+    }
+
     @Override
     public void drawData(@NotNull Canvas c) {
         int width = (int) mViewPortHandler.getChartWidth();
@@ -135,22 +158,26 @@ public class LineChartRenderer extends LineRadarRenderer<ILineDataSet, Entry> {
         cubicPath.reset();
 
         if (mXBounds.range >= 1) {
-            Entry prev = dataSet.getEntryForIndex(mXBounds.min);
-            Entry cur = prev;
+            float prevX;
+            float prevY;
+            float curX = dataSet.getEntryXForIndex(mXBounds.min);
+            float curY = dataSet.getEntryYForIndex(mXBounds.min);
 
             // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+            cubicPath.moveTo(curX, curY * phaseY);
 
             for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
-                prev = cur;
-                cur = dataSet.getEntryForIndex(j);
+                prevX = curX;
+                prevY = curY;
+                curX = dataSet.getEntryXForIndex(j);
+                curY = dataSet.getEntryYForIndex(j);
 
-                float cpx = (prev.getX()) + (cur.getX() - prev.getX()) * 0.5f;
+                float cpx = prevX + (curX - prevX) * 0.5f;
 
                 cubicPath.cubicTo(
-                        cpx, prev.getY() * phaseY,
-                        cpx, cur.getY() * phaseY,
-                        cur.getX(), cur.getY() * phaseY);
+                        cpx, prevY * phaseY,
+                        cpx, curY * phaseY,
+                        curX, curY * phaseY);
             }
         }
 
@@ -194,32 +221,50 @@ public class LineChartRenderer extends LineRadarRenderer<ILineDataSet, Entry> {
             // And in the `lastIndex`, add +1
 
             int firstIndex = mXBounds.min + 1;
-
-            Entry prevPrev;
-            Entry prev = dataSet.getEntryForIndex(Math.max(firstIndex - 2, 0));
-            Entry cur = dataSet.getEntryForIndex(Math.max(firstIndex - 1, 0));
-            Entry next = cur;
+            int entryCount = dataSet.getEntryCount();
+
+            int prevIndex = Math.max(firstIndex - 2, 0);
+            int curIndex = Math.max(firstIndex - 1, 0);
+
+            float prevPrevX;
+            float prevPrevY;
+            float prevX = dataSet.getEntryXForIndex(prevIndex);
+            float prevY = dataSet.getEntryYForIndex(prevIndex);
+            float curX = dataSet.getEntryXForIndex(curIndex);
+            float curY = dataSet.getEntryYForIndex(curIndex);
+            float nextX = curX;
+            float nextY = curY;
             int nextIndex = -1;
 
             // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+            cubicPath.moveTo(curX, curY * phaseY);
 
             for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
-                prevPrev = prev;
-                prev = cur;
-                cur = nextIndex == j ? next : dataSet.getEntryForIndex(j);
+                prevPrevX = prevX;
+                prevPrevY = prevY;
+                prevX = curX;
+                prevY = curY;
+
+                if (nextIndex == j) {
+                    curX = nextX;
+                    curY = nextY;
+                } else {
+                    curX = dataSet.getEntryXForIndex(j);
+                    curY = dataSet.getEntryYForIndex(j);
+                }
 
-                nextIndex = j + 1 < dataSet.getEntryCount() ? j + 1 : j;
-                next = dataSet.getEntryForIndex(nextIndex);
+                nextIndex = j + 1 < entryCount ? j + 1 : j;
+                nextX = dataSet.getEntryXForIndex(nextIndex);
+                nextY = dataSet.getEntryYForIndex(nextIndex);
 
-                prevDx = (cur.getX() - prevPrev.getX()) * intensity;
-                prevDy = (cur.getY() - prevPrev.getY()) * intensity;
-                curDx = (next.getX() - prev.getX()) * intensity;
-                curDy = (next.getY() - prev.getY()) * intensity;
+                prevDx = (curX - prevPrevX) * intensity;
+                prevDy = (curY - prevPrevY) * intensity;
+                curDx = (nextX - prevX) * intensity;
+                curDy = (nextY - prevY) * intensity;
 
-                cubicPath.cubicTo(prev.getX() + prevDx, (prev.getY() + prevDy) * phaseY,
-                        cur.getX() - curDx,
-                        (cur.getY() - curDy) * phaseY, cur.getX(), cur.getY() * phaseY);
+                cubicPath.cubicTo(prevX + prevDx, (prevY + prevDy) * phaseY,
+                        curX - curDx,
+                        (curY - curDy) * phaseY, curX, curY * phaseY);
             }
         }
 
@@ -249,8 +294,8 @@ public class LineChartRenderer extends LineRadarRenderer<ILineDataSet, Entry> {
     ) {
         float fillMin = dataSet.getFillFormatter().getFillLinePosition(dataSet, mChart);
 
-        spline.lineTo(dataSet.getEntryForIndex(bounds.min + bounds.range).getX(), fillMin);
-        spline.lineTo(dataSet.getEntryForIndex(bounds.min).getX(), fillMin);
+        spline.lineTo(dataSet.getEntryXForIndex(bounds.min + bounds.range), fillMin);
+        spline.lineTo(dataSet.getEntryXForIndex(bounds.min), fillMin);
         spline.close();
 
         trans.pathValueToPixel(spline);
@@ -307,24 +352,23 @@ public class LineChartRenderer extends LineRadarRenderer<ILineDataSet, Entry> {
             int max = mXBounds.min + mXBounds.range;
 
             for (int j = mXBounds.min; j < max; j++) {
-                Entry e = dataSet.getEntryForIndex(j);
-
-                mLineBuffer[0] = e.getX();
-                mLineBuffer[1] = e.getY() * phaseY;
+                mLineBuffer[0] = dataSet.getEntryXForIndex(j);
+                mLineBuffer[1] = dataSet.getEntryYForIndex(j) * phaseY;
 
                 if (j < mXBounds.max) {
-                    e = dataSet.getEntryForIndex(j + 1);
+                    float nextX = dataSet.getEntryXForIndex(j + 1);
+                    float nextY = dataSet.getEntryYForIndex(j + 1);
 
-                    mLineBuffer[2] = e.getX();
+                    mLineBuffer[2] = nextX;
 
                     if (isDrawSteppedEnabled) {
                         mLineBuffer[3] = mLineBuffer[1];
                         mLineBuffer[4] = mLineBuffer[2];
                         mLineBuffer[5] = mLineBuffer[3];
-                        mLineBuffer[6] = e.getX();
-                        mLineBuffer[7] = e.getY() * phaseY;
+                        mLineBuffer[6] = nextX;
+                        mLineBuffer[7] = nextY * phaseY;
                     } else {
-                        mLineBuffer[3] = e.getY() * phaseY;
+                        mLineBuffer[3] = nextY * phaseY;
                     }
 
                 } else {
@@ -360,30 +404,37 @@ public class LineChartRenderer extends LineRadarRenderer<ILineDataSet, Entry> {
                 canvas.drawLines(mLineBuffer, 0, pointsPerEntryPair * 2, mRenderPaint);
             }
 
-        } else { // only one color per dataset
+        } else if (isDrawSteppedEnabled
+                || (!drawLinearM4(canvas, dataSet, trans, phaseY)
+                && !drawLinearLevelOfDetail(canvas, dataSet, trans, phaseY)
+                && !drawLinearSimplified(canvas, dataSet, trans, phaseY)
+                && !drawLinearPrepared(canvas, dataSet, trans, phaseY))) {
+            // only one color per dataset, without aggregation or simplification
 
             if (mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2)
                 mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
 
-            Entry e1, e2;
-
             int j = 0;
             for (int x = mXBounds.min; x <= mXBounds.range + mXBounds.min; x++) {
-                e1 = dataSet.getEntryForIndex(x == 0 ? 0 : (x - 1));
-                e2 = dataSet.getEntryForIndex(x);
+                int prevIndex = x == 0 ? 0 : (x - 1);
 
-                mLineBuffer[j++] = e1.getX();
-                mLineBuffer[j++] = e1.getY() * phaseY;
+                float x1 = dataSet.getEntryXForIndex(prevIndex);
+                float y1 = dataSet.getEntryYForIndex(prevIndex) * phaseY;
+                float x2 = dataSet.getEntryXForIndex(x);
+                float y2 = dataSet.getEntryYForIndex(x) * phaseY;
+
+                mLineBuffer[j++] = x1;
+                mLineBuffer[j++] = y1;
 
                 if (isDrawSteppedEnabled) {
-                    mLineBuffer[j++] = e2.getX();
-                    mLineBuffer[j++] = e1.getY() * phaseY;
-                    mLineBuffer[j++] = e2.getX();
-                    mLineBuffer[j++] = e1.getY() * phaseY;
+                    mLineBuffer[j++] = x2;
+                    mLineBuffer[j++] = y1;
+                    mLineBuffer[j++] = x2;
+                    mLineBuffer[j++] = y1;
                 }
 
-                mLineBuffer[j++] = e2.getX();
-                mLineBuffer[j++] = e2.getY() * phaseY;
+                mLineBuffer[j++] = x2;
+                mLineBuffer[j++] = y2;
             }
 
             if (j > 0) {
@@ -400,6 +451,305 @@ public class LineChartRenderer extends LineRadarRenderer<ILineDataSet, Entry> {
         mRenderPaint.setPathEffect(null);
     }
 
+    /**
+     * Draws the visible range of the DataSet from its level-of-detail pyramid, with the envelope of one bucket
+     * per pixel (first, minimum, maximum and last value). Returns false if the DataSet has no pyramid or the
+     * visible entries are not dense enough, in which case every entry has to be drawn.
+     */
+    protected boolean drawLinearLevelOfDetail(
+            @NotNull Canvas c,
+            @NotNull ILineDataSet dataSet,
+            @NotNull Transformer trans,
+            float phaseY
+    ) {
+        LevelOfDetailPyramid lod = dataSet.getLevelOfDetail();
+
+        if (lod == null || mXBounds.range < 1)
+            return false;
+
+        lod.update(dataSet);
+
+        float entriesPerPixel = (mXBounds.range + 1) / Math.max(1f, mViewPortHandler.contentWidth());
+        int level = lod.getLevelForBucketSize(entriesPerPixel);
+
+        if (level < 0)
+            return false;
+
+        int lastIndex = dataSet.getEntryCount() - 1;
+        int firstBucket = lod.getBucketForIndex(level, mXBounds.min);
+        int lastBucket = lod.getBucketForIndex(level, mXBounds.min + mXBounds.range);
+
+        // at most 4 points per bucket, every point after the first one ends a line segment
+        int size = (lastBucket - firstBucket + 1) * 4 * 4;
+
+        if (mLineBuffer.length < size)
+            mLineBuffer = new float[size];
+
+        int j = 0;
+        int prevIndex = -1;
+
+        for (int bucket = firstBucket; bucket <= lastBucket; bucket++) {
+            int start = lod.getBucketStart(level, bucket);
+            int end = Math.min(lod.getBucketStart(level, bucket + 1) - 1, lastIndex);
+            int minIndex = lod.getMinIndex(level, bucket);
+            int maxIndex = lod.getMaxIndex(level, bucket);
+
+            for (int k = 0; k < 4; k++) {
+                int index;
+
+                switch (k) {
+                    case 0:
+                        index = start;
+                        break;
+                    case 1:
+                        index = Math.min(minIndex, maxIndex);
+                        break;
+                    case 2:
+                        index = Math.max(minIndex, maxIndex);
+                        break;
+                    default:
+                        index = end;
+                        break;
+                }
+
+                if (index == prevIndex)
+                    continue;
+
+                if (prevIndex >= 0) {
+                    mLineBuffer[j++] = dataSet.getEntryXForIndex(prevIndex);
+                    mLineBuffer[j++] = dataSet.getEntryYForIndex(prevIndex) * phaseY;
+                    mLineBuffer[j++] = dataSet.getEntryXForIndex(index);
+                    mLineBuffer[j++] = dataSet.getEntryYForIndex(index) * phaseY;
+                }
+
+                prevIndex = index;
+            }
+        }
+
+        if (j > 0) {
+            trans.pointValuesToPixel(mLineBuffer);
+
+            mRenderPaint.setColor(dataSet.getColor());
+
+            c.drawLines(mLineBuffer, 0, j, mRenderPaint);
+        }
+
+        return true;
+    }
+
+    private final float[] mScaleBuffer = new float[4];
+
+    /**
+     * Maps (0, 0) and (1, 1) to pixels, so mScaleBuffer holds the offset and the scale of both axes.
+     */
+    private void computeScale(@NotNull Transformer trans) {
+        mScaleBuffer[0] = 0f;
+        mScaleBuffer[1] = 0f;
+        mScaleBuffer[2] = 1f;
+        mScaleBuffer[3] = 1f;
+        trans.pointValuesToPixel(mScaleBuffer);
+    }
+
+    /**
+     * Draws the visible range of the DataSet with the M4 aggregation: the entries are grouped by the pixel
+     * column they fall into, and only the first, minimum, maximum and last entry of every column are drawn.
+     * Returns false if the aggregation is disabled.
+     */
+    protected boolean drawLinearM4(
+            @NotNull Canvas c,
+            @NotNull ILineDataSet dataSet,
+            @NotNull Transformer trans,
+            float phaseY
+    ) {
+        if (!dataSet.isDrawM4Enabled() || mXBounds.range < 1)
+            return false;
+
+        computeScale(trans);
+
+        float offsetX = mScaleBuffer[0];
+        float scaleX = mScaleBuffer[2] - mScaleBuffer[0];
+
+        // at most 4 points per column, every point after the first one ends a line segment
+        int columns = (int) Math.ceil(mViewPortHandler.contentWidth()) + 3;
+        int size = Math.min(columns, mXBounds.range + 1) * 4 * 4;
+
+        if (mLineBuffer.length < size)
+            mLineBuffer = new float[size];
+
+        int max = mXBounds.min + mXBounds.range;
+
+        int j = 0;
+        int prevIndex = -1;
+
+        int column = (int) Math.floor(dataSet.getEntryXForIndex(mXBounds.min) * scaleX + offsetX);
+        int first = mXBounds.min;
+        int minIndex = first;
+        int maxIndex = first;
+        float minY = dataSet.getEntryYForIndex(first);
+        float maxY = minY;
+
+        for (int i = mXBounds.min + 1; i <= max + 1; i++) {
+            int entryColumn = 0;
+            float y = 0f;
+
+            if (i <= max) {
+                entryColumn = (int) Math.floor(dataSet.getEntryXForIndex(i) * scaleX + offsetX);
+                y = dataSet.getEntryYForIndex(i);
+
+                if (entryColumn == column) {
+                    if (y < minY) {
+                        minY = y;
+                        minIndex = i;
+                    }
+
+                    if (y > maxY) {
+                        maxY = y;
+                        maxIndex = i;
+                    }
+
+                    continue;
+                }
+            }
+
+            // flush the column
+            int last = i - 1;
+
+            for (int k = 0; k < 4; k++) {
+                int index;
+
+                switch (k) {
+                    case 0:
+                        index = first;
+                        break;
+                    case 1:
+                        index = Math.min(minIndex, maxIndex);
+                        break;
+                    case 2:
+                        index = Math.max(minIndex, maxIndex);
+                        break;
+                    default:
+                        index = last;
+                        break;
+                }
+
+                if (index == prevIndex)
+                    continue;
+
+                if (prevIndex >= 0) {
+                    if (j + 4 > mLineBuffer.length)
+                        mLineBuffer = Arrays.copyOf(mLineBuffer, mLineBuffer.length * 2);
+
+                    mLineBuffer[j++] = dataSet.getEntryXForIndex(prevIndex);
+                    mLineBuffer[j++] = dataSet.getEntryYForIndex(prevIndex) * phaseY;
+                    mLineBuffer[j++] = dataSet.getEntryXForIndex(index);
+                    mLineBuffer[j++] = dataSet.getEntryYForIndex(index) * phaseY;
+                }
+
+                prevIndex = index;
+            }
+
+            column = entryColumn;
+            first = i;
+            minIndex = i;
+            maxIndex = i;
+            minY = y;
+            maxY = y;
+        }
+
+        if (j > 0) {
+            trans.pointValuesToPixel(mLineBuffer);
+
+            mRenderPaint.setColor(dataSet.getColor());
+
+            c.drawLines(mLineBuffer, 0, j, mRenderPaint);
+        }
+
+        return true;
+    }
+
+    /**
+     * Draws the visible range of the DataSet with only the entries that remain after its simplification.
+     * Returns false if the simplification is disabled.
+     */
+    protected boolean drawLinearSimplified(
+            @NotNull Canvas c,
+            @NotNull ILineDataSet dataSet,
+            @NotNull Transformer trans,
+            float phaseY
+    ) {
+        LineSimplification simplification = dataSet.getSimplification();
+
+        if (simplification == null || mXBounds.range < 1)
+            return false;
+
+        // pixels per value, which only change when zooming
+        computeScale(trans);
+
+        float scaleX = Math.abs(mScaleBuffer[2] - mScaleBuffer[0]);
+        float scaleY = Math.abs(mScaleBuffer[3] - mScaleBuffer[1]) * phaseY;
+
+        simplification.update(dataSet, scaleX, scaleY, dataSet.getSimplificationTolerance());
+
+        int count = simplification.getIndexCount();
+
+        // include the entries next to the visible range, so the line reaches the edges
+        int first = Math.max(simplification.getPositionForIndex(mXBounds.min) - 1, 0);
+        int last = Math.min(simplification.getPositionForIndex(mXBounds.min + mXBounds.range), count - 1);
+
+        int size = Math.max(last - first, 0) * 4;
+
+        if (mLineBuffer.length < size)
+            mLineBuffer = new float[size];
+
+        int j = 0;
+
+        for (int position = first + 1; position <= last; position++) {
+            int prevIndex = simplification.getIndex(position - 1);
+            int index = simplification.getIndex(position);
+
+            mLineBuffer[j++] = dataSet.getEntryXForIndex(prevIndex);
+            mLineBuffer[j++] = dataSet.getEntryYForIndex(prevIndex) * phaseY;
+            mLineBuffer[j++] = dataSet.getEntryXForIndex(index);
+            mLineBuffer[j++] = dataSet.getEntryYForIndex(index) * phaseY;
+        }
+
+        if (j > 0) {
+            trans.pointValuesToPixel(mLineBuffer);
+
+            mRenderPaint.setColor(dataSet.getColor());
+
+            c.drawLines(mLineBuffer, 0, j, mRenderPaint);
+        }
+
+        return true;
+    }
+
+    /**
+     * Draws the last segments of the visible range that were completed by the RenderPreparer. Returns false if
+     * there is no RenderPreparer or nothing was completed yet.
+     */
+    protected boolean drawLinearPrepared(
+            @NotNull Canvas c,
+            @NotNull ILineDataSet dataSet,
+            @NotNull Transformer trans,
+            float phaseY
+    ) {
+        if (mRenderPreparer == null)
+            return false;
+
+        RenderPreparer.PreparedLine line = mRenderPreparer.get(dataSet, trans.getValueToPixelMatrix(),
+                Math.max(mXBounds.min - 1, 0), mXBounds.min + mXBounds.range, phaseY);
+
+        if (line == null)
+            return false;
+
+        mRenderPaint.setColor(dataSet.getColor());
+
+        c.drawLines(line.getPoints(), 0, line.getSize(), mRenderPaint);
+
+        return true;
+    }
+
     protected Path mGenerateFilledPathBuffer = new Path();
 
     /**
@@ -465,28 +815,29 @@ public class LineChartRenderer extends LineRadarRenderer<ILineDataSet, Entry> {
 
         outputPath.reset();
 
-        final Entry entry = dataSet.getEntryForIndex(startIndex);
+        float startX = dataSet.getEntryXForIndex(startIndex);
+        float previousY = dataSet.getEntryYForIndex(startIndex);
 
-        outputPath.moveTo(entry.getX(), fillMin);
-        outputPath.lineTo(entry.getX(), entry.getY() * phaseY);
+        outputPath.moveTo(startX, fillMin);
+        outputPath.lineTo(startX, previousY * phaseY);
 
         // create a new path
-        Entry currentEntry = null;
-        Entry previousEntry = entry;
+        float currentX = startX;
         for (int x = startIndex + 1; x <= endIndex; x++) {
-            currentEntry = dataSet.getEntryForIndex(x);
+            currentX = dataSet.getEntryXForIndex(x);
+            float currentY = dataSet.getEntryYForIndex(x);
 
             if (isDrawSteppedEnabled) {
-                outputPath.lineTo(currentEntry.getX(), previousEntry.getY() * phaseY);
+                outputPath.lineTo(currentX, previousY * phaseY);
             }
 
-            outputPath.lineTo(currentEntry.getX(), currentEntry.getY() * phaseY);
-            previousEntry = currentEntry;
+            outputPath.lineTo(currentX, currentY * phaseY);
+            previousY = currentY;
         }
 
         // close up
-        if (currentEntry != null) {
-            outputPath.lineTo(currentEntry.getX(), fillMin);
+        if (endIndex > startIndex) {
+            outputPath.lineTo(currentX, fillMin);
         }
 
         outputPath.close();
@@ -622,10 +973,8 @@ public class LineChartRenderer extends LineRadarRenderer<ILineDataSet, Entry> {
             int boundsRangeCount = mXBounds.range + mXBounds.min;
 
             for (int j = mXBounds.min; j <= boundsRangeCount; j++) {
-                Entry e = dataSet.getEntryForIndex(j);
-
-                mCirclesBuffer[0] = e.getX();
-                mCirclesBuffer[1] = e.getY() * phaseY;
+                mCirclesBuffer[0] = dataSet.getEntryXForIndex(j);
+                mCirclesBuffer[1] = dataSet.getEntryYForIndex(j) * phaseY;
 
                 trans.pointValuesToPixel(mCirclesBuffer);
 
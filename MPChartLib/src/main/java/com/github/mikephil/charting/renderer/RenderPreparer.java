@@ -0,0 +1,275 @@
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.Matrix;
+
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes the pixel coordinates of line segments on a worker thread, so drawing a large line only submits a
+ * finished buffer to the Canvas. Every DataSet has two buffers: the front buffer holds the last completed
+ * result and is drawn, the back buffer is filled by the worker. When the viewport matrix, the visible range or
+ * the values change, the front buffer is still drawn (one frame behind) until the worker has swapped in the
+ * new result and called the OnPreparedListener to redraw.
+ * <p/>
+ * Only the segments of linear lines with a single color are prepared. Stepped, cubic and horizontal bezier
+ * lines (including their control points), multi-colored lines, fills, circles and values, as well as the bars
+ * of a BarChart (BarBuffer.feed(...)) and the transformed values of scatter, candle and bubble charts are
+ * still computed in onDraw.
+ * <p/>
+ * The worker reads the DataSets while the UI thread draws, so the DataSets must not be modified in place while
+ * this is used, e.g. by publishing new data with Chart.publishData(...).
+ */
+public class RenderPreparer {
+
+    private static final int DEFAULT_EXECUTOR_KEEP_ALIVE_SECONDS = 10;
+
+    /**
+     * shared by all the RenderPreparers that were created without an executor, created on first use
+     */
+    @Nullable
+    private static Executor sDefaultExecutor;
+
+    /**
+     * Called from the worker thread when a buffer was completed.
+     */
+    public interface OnPreparedListener {
+        void onPrepared();
+    }
+
+    /**
+     * Line segments in pixels (x1, y1, x2, y2, ...) and the parameters they were computed for.
+     */
+    public static final class PreparedLine {
+        @NotNull
+        float[] mPoints = new float[0];
+
+        int mSize;
+
+        @NotNull
+        final float[] mMatrixValues = new float[9];
+
+        int mMin = -1;
+        int mMax = -1;
+        int mVersion = -1;
+        int mGeneration = -1;
+        float mPhaseY;
+
+        @NotNull
+        public float[] getPoints() {
+            return mPoints;
+        }
+
+        /**
+         * Returns the number of floats of the segments in getPoints().
+         */
+        public int getSize() {
+            return mSize;
+        }
+
+        boolean matches(@NotNull float[] matrixValues, @NotNull ILineDataSet set, int min, int max, float phaseY,
+                        int generation) {
+            return mMin == min && mMax == max && mPhaseY == phaseY
+                    && mVersion == set.getVersion() && mGeneration == generation
+                    && Arrays.equals(mMatrixValues, matrixValues);
+        }
+
+        void setParameters(@NotNull float[] matrixValues, @NotNull ILineDataSet set, int min, int max, float phaseY,
+                           int generation) {
+            System.arraycopy(matrixValues, 0, mMatrixValues, 0, 9);
+            mMin = min;
+            mMax = max;
+            mPhaseY = phaseY;
+            mVersion = set.getVersion();
+            mGeneration = generation;
+        }
+    }
+
+    /**
+     * the buffers of one DataSet, guarded by itself
+     */
+    private static final class State {
+        @Nullable
+        PreparedLine mFront;
+
+        @NotNull
+        PreparedLine mBack = new PreparedLine();
+
+        boolean mRunning;
+    }
+
+    /**
+     * only accessed on the UI thread
+     */
+    @NotNull
+    private final Map<ILineDataSet, State> mStates = new WeakHashMap<>();
+
+    @NotNull
+    private final float[] mMatrixValues = new float[9];
+
+    /**
+     * incremented by invalidate(), only accessed on the UI thread
+     */
+    private int mGeneration;
+
+    @NotNull
+    private final Executor mExecutor;
+
+    @Nullable
+    private volatile OnPreparedListener mListener;
+
+    /**
+     * Creates a RenderPreparer that uses the worker thread shared by all RenderPreparers, which stops when it's
+     * idle.
+     */
+    public RenderPreparer() {
+        this(getDefaultExecutor());
+    }
+
+    public RenderPreparer(@NotNull Executor executor) {
+        mExecutor = executor;
+    }
+
+    public void setOnPreparedListener(@Nullable OnPreparedListener listener) {
+        mListener = listener;
+    }
+
+    /**
+     * Makes get(...) prepare all the lines again, e.g. after the values were changed in place without
+     * changing the versions of the DataSets. Must be called on the UI thread.
+     */
+    public void invalidate() {
+        mGeneration++;
+    }
+
+    /**
+     * Drops the buffers of all DataSets, e.g. when the chart is detached or the preparation is disabled. A result
+     * that is still being computed is discarded. Must be called on the UI thread.
+     */
+    public void release() {
+        mStates.clear();
+        mGeneration++;
+    }
+
+    /**
+     * Returns the last completed segments of the given DataSet, and starts preparing new ones if they were
+     * computed for other parameters. Returns null if nothing was completed yet, in which case the caller
+     * has to draw the line itself. Must be called on the UI thread.
+     *
+     * @param valueToPixel the matrix that maps the values to pixels, it is copied
+     * @param min          the first index of the visible range
+     * @param max          the last index of the visible range
+     */
+    @Nullable
+    public PreparedLine get(
+            @NotNull final ILineDataSet set,
+            @NotNull Matrix valueToPixel,
+            final int min,
+            final int max,
+            final float phaseY
+    ) {
+        State state = mStates.get(set);
+
+        if (state == null) {
+            state = new State();
+            mStates.put(set, state);
+        }
+
+        valueToPixel.getValues(mMatrixValues);
+
+        synchronized (state) {
+            PreparedLine front = state.mFront;
+
+            if ((front == null || !front.matches(mMatrixValues, set, min, max, phaseY, mGeneration)) && !state.mRunning) {
+                state.mRunning = true;
+                state.mBack.setParameters(mMatrixValues, set, min, max, phaseY, mGeneration);
+
+                final State target = state;
+                final PreparedLine back = state.mBack;
+
+                mExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        prepare(set, back);
+
+                        synchronized (target) {
+                            target.mBack = target.mFront != null ? target.mFront : new PreparedLine();
+                            target.mFront = back;
+                            target.mRunning = false;
+                        }
+
+                        OnPreparedListener listener = mListener;
+                        if (listener != null) {
+                            listener.onPrepared();
+                        }
+                    }
+                });
+            }
+
+            return front;
+        }
+    }
+
+    @NotNull
+    private static synchronized Executor getDefaultExecutor() {
+        if (sDefaultExecutor == null) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+                    DEFAULT_EXECUTOR_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(),
+                    new ThreadFactory() {
+                        @Override
+                        public Thread newThread(@NotNull Runnable r) {
+                            Thread thread = new Thread(r, "RenderPreparer");
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            executor.allowCoreThreadTimeOut(true);
+
+            sDefaultExecutor = executor;
+        }
+
+        return sDefaultExecutor;
+    }
+
+    /**
+     * Computes the segments between the consecutive entries of the range, like the linear line renderer.
+     */
+    private static void prepare(@NotNull ILineDataSet set, @NotNull PreparedLine line) {
+        int min = Math.max(line.mMin, 0);
+        int max = Math.min(line.mMax, set.getEntryCount() - 1);
+        int size = Math.max(max - min, 0) * 4;
+
+        if (line.mPoints.length < size) {
+            line.mPoints = new float[size];
+        }
+
+        float[] points = line.mPoints;
+        float phaseY = line.mPhaseY;
+        int j = 0;
+
+        for (int i = min + 1; i <= max; i++) {
+            points[j++] = set.getEntryXForIndex(i - 1);
+            points[j++] = set.getEntryYForIndex(i - 1) * phaseY;
+            points[j++] = set.getEntryXForIndex(i);
+            points[j++] = set.getEntryYForIndex(i) * phaseY;
+        }
+
+        Matrix matrix = new Matrix();
+        matrix.setValues(line.mMatrixValues);
+        matrix.mapPoints(points, 0, points, 0, j / 2);
+
+        line.mSize = j;
+    }
+}
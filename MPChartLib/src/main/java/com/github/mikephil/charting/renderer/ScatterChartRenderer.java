@@ -68,10 +68,8 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer<IScatte
                 (float)dataSet.getEntryCount()));
 
         for (int i = 0; i < max; i++) {
-            Entry e = dataSet.getEntryForIndex(i);
-
-            mPixelBuffer[0] = e.getX();
-            mPixelBuffer[1] = e.getY() * phaseY;
+            mPixelBuffer[0] = dataSet.getEntryXForIndex(i);
+            mPixelBuffer[1] = dataSet.getEntryYForIndex(i) * phaseY;
 
             trans.pointValuesToPixel(mPixelBuffer);
 
@@ -5,30 +5,78 @@ import android.content.res.AssetManager;
 import android.os.Environment;
 import android.util.Log;
 
+import com.github.mikephil.charting.data.BarDataSet;
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.BubbleDataSet;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.PieDataSet;
+import com.github.mikephil.charting.data.PieEntry;
+import com.github.mikephil.charting.data.RadarDataSet;
+import com.github.mikephil.charting.data.RadarEntry;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IRadarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Utilities class for interacting with the assets and the devices storage to
- * load and save DataSet objects from and to .txt files.
+ * load and save DataSet objects from and to .txt files, or from and to the
+ * binary columnar format (see writeBinary(...)).
  * 
  * @author Philipp Jahoda
  */
 public class FileUtils {
     private static final String LOG = "MPChart-FileUtils";
 
+    private static final int BINARY_MAGIC = 0x4D504346;
+    private static final int BINARY_VERSION = 1;
+
+    private static final byte BINARY_TYPE_ENTRY = 0;
+    private static final byte BINARY_TYPE_BAR = 1;
+    private static final byte BINARY_TYPE_CANDLE = 2;
+    private static final byte BINARY_TYPE_SCATTER = 3;
+    private static final byte BINARY_TYPE_BUBBLE = 4;
+    private static final byte BINARY_TYPE_RADAR = 5;
+    private static final byte BINARY_TYPE_PIE = 6;
+
+    /**
+     * the number of bytes that are buffered while reading and writing the columns of the binary format
+     */
+    private static final int BINARY_BUFFER_SIZE = 64 * 1024;
+
     /**
      * Loads a an Array of Entries from a text file from the sd-card.
      * 
@@ -43,29 +91,24 @@ public class FileUtils {
 
         List<Entry> entries = new ArrayList<>();
 
+        Reader reader = null;
         try {
-            @SuppressWarnings("resource")
-            BufferedReader br = new BufferedReader(new FileReader(file));
-            String line;
+            reader = new FileReader(file);
+            StreamingTextParser parser = createStrictParser(reader);
 
-            while ((line = br.readLine()) != null) {
-                String[] split = line.split("#");
+            while (parser.nextRow()) {
+                int columns = requireColumns(parser, 2);
 
-                if (split.length <= 2) {
-                    entries.add(new Entry(Float.parseFloat(split[0]), Integer.parseInt(split[1])));
+                if (columns == 2) {
+                    entries.add(new Entry(parser.getValue(0), parser.getIntValue(1)));
                 } else {
-
-                    float[] vals = new float[split.length - 1];
-
-                    for (int i = 0; i < vals.length; i++) {
-                        vals[i] = Float.parseFloat(split[i]);
-                    }
-
-                    entries.add(new BarEntry(Integer.parseInt(split[split.length - 1]), vals));
+                    entries.add(new BarEntry(parser.getIntValue(columns - 1), readValues(parser, columns - 1)));
                 }
             }
         } catch (IOException e) {
             Log.e(LOG, e.toString());
+        } finally {
+            closeQuietly(reader);
         }
 
         return entries;
@@ -79,45 +122,95 @@ public class FileUtils {
     public static List<Entry> loadEntriesFromAssets(AssetManager am, String path) {
         ArrayList<Entry> entries = new ArrayList<>();
 
-        BufferedReader reader = null;
+        Reader reader = null;
         try {
-            reader = new BufferedReader(new InputStreamReader(am.open(path), "UTF-8"));
+            reader = new InputStreamReader(am.open(path), "UTF-8");
+            StreamingTextParser parser = createStrictParser(reader);
 
-            String line = reader.readLine();
+            while (parser.nextRow()) {
+                int columns = requireColumns(parser, 2);
 
-            while (line != null) {
-                // process line
-                String[] split = line.split("#");
-
-                if (split.length <= 2) {
-                    entries.add(new Entry(Float.parseFloat(split[1]), Float.parseFloat(split[0])));
+                if (columns == 2) {
+                    entries.add(new Entry(parser.getValue(1), parser.getValue(0)));
                 } else {
-
-                    float[] vals = new float[split.length - 1];
-
-                    for (int i = 0; i < vals.length; i++) {
-                        vals[i] = Float.parseFloat(split[i]);
-                    }
-
-                    entries.add(new BarEntry(Integer.parseInt(split[split.length - 1]), vals));
+                    entries.add(new BarEntry(parser.getIntValue(columns - 1), readValues(parser, columns - 1)));
                 }
-                line = reader.readLine();
             }
         } catch (IOException e) {
             Log.e(LOG, e.toString());
         } finally {
-            if (reader != null) {
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    Log.e(LOG, e.toString());
-                }
-            }
+            closeQuietly(reader);
         }
 
         return entries;
     }
 
+    /**
+     * Appends the values of a text file from the assets folder to the given DataSet in batches, without creating
+     * any Entry objects for DataSets that store primitives (e.g. ColumnarLineDataSet).
+     *
+     * @param path    the name of the file in the assets folder (+ path if needed)
+     * @param xColumn the column of the x-values
+     * @param yColumn the column of the y-values
+     */
+    public static void loadEntriesFromAssets(
+            @NotNull AssetManager am,
+            @NotNull String path,
+            @NotNull ILineDataSet dataSet,
+            int xColumn,
+            int yColumn
+    ) {
+        Reader reader = null;
+        try {
+            reader = new InputStreamReader(am.open(path), "UTF-8");
+            new StreamingTextParser(reader).readInto(dataSet, xColumn, yColumn);
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    /**
+     * Creates a parser that rejects empty values, like the Float.parseFloat(...) calls the loaders used before.
+     */
+    @NotNull
+    private static StreamingTextParser createStrictParser(@NotNull Reader reader) {
+        StreamingTextParser parser = new StreamingTextParser(reader);
+        parser.setEmptyValuesAllowed(false);
+
+        return parser;
+    }
+
+    private static int requireColumns(@NotNull StreamingTextParser parser, int columns) {
+        if (parser.getColumnCount() < columns) {
+            throw new NumberFormatException("Expected " + columns + " values in line " + parser.getLineNumber());
+        }
+
+        return parser.getColumnCount();
+    }
+
+    @NotNull
+    private static float[] readValues(@NotNull StreamingTextParser parser, int count) {
+        float[] vals = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            vals[i] = parser.getValue(i);
+        }
+
+        return vals;
+    }
+
+    private static void closeQuietly(@Nullable Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                Log.e(LOG, e.toString());
+            }
+        }
+    }
+
     /**
      * Saves an array of Entries to the specified location on the sdcard
      */
@@ -150,34 +243,467 @@ public class FileUtils {
     public static List<BarEntry> loadBarEntriesFromAssets(AssetManager am, String path) {
         List<BarEntry> entries = new ArrayList<>();
 
-        BufferedReader reader = null;
+        Reader reader = null;
         try {
-            reader = new BufferedReader(new InputStreamReader(am.open(path), "UTF-8"));
+            reader = new InputStreamReader(am.open(path), "UTF-8");
+            StreamingTextParser parser = createStrictParser(reader);
 
-            String line = reader.readLine();
+            while (parser.nextRow()) {
+                requireColumns(parser, 2);
 
-            while (line != null) {
-                // process line
-                String[] split = line.split("#");
+                entries.add(new BarEntry(parser.getValue(1), parser.getValue(0)));
+            }
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+        } finally {
+            closeQuietly(reader);
+        }
 
-                entries.add(new BarEntry(Float.parseFloat(split[1]), Float.parseFloat(split[0])));
+        return entries;
+    }
 
-                line = reader.readLine();
-            }
+    /**
+     * Saves the given DataSets in the binary columnar format to the given file, e.g. in Context.getFilesDir().
+     */
+    public static void saveBinaryToFile(@NotNull List<? extends IDataSet<?>> dataSets, @NotNull File file) {
+        OutputStream out = null;
+        try {
+            out = new FileOutputStream(file);
+            writeBinary(dataSets, out);
         } catch (IOException e) {
             Log.e(LOG, e.toString());
+        } finally {
+            closeQuietly(out);
+        }
+    }
 
+    /**
+     * Loads the DataSets of a file in the binary columnar format.
+     */
+    @NotNull
+    public static List<IDataSet<?>> loadBinaryFromFile(@NotNull File file) {
+        InputStream in = null;
+        try {
+            in = new FileInputStream(file);
+            return readBinary(in);
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
         } finally {
+            closeQuietly(in);
+        }
 
-            if (reader != null) {
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    Log.e(LOG, e.toString());
+        return new ArrayList<>();
+    }
+
+    /**
+     * Loads the DataSets of a file in the binary columnar format from the assets folder.
+     *
+     * @param path the name of the file in the assets folder (+ path if needed)
+     */
+    @NotNull
+    public static List<IDataSet<?>> loadBinaryFromAssets(@NotNull AssetManager am, @NotNull String path) {
+        InputStream in = null;
+        try {
+            in = am.open(path);
+            return readBinary(in);
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+        } finally {
+            closeQuietly(in);
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * Writes the given DataSets to the stream in the binary columnar format. The stream is flushed, but not closed.
+     * <p/>
+     * The file starts with a header (magic, version, DataSet count). Every DataSet starts with its own header
+     * (type, sorted flag, label, entry count, column count, and the bounds of the x-values and of the y-values as
+     * returned by getEntryYForIndex(...)), followed by the x-column and the value columns: y for
+     * plain, scatter and radar entries, the stack values (plus a column of stack lengths) for BarEntries, high, low,
+     * open and close for CandleEntries, y and size for BubbleEntries, and y followed by the labels for PieEntries.
+     * The columns are written as packed floats, the y-columns are written through getEntryXForIndex(...) and
+     * getEntryYForIndex(...) without creating Entry objects. Only the values and the labels are written, not the
+     * styling of the DataSets.
+     */
+    public static void writeBinary(@NotNull List<? extends IDataSet<?>> dataSets, @NotNull OutputStream out)
+            throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, BINARY_BUFFER_SIZE));
+        ByteBuffer buffer = ByteBuffer.allocate(BINARY_BUFFER_SIZE);
+
+        data.writeInt(BINARY_MAGIC);
+        data.writeInt(BINARY_VERSION);
+        data.writeInt(dataSets.size());
+
+        for (IDataSet<?> set : dataSets) {
+            writeBinaryDataSet(set, data, buffer);
+        }
+
+        data.flush();
+    }
+
+    private static void writeBinaryDataSet(
+            @NotNull IDataSet<?> set,
+            @NotNull DataOutputStream out,
+            @NotNull ByteBuffer buffer
+    ) throws IOException {
+        int count = set.getEntryCount();
+
+        byte type;
+        int columns;
+
+        if (set instanceof ICandleDataSet) {
+            type = BINARY_TYPE_CANDLE;
+            columns = 4;
+        } else if (set instanceof IBarDataSet) {
+            type = BINARY_TYPE_BAR;
+            columns = Math.max(1, ((IBarDataSet) set).getStackSize());
+        } else if (set instanceof IBubbleDataSet) {
+            type = BINARY_TYPE_BUBBLE;
+            columns = 2;
+        } else if (set instanceof IScatterDataSet) {
+            type = BINARY_TYPE_SCATTER;
+            columns = 1;
+        } else if (set instanceof IRadarDataSet) {
+            type = BINARY_TYPE_RADAR;
+            columns = 1;
+        } else if (set instanceof IPieDataSet) {
+            type = BINARY_TYPE_PIE;
+            columns = 1;
+        } else {
+            type = BINARY_TYPE_ENTRY;
+            columns = 1;
+        }
+
+        // the bounds of the DataSet may be the bounds of the visible range, so they are computed here
+        boolean sorted = true;
+        float xMin = Float.MAX_VALUE;
+        float xMax = -Float.MAX_VALUE;
+        float yMin = Float.MAX_VALUE;
+        float yMax = -Float.MAX_VALUE;
+
+        for (int i = 0; i < count; i++) {
+            float x = set.getEntryXForIndex(i);
+            float y = set.getEntryYForIndex(i);
+
+            if (i > 0 && x < set.getEntryXForIndex(i - 1))
+                sorted = false;
+
+            xMin = Math.min(xMin, x);
+            xMax = Math.max(xMax, x);
+            yMin = Math.min(yMin, y);
+            yMax = Math.max(yMax, y);
+        }
+
+        out.writeByte(type);
+        out.writeBoolean(sorted);
+        out.writeBoolean(set.getLabel() != null);
+        if (set.getLabel() != null) {
+            out.writeUTF(set.getLabel());
+        }
+        out.writeInt(count);
+        out.writeInt(columns);
+        out.writeFloat(xMin);
+        out.writeFloat(xMax);
+        out.writeFloat(yMin);
+        out.writeFloat(yMax);
+
+        for (int i = 0; i < count; i++) {
+            putFloat(out, buffer, set.getEntryXForIndex(i));
+        }
+
+        if (type == BINARY_TYPE_CANDLE) {
+            ICandleDataSet candleSet = (ICandleDataSet) set;
+
+            for (int column = 0; column < columns; column++) {
+                for (int i = 0; i < count; i++) {
+                    CandleEntry e = candleSet.getEntryForIndex(i);
+
+                    float value;
+                    switch (column) {
+                        case 0:
+                            value = e.getHigh();
+                            break;
+                        case 1:
+                            value = e.getLow();
+                            break;
+                        case 2:
+                            value = e.getOpen();
+                            break;
+                        default:
+                            value = e.getClose();
+                            break;
+                    }
+
+                    putFloat(out, buffer, value);
+                }
+            }
+        } else if (type == BINARY_TYPE_BAR && columns > 1) {
+            IBarDataSet barSet = (IBarDataSet) set;
+
+            // stack lengths, 0 for entries that are not stacked
+            for (int i = 0; i < count; i++) {
+                float[] vals = barSet.getEntryForIndex(i).getYVals();
+
+                putFloat(out, buffer, vals == null ? 0 : vals.length);
+            }
+
+            for (int column = 0; column < columns; column++) {
+                for (int i = 0; i < count; i++) {
+                    BarEntry e = barSet.getEntryForIndex(i);
+                    float[] vals = e.getYVals();
+
+                    float value;
+                    if (vals == null) {
+                        value = column == 0 ? e.getY() : Float.NaN;
+                    } else {
+                        value = column < vals.length ? vals[column] : Float.NaN;
+                    }
+
+                    putFloat(out, buffer, value);
+                }
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                putFloat(out, buffer, set.getEntryYForIndex(i));
+            }
+
+            if (type == BINARY_TYPE_BUBBLE) {
+                IBubbleDataSet bubbleSet = (IBubbleDataSet) set;
+
+                for (int i = 0; i < count; i++) {
+                    putFloat(out, buffer, bubbleSet.getEntryForIndex(i).getSize());
                 }
             }
         }
 
-        return entries;
+        flushBuffer(out, buffer);
+
+        if (type == BINARY_TYPE_PIE) {
+            IPieDataSet pieSet = (IPieDataSet) set;
+
+            for (int i = 0; i < count; i++) {
+                String entryLabel = pieSet.getEntryForIndex(i).getLabel();
+
+                out.writeBoolean(entryLabel != null);
+                if (entryLabel != null) {
+                    out.writeUTF(entryLabel);
+                }
+            }
+        }
+    }
+
+    private static void putFloat(@NotNull OutputStream out, @NotNull ByteBuffer buffer, float value)
+            throws IOException {
+        if (buffer.remaining() < 4) {
+            flushBuffer(out, buffer);
+        }
+
+        buffer.putFloat(value);
+    }
+
+    private static void flushBuffer(@NotNull OutputStream out, @NotNull ByteBuffer buffer) throws IOException {
+        out.write(buffer.array(), 0, buffer.position());
+        buffer.clear();
+    }
+
+    /**
+     * Reads DataSets in the binary columnar format (see writeBinary(...)) from the stream. The stream is not closed.
+     * <p/>
+     * The DataSets are read one after another, column by column, through a fixed-size buffer. DataSets of plain
+     * entries are returned as ColumnarLineDataSets that take the ownership of the read columns and the bounds from
+     * the header, so no Entry object is created and the values are not scanned again. The other types are returned as BarDataSets, CandleDataSets, ScatterDataSets,
+     * BubbleDataSets, RadarDataSets and PieDataSets. Unsorted DataSets are sorted by x.
+     */
+    @NotNull
+    public static List<IDataSet<?>> readBinary(@NotNull InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in, BINARY_BUFFER_SIZE));
+        byte[] buffer = new byte[BINARY_BUFFER_SIZE];
+
+        if (data.readInt() != BINARY_MAGIC) {
+            throw new IOException("Not a binary chart data file");
+        }
+
+        int version = data.readInt();
+        if (version != BINARY_VERSION) {
+            throw new IOException("Unsupported binary chart data version: " + version);
+        }
+
+        int dataSetCount = data.readInt();
+        List<IDataSet<?>> dataSets = new ArrayList<>(dataSetCount);
+
+        for (int i = 0; i < dataSetCount; i++) {
+            dataSets.add(readBinaryDataSet(data, buffer));
+        }
+
+        return dataSets;
+    }
+
+    @NotNull
+    private static IDataSet<?> readBinaryDataSet(@NotNull DataInputStream in, @NotNull byte[] buffer)
+            throws IOException {
+        byte type = in.readByte();
+        boolean sorted = in.readBoolean();
+        String label = in.readBoolean() ? in.readUTF() : null;
+        int count = in.readInt();
+        int columns = in.readInt();
+
+        // the x-bounds are the ends of the sorted values, the DataSets of Entry objects calculate their bounds
+        // while they are built
+        in.readFloat();
+        in.readFloat();
+        float yMin = in.readFloat();
+        float yMax = in.readFloat();
+
+        float[] xValues = readColumn(in, buffer, count);
+
+        switch (type) {
+            case BINARY_TYPE_ENTRY: {
+                float[] yValues = readColumn(in, buffer, count);
+
+                if (!sorted) {
+                    List<Entry> entries = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        entries.add(new Entry(xValues[i], yValues[i]));
+                    }
+
+                    Collections.sort(entries, new EntryXComparator());
+
+                    for (int i = 0; i < count; i++) {
+                        xValues[i] = entries.get(i).getX();
+                        yValues[i] = entries.get(i).getY();
+                    }
+                }
+
+                return new ColumnarLineDataSet(xValues, yValues, yMin, yMax, label);
+            }
+            case BINARY_TYPE_BAR: {
+                List<BarEntry> entries = new ArrayList<>(count);
+
+                if (columns == 1) {
+                    float[] yValues = readColumn(in, buffer, count);
+
+                    for (int i = 0; i < count; i++) {
+                        entries.add(new BarEntry(xValues[i], yValues[i]));
+                    }
+                } else {
+                    float[] stackLengths = readColumn(in, buffer, count);
+                    float[][] stacks = new float[columns][];
+
+                    for (int column = 0; column < columns; column++) {
+                        stacks[column] = readColumn(in, buffer, count);
+                    }
+
+                    for (int i = 0; i < count; i++) {
+                        int length = (int) stackLengths[i];
+
+                        if (length == 0) {
+                            entries.add(new BarEntry(xValues[i], stacks[0][i]));
+                        } else {
+                            float[] vals = new float[length];
+                            for (int j = 0; j < length; j++) {
+                                vals[j] = stacks[j][i];
+                            }
+
+                            entries.add(new BarEntry(xValues[i], vals));
+                        }
+                    }
+                }
+
+                if (!sorted) {
+                    Collections.sort(entries, new EntryXComparator());
+                }
+
+                return new BarDataSet(entries, label);
+            }
+            case BINARY_TYPE_CANDLE: {
+                float[] high = readColumn(in, buffer, count);
+                float[] low = readColumn(in, buffer, count);
+                float[] open = readColumn(in, buffer, count);
+                float[] close = readColumn(in, buffer, count);
+
+                List<CandleEntry> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    entries.add(new CandleEntry(xValues[i], high[i], low[i], open[i], close[i]));
+                }
+
+                if (!sorted) {
+                    Collections.sort(entries, new EntryXComparator());
+                }
+
+                return new CandleDataSet(entries, label);
+            }
+            case BINARY_TYPE_SCATTER: {
+                float[] yValues = readColumn(in, buffer, count);
+
+                List<Entry> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    entries.add(new Entry(xValues[i], yValues[i]));
+                }
+
+                if (!sorted) {
+                    Collections.sort(entries, new EntryXComparator());
+                }
+
+                return new ScatterDataSet(entries, label);
+            }
+            case BINARY_TYPE_BUBBLE: {
+                float[] yValues = readColumn(in, buffer, count);
+                float[] sizes = readColumn(in, buffer, count);
+
+                List<BubbleEntry> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    entries.add(new BubbleEntry(xValues[i], yValues[i], sizes[i]));
+                }
+
+                if (!sorted) {
+                    Collections.sort(entries, new EntryXComparator());
+                }
+
+                return new BubbleDataSet(entries, label);
+            }
+            case BINARY_TYPE_RADAR: {
+                float[] yValues = readColumn(in, buffer, count);
+
+                // the x-values of RadarEntries are their indices
+                List<RadarEntry> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    entries.add(new RadarEntry(yValues[i]));
+                }
+
+                return new RadarDataSet(entries, label);
+            }
+            case BINARY_TYPE_PIE: {
+                float[] yValues = readColumn(in, buffer, count);
+
+                List<PieEntry> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    entries.add(new PieEntry(yValues[i], in.readBoolean() ? in.readUTF() : null));
+                }
+
+                return new PieDataSet(entries, label);
+            }
+            default:
+                throw new IOException("Unknown DataSet type: " + type);
+        }
+    }
+
+    @NotNull
+    private static float[] readColumn(@NotNull DataInputStream in, @NotNull byte[] buffer, int count)
+            throws IOException {
+        float[] values = new float[count];
+        int offset = 0;
+
+        while (offset < count) {
+            int length = Math.min(count - offset, buffer.length / 4);
+
+            in.readFully(buffer, 0, length * 4);
+            ByteBuffer.wrap(buffer, 0, length * 4).asFloatBuffer().get(values, offset, length);
+
+            offset += length;
+        }
+
+        return values;
     }
 }
@@ -0,0 +1,273 @@
+package com.github.mikephil.charting.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Index that answers minimum / maximum queries over arbitrary index ranges of a float array in
+ * O(log n) instead of scanning the whole range.
+ * <p/>
+ * The array is split into blocks of BLOCK_SIZE values, and the minimum and maximum of every block
+ * are kept in a segment tree. A query scans the partially covered blocks at the ends of the range
+ * directly and combines the fully covered ones through the tree. That keeps the memory overhead at
+ * a fraction of the indexed array (about a quarter of it in the worst case).
+ * <p/>
+ * The index doesn't hold a reference to the array, it must be passed to every method and update(...)
+ * must be called after every write to the array. Only the first getCount() values of the array are indexed.
+ * <p/>
+ * Removing values from the start of the array (which shifts the remaining values to the front) only moves the
+ * position of the first value in the tree, see removeFromStart(...), so a sliding window doesn't rebuild the
+ * index for every removed value.
+ */
+public final class RangeMinMaxIndex {
+    /**
+     * the number of values that are summarized by one leaf of the tree
+     */
+    private static final int BLOCK_SHIFT = 5;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    /**
+     * minimums and maximums of the tree nodes, the root is at index 1 and the leaves start at mLeafCount
+     */
+    @NotNull
+    private float[] mMinTree = EmptyArray.FLOAT;
+
+    @NotNull
+    private float[] mMaxTree = EmptyArray.FLOAT;
+
+    /**
+     * the number of leaves (blocks) the tree has, always a power of two
+     */
+    private int mLeafCount;
+
+    /**
+     * the number of indexed values
+     */
+    private int mCount;
+
+    /**
+     * the position of the first value in the tree, the value at index i of the array is at position i + mOffset
+     */
+    private int mOffset;
+
+    private float mQueryMin = Float.MAX_VALUE;
+    private float mQueryMax = -Float.MAX_VALUE;
+
+    /**
+     * Rebuilds the index for the first count values of the given array in O(count).
+     */
+    public void rebuild(@NotNull float[] values, int count) {
+        mCount = count;
+        mOffset = 0;
+
+        // leave room for appended values and values removed from the start
+        int capacity = count + (count >> 1);
+        int blockCount = Math.max((capacity + BLOCK_SIZE - 1) >> BLOCK_SHIFT, 1);
+
+        int leafCount = 1;
+        while (leafCount < blockCount) {
+            leafCount <<= 1;
+        }
+
+        if (leafCount != mLeafCount) {
+            mLeafCount = leafCount;
+            mMinTree = new float[leafCount * 2];
+            mMaxTree = new float[leafCount * 2];
+        }
+
+        for (int block = 0; block < leafCount; block++) {
+            computeLeaf(values, block);
+        }
+
+        for (int node = leafCount - 1; node > 0; node--) {
+            mMinTree[node] = Math.min(mMinTree[node * 2], mMinTree[node * 2 + 1]);
+            mMaxTree[node] = Math.max(mMaxTree[node * 2], mMaxTree[node * 2 + 1]);
+        }
+    }
+
+    /**
+     * Returns the number of indexed values.
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * Updates the index after the value at the given index of the array was written in O(log n). Writing the value
+     * after the last indexed one appends it. If the index has no room left for the value, it's rebuilt.
+     */
+    public void update(@NotNull float[] values, int index) {
+        if (index >= mCount) {
+            mCount = index + 1;
+        }
+
+        int block = (index + mOffset) >> BLOCK_SHIFT;
+
+        if (block >= mLeafCount) {
+            rebuild(values, mCount);
+            return;
+        }
+
+        computeLeaf(values, block);
+
+        for (int node = (block + mLeafCount) >> 1; node > 0; node >>= 1) {
+            mMinTree[node] = Math.min(mMinTree[node * 2], mMinTree[node * 2 + 1]);
+            mMaxTree[node] = Math.max(mMaxTree[node * 2], mMaxTree[node * 2 + 1]);
+        }
+    }
+
+    /**
+     * Updates the index after the values from index from to index to (both inclusive) were written.
+     * Every affected node is only recomputed once, which makes this cheaper than updating the values one by one.
+     */
+    public void update(@NotNull float[] values, int from, int to) {
+        if (to >= mCount) {
+            mCount = to + 1;
+        }
+
+        int fromBlock = (from + mOffset) >> BLOCK_SHIFT;
+        int toBlock = (to + mOffset) >> BLOCK_SHIFT;
+
+        if (toBlock >= mLeafCount) {
+            rebuild(values, mCount);
+            return;
+        }
+
+        for (int block = fromBlock; block <= toBlock; block++) {
+            computeLeaf(values, block);
+        }
+
+        int l = (fromBlock + mLeafCount) >> 1;
+        int r = (toBlock + mLeafCount) >> 1;
+
+        while (l > 0) {
+            for (int node = l; node <= r; node++) {
+                mMinTree[node] = Math.min(mMinTree[node * 2], mMinTree[node * 2 + 1]);
+                mMaxTree[node] = Math.max(mMaxTree[node * 2], mMaxTree[node * 2 + 1]);
+            }
+
+            l >>= 1;
+            r >>= 1;
+        }
+    }
+
+    /**
+     * Updates the index after the first count values were removed from the array and the remaining values were
+     * moved to the front, in O(1). The tree is kept, only the position of the first value moves: the removed
+     * values stay in the first block, which queries never take from the tree as it's only partially covered.
+     */
+    public void removeFromStart(int count) {
+        mOffset += count;
+        mCount -= count;
+    }
+
+    private void computeLeaf(@NotNull float[] values, int block) {
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        int start = Math.max((block << BLOCK_SHIFT) - mOffset, 0);
+        int end = Math.min(((block + 1) << BLOCK_SHIFT) - mOffset, mCount);
+
+        for (int i = start; i < end; i++) {
+            float value = values[i];
+
+            if (value < min)
+                min = value;
+
+            if (value > max)
+                max = value;
+        }
+
+        mMinTree[block + mLeafCount] = min;
+        mMaxTree[block + mLeafCount] = max;
+    }
+
+    /**
+     * Resets the result of the queries. Successive calls of query(...) accumulate their results,
+     * which allows to combine multiple ranges.
+     */
+    public void resetQuery() {
+        mQueryMin = Float.MAX_VALUE;
+        mQueryMax = -Float.MAX_VALUE;
+    }
+
+    /**
+     * Finds the minimum and maximum of the values from index from to index to (both inclusive) and
+     * combines them with the current query result, see getQueryMin() and getQueryMax().
+     */
+    public void query(@NotNull float[] values, int from, int to) {
+        if (from > to) {
+            return;
+        }
+
+        int fromBlock = (from + mOffset) >> BLOCK_SHIFT;
+        int toBlock = (to + mOffset) >> BLOCK_SHIFT;
+
+        if (toBlock - fromBlock < 2) {
+            scan(values, from, to);
+            return;
+        }
+
+        // partially covered blocks at both ends
+        scan(values, from, ((fromBlock + 1) << BLOCK_SHIFT) - 1 - mOffset);
+        scan(values, (toBlock << BLOCK_SHIFT) - mOffset, to);
+
+        // fully covered blocks in between
+        float min = mQueryMin;
+        float max = mQueryMax;
+
+        int l = fromBlock + 1 + mLeafCount;
+        int r = toBlock + mLeafCount;
+
+        while (l < r) {
+            if ((l & 1) == 1) {
+                min = Math.min(min, mMinTree[l]);
+                max = Math.max(max, mMaxTree[l]);
+                l++;
+            }
+
+            if ((r & 1) == 1) {
+                r--;
+                min = Math.min(min, mMinTree[r]);
+                max = Math.max(max, mMaxTree[r]);
+            }
+
+            l >>= 1;
+            r >>= 1;
+        }
+
+        mQueryMin = min;
+        mQueryMax = max;
+    }
+
+    private void scan(@NotNull float[] values, int from, int to) {
+        float min = mQueryMin;
+        float max = mQueryMax;
+
+        for (int i = from; i <= to; i++) {
+            float value = values[i];
+
+            if (value < min)
+                min = value;
+
+            if (value > max)
+                max = value;
+        }
+
+        mQueryMin = min;
+        mQueryMax = max;
+    }
+
+    /**
+     * Returns the minimum found by the queries since the last resetQuery().
+     */
+    public float getQueryMin() {
+        return mQueryMin;
+    }
+
+    /**
+     * Returns the maximum found by the queries since the last resetQuery().
+     */
+    public float getQueryMax() {
+        return mQueryMax;
+    }
+}
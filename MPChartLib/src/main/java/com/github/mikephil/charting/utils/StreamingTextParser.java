@@ -0,0 +1,473 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Parser for delimiter-separated text files of numbers (one row per line), e.g. "10.5#3" or "1,2.5,-3e2".
+ * The text is scanned through a reusable char buffer and the numbers are parsed in place, so no String
+ * objects are created per line or per value. Empty lines are skipped, an empty value is parsed as NaN unless
+ * empty values are disallowed. A value that is not a number throws a NumberFormatException that names its line.
+ * <p/>
+ * Plain decimal numbers are converted with a fast path that is accurate to the last bit of a float in
+ * nearly all cases, anything else (NaN, Infinity, more than 15 significant digits, ...) falls back to
+ * Float.parseFloat(...). The parser doesn't close the Reader.
+ */
+public class StreamingTextParser {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * the number of rows that are buffered by readInto(...) for every batch that is appended to the DataSet
+     */
+    private static final int BATCH_SIZE = 4096;
+
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        POWERS_OF_TEN[0] = 1d;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10d;
+        }
+    }
+
+    @NotNull
+    private final Reader mReader;
+
+    @NotNull
+    private char[] mBuffer = new char[DEFAULT_BUFFER_SIZE];
+
+    private int mPos;
+    private int mLimit;
+    private boolean mEof;
+
+    @NotNull
+    private char[] mDelimiters = new char[]{'#'};
+
+    private int mSkipLines;
+
+    private boolean mEmptyValuesAllowed = true;
+
+    /**
+     * the number of non-empty lines that were read so far (including the skipped ones)
+     */
+    private int mLineCount;
+
+    /**
+     * the values of the current row
+     */
+    @NotNull
+    private float[] mRow = new float[8];
+
+    /**
+     * the exact values of the columns of the current row that are written as integers, see mIntegral
+     */
+    @NotNull
+    private long[] mIntegers = new long[8];
+
+    /**
+     * true for the columns of the current row that are written as integers (no decimal point or exponent)
+     */
+    @NotNull
+    private boolean[] mIntegral = new boolean[8];
+
+    /**
+     * side results of the last parseFloat(...) call
+     */
+    private boolean mLastIntegral;
+    private long mLastInteger;
+
+    private int mColumnCount;
+
+    public StreamingTextParser(@NotNull Reader reader) {
+        mReader = reader;
+    }
+
+    /**
+     * Creates a parser that decodes the given stream as UTF-8.
+     */
+    public StreamingTextParser(@NotNull InputStream in) {
+        this(new InputStreamReader(in, Charset.forName("UTF-8")));
+    }
+
+    /**
+     * Sets the characters that separate the values of a row. Default: '#'
+     */
+    public void setDelimiters(@NotNull char... delimiters) {
+        mDelimiters = delimiters.clone();
+    }
+
+    /**
+     * Sets the number of (non-empty) header lines that are skipped at the start. Default: 0
+     */
+    public void setSkipLines(int lines) {
+        mSkipLines = lines;
+    }
+
+    /**
+     * If set to false, an empty value throws a NumberFormatException instead of being parsed as NaN.
+     * Default: true
+     */
+    public void setEmptyValuesAllowed(boolean allowed) {
+        mEmptyValuesAllowed = allowed;
+    }
+
+    /**
+     * Returns the number of the line of the current row, starting at 1. Empty lines are not counted.
+     */
+    public int getLineNumber() {
+        return mLineCount;
+    }
+
+    /**
+     * Reads the next non-empty row. Returns false if the end of the input was reached.
+     * The values of the row are available through getColumnCount() and getValue(...) afterwards.
+     *
+     * @throws NumberFormatException if a value of the row is not a number
+     */
+    public boolean nextRow() throws IOException {
+        while (true) {
+            if (mPos >= mLimit) {
+                if (mEof) {
+                    mColumnCount = 0;
+                    return false;
+                }
+
+                fill();
+                continue;
+            }
+
+            int lineEnd = findLineEnd();
+            int lineStart = mPos;
+
+            mPos = lineEnd + 1;
+
+            // empty lines (and the \n of \r\n line endings)
+            if (lineStart == lineEnd) {
+                continue;
+            }
+
+            mLineCount++;
+
+            if (mLineCount <= mSkipLines) {
+                continue;
+            }
+
+            parseRow(lineStart, lineEnd);
+            return true;
+        }
+    }
+
+    /**
+     * Returns the number of values of the current row.
+     */
+    public int getColumnCount() {
+        return mColumnCount;
+    }
+
+    /**
+     * Returns the value in the given column of the current row.
+     */
+    public float getValue(int column) {
+        if (column < 0 || column >= mColumnCount) {
+            throw new IndexOutOfBoundsException("Column: " + column + ", Columns: " + mColumnCount);
+        }
+
+        return mRow[column];
+    }
+
+    /**
+     * Returns the value in the given column of the current row, which must be written as an integer. Like
+     * Integer.parseInt(...), values with a decimal point or an exponent (e.g. "3.7" or "3.0") are rejected.
+     *
+     * @throws NumberFormatException if the value is not an integer or out of the int range
+     */
+    public int getIntValue(int column) {
+        float value = getValue(column);
+        long integer = mIntegers[column];
+
+        if (!mIntegral[column] || integer < Integer.MIN_VALUE || integer > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Value " + value + " in line " + mLineCount + " is not an int");
+        }
+
+        return (int) integer;
+    }
+
+    /**
+     * Reads rows into the given arrays until they are full or the input ends, the values in xColumn are written
+     * to xValues and the values in yColumn to yValues. Rows that don't have both columns are skipped.
+     * Returns the number of rows that were read, which is lower than the length of the arrays only at the end
+     * of the input.
+     */
+    public int read(@NotNull float[] xValues, @NotNull float[] yValues, int xColumn, int yColumn)
+            throws IOException {
+        int capacity = Math.min(xValues.length, yValues.length);
+        int required = Math.max(xColumn, yColumn);
+        int count = 0;
+
+        while (count < capacity && nextRow()) {
+            if (mColumnCount <= required)
+                continue;
+
+            xValues[count] = mRow[xColumn];
+            yValues[count] = mRow[yColumn];
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Reads all the remaining rows and appends them to the given DataSet in batches with appendBatch(...).
+     * Returns the number of rows that were appended.
+     */
+    public int readInto(@NotNull ILineDataSet dataSet, int xColumn, int yColumn) throws IOException {
+        float[] xValues = new float[BATCH_SIZE];
+        float[] yValues = new float[BATCH_SIZE];
+        int total = 0;
+        int count;
+
+        while ((count = read(xValues, yValues, xColumn, yColumn)) > 0) {
+            dataSet.appendBatch(xValues, yValues, 0, count);
+            total += count;
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns the index of the line break that ends the line at mPos, or the end of the input.
+     * Reads more input (which moves the line to the start of the buffer) if needed.
+     */
+    private int findLineEnd() throws IOException {
+        int i = mPos;
+
+        while (true) {
+            char[] buffer = mBuffer;
+            int limit = mLimit;
+
+            while (i < limit) {
+                char c = buffer[i];
+
+                if (c == '\n' || c == '\r') {
+                    return i;
+                }
+
+                i++;
+            }
+
+            if (mEof) {
+                return mLimit;
+            }
+
+            i -= fill();
+        }
+    }
+
+    /**
+     * Moves the unread part of the buffer to its start, grows it if it's full and reads more input.
+     * Returns the number of chars the unread part was moved by.
+     */
+    private int fill() throws IOException {
+        int shift = mPos;
+
+        if (shift > 0) {
+            System.arraycopy(mBuffer, shift, mBuffer, 0, mLimit - shift);
+            mLimit -= shift;
+            mPos = 0;
+        }
+
+        if (mLimit == mBuffer.length) {
+            mBuffer = Arrays.copyOf(mBuffer, mBuffer.length * 2);
+        }
+
+        int read = mReader.read(mBuffer, mLimit, mBuffer.length - mLimit);
+
+        if (read < 0) {
+            mEof = true;
+        } else {
+            mLimit += read;
+        }
+
+        return shift;
+    }
+
+    private void parseRow(int start, int end) {
+        mColumnCount = 0;
+
+        int tokenStart = start;
+
+        for (int i = start; i <= end; i++) {
+            if (i == end || isDelimiter(mBuffer[i])) {
+                // a trailing delimiter doesn't start another value
+                if (i == end && tokenStart == end && mColumnCount > 0) {
+                    break;
+                }
+
+                if (mColumnCount == mRow.length) {
+                    mRow = Arrays.copyOf(mRow, mRow.length * 2);
+                    mIntegers = Arrays.copyOf(mIntegers, mRow.length);
+                    mIntegral = Arrays.copyOf(mIntegral, mRow.length);
+                }
+
+                mRow[mColumnCount] = parseFloat(tokenStart, i);
+                mIntegers[mColumnCount] = mLastInteger;
+                mIntegral[mColumnCount] = mLastIntegral;
+                mColumnCount++;
+                tokenStart = i + 1;
+            }
+        }
+    }
+
+    private boolean isDelimiter(char c) {
+        for (char delimiter : mDelimiters) {
+            if (c == delimiter) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Parses the chars from start (inclusive) to end (exclusive) of the buffer. Sets mLastIntegral and
+     * mLastInteger if the value is written as an integer.
+     */
+    private float parseFloat(int start, int end) {
+        char[] buffer = mBuffer;
+
+        mLastIntegral = false;
+
+        // trim
+        while (start < end && buffer[start] <= ' ') {
+            start++;
+        }
+
+        while (end > start && buffer[end - 1] <= ' ') {
+            end--;
+        }
+
+        if (start == end) {
+            if (!mEmptyValuesAllowed) {
+                throw new NumberFormatException("Empty value in line " + mLineCount);
+            }
+
+            return Float.NaN;
+        }
+
+        int i = start;
+        boolean negative = false;
+
+        if (buffer[i] == '-' || buffer[i] == '+') {
+            negative = buffer[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+
+        for (; i < end; i++) {
+            char c = buffer[i];
+
+            if (c < '0' || c > '9')
+                break;
+
+            anyDigit = true;
+
+            // leading zeros are not significant
+            if (mantissa == 0 && c == '0')
+                continue;
+
+            mantissa = mantissa * 10 + (c - '0');
+            digits++;
+        }
+
+        boolean integral = true;
+
+        if (i < end && buffer[i] == '.') {
+            integral = false;
+            i++;
+
+            for (; i < end; i++) {
+                char c = buffer[i];
+
+                if (c < '0' || c > '9')
+                    break;
+
+                anyDigit = true;
+                exponent--;
+
+                if (mantissa == 0 && c == '0')
+                    continue;
+
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+            }
+        }
+
+        if (anyDigit && i < end && (buffer[i] == 'e' || buffer[i] == 'E')) {
+            integral = false;
+            i++;
+
+            boolean negativeExponent = false;
+
+            if (i < end && (buffer[i] == '-' || buffer[i] == '+')) {
+                negativeExponent = buffer[i] == '-';
+                i++;
+            }
+
+            int explicitExponent = 0;
+            boolean anyExponentDigit = false;
+
+            for (; i < end && explicitExponent < 1000; i++) {
+                char c = buffer[i];
+
+                if (c < '0' || c > '9')
+                    break;
+
+                anyExponentDigit = true;
+                explicitExponent = explicitExponent * 10 + (c - '0');
+            }
+
+            if (!anyExponentDigit) {
+                return parseFloatSlow(start, end);
+            }
+
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        if (!anyDigit || i != end || digits > 15 || exponent < -22 || exponent > 22) {
+            return parseFloatSlow(start, end);
+        }
+
+        if (integral) {
+            mLastIntegral = true;
+            mLastInteger = negative ? -mantissa : mantissa;
+        }
+
+        double value = exponent < 0
+                ? mantissa / POWERS_OF_TEN[-exponent]
+                : mantissa * POWERS_OF_TEN[exponent];
+
+        return (float) (negative ? -value : value);
+    }
+
+    private float parseFloatSlow(int start, int end) {
+        String value = new String(mBuffer, start, end - start);
+
+        try {
+            return Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException("Invalid value \"" + value + "\" in line " + mLineCount);
+        }
+    }
+}
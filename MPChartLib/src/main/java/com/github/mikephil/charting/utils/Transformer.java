@@ -91,16 +91,10 @@ public class Transformer {
         float[] valuePoints = valuePointsForGenerateTransformedValuesScatter;
 
         for (int j = 0; j < count; j += 2) {
+            int index = j / 2 + from;
 
-            Entry e = data.getEntryForIndex(j / 2 + from);
-
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
-            } else {
-                valuePoints[j] = 0;
-                valuePoints[j + 1] = 0;
-            }
+            valuePoints[j] = data.getEntryXForIndex(index);
+            valuePoints[j + 1] = data.getEntryYForIndex(index) * phaseY;
         }
 
         getValueToPixelMatrix().mapPoints(valuePoints);
@@ -153,11 +147,10 @@ public class Transformer {
         float[] valuePoints = valuePointsForGenerateTransformedValuesLine;
 
         for (int j = 0; j < count; j += 2) {
+            int index = j / 2 + min;
 
-            Entry e = data.getEntryForIndex(j / 2 + min);
-
-            valuePoints[j] = e.getX();
-            valuePoints[j + 1] = e.getY() * phaseY;
+            valuePoints[j] = data.getEntryXForIndex(index);
+            valuePoints[j + 1] = data.getEntryYForIndex(index) * phaseY;
         }
 
         getValueToPixelMatrix().mapPoints(valuePoints);
@@ -0,0 +1,190 @@
+package com.github.mikephil.charting.utils;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Coalesces update requests of a chart into at most one update per display frame. The requests are collected
+ * as flags until the next frame callback of the Choreographer (or a 16ms Handler tick below API 16), which
+ * hands all of them to the Callback at once. An optional maximum frame rate skips frames until enough time has
+ * passed since the last update, e.g. to limit a streaming chart to 20fps.
+ * <p/>
+ * Must only be used on the UI thread.
+ */
+public class UpdateScheduler {
+
+    /**
+     * the data changed, see Chart.notifyDataSetChanged()
+     */
+    public static final int FLAG_DATA = 1;
+
+    /**
+     * the offsets of the content have to be calculated again
+     */
+    public static final int FLAG_LAYOUT = 1 << 1;
+
+    /**
+     * the chart has to be redrawn
+     */
+    public static final int FLAG_REDRAW = 1 << 2;
+
+    private static final long FALLBACK_FRAME_MILLIS = 16;
+
+    /**
+     * frames that arrive this early are still accepted, to tolerate jitter of the frame times
+     */
+    private static final long FRAME_SLACK_NANOS = 1000000L;
+
+    public interface Callback {
+        /**
+         * Called once per frame with all the flags that were requested since the last call.
+         */
+        void onScheduledUpdate(int flags);
+    }
+
+    @NotNull
+    private final Callback mCallback;
+
+    @NotNull
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+    private FrameCallbackPoster mPoster;
+
+    private int mPendingFlags;
+
+    private boolean mScheduled;
+
+    private boolean mDispatching;
+
+    private float mMaxFrameRate = 0f;
+
+    private long mMinFrameIntervalNanos = 0;
+
+    private long mLastFrameNanos = 0;
+
+    private final Runnable mFallbackFrame = new Runnable() {
+        @Override
+        public void run() {
+            doFrame(System.nanoTime());
+        }
+    };
+
+    public UpdateScheduler(@NotNull Callback callback) {
+        mCallback = callback;
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            mPoster = new FrameCallbackPoster(this);
+        }
+    }
+
+    /**
+     * Sets the maximum number of updates per second, 0 updates on every frame that has requests. Default: 0
+     */
+    public void setMaxFrameRate(float fps) {
+        mMaxFrameRate = Math.max(0f, fps);
+        mMinFrameIntervalNanos = mMaxFrameRate > 0f ? (long) (1000000000L / mMaxFrameRate) : 0;
+    }
+
+    public float getMaxFrameRate() {
+        return mMaxFrameRate;
+    }
+
+    /**
+     * Returns true while the Callback is called.
+     */
+    public boolean isDispatching() {
+        return mDispatching;
+    }
+
+    /**
+     * Requests an update with the given flags on the next (allowed) frame.
+     */
+    public void request(int flags) {
+        mPendingFlags |= flags;
+
+        if (!mScheduled) {
+            mScheduled = true;
+            postFrame(0);
+        }
+    }
+
+    /**
+     * Drops all the pending requests.
+     */
+    public void cancel() {
+        mPendingFlags = 0;
+        mScheduled = false;
+
+        if (mPoster != null) {
+            mPoster.cancel();
+        }
+
+        mHandler.removeCallbacks(mFallbackFrame);
+    }
+
+    private void postFrame(long delayMillis) {
+        if (mPoster != null) {
+            mPoster.post(delayMillis);
+        } else {
+            mHandler.postDelayed(mFallbackFrame, Math.max(delayMillis, FALLBACK_FRAME_MILLIS));
+        }
+    }
+
+    private void doFrame(long frameTimeNanos) {
+        if (!mScheduled)
+            return;
+
+        long elapsed = frameTimeNanos - mLastFrameNanos;
+
+        if (mMinFrameIntervalNanos > 0 && mLastFrameNanos != 0
+                && elapsed < mMinFrameIntervalNanos - FRAME_SLACK_NANOS) {
+            // too early, wait for the first frame after the interval
+            postFrame((mMinFrameIntervalNanos - elapsed) / 1000000L);
+            return;
+        }
+
+        mScheduled = false;
+        mLastFrameNanos = frameTimeNanos;
+
+        int flags = mPendingFlags;
+        mPendingFlags = 0;
+
+        mDispatching = true;
+        try {
+            mCallback.onScheduledUpdate(flags);
+        } finally {
+            mDispatching = false;
+        }
+    }
+
+    /**
+     * Posts the frames to the Choreographer, in a class of its own so it's only loaded on API 16+.
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private static final class FrameCallbackPoster implements Choreographer.FrameCallback {
+        @NotNull
+        private final UpdateScheduler mScheduler;
+
+        FrameCallbackPoster(@NotNull UpdateScheduler scheduler) {
+            mScheduler = scheduler;
+        }
+
+        void post(long delayMillis) {
+            Choreographer.getInstance().postFrameCallbackDelayed(this, delayMillis);
+        }
+
+        void cancel() {
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            mScheduler.doFrame(frameTimeNanos);
+        }
+    }
+}
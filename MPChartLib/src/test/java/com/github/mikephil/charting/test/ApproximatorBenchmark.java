@@ -0,0 +1,59 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.filter.Approximator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static junit.framework.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Reports the time of the iterative and the parallel Douglas-Peucker implementation compared to the recursive one.
+ * Only runs with ./gradlew :MPChartLib:testDebugUnitTest -Pbenchmark
+ */
+public class ApproximatorBenchmark {
+
+    @Before
+    public void requireBenchmarks() {
+        assumeTrue(Boolean.getBoolean("mpchart.benchmark"));
+    }
+
+    @Test
+    public void benchmarkApproximation() {
+
+        float[] points = ApproximatorTest.createRandomWalk(1000000);
+
+        Approximator a = new Approximator();
+        ForkJoinPool pool = new ForkJoinPool();
+
+        // warm up
+        ApproximatorTest.reduceRecursive(points, 5f);
+        a.reduceWithDouglasPeucker(points, 5f);
+        a.reduceWithDouglasPeucker(points, 5f, pool);
+
+        long start = System.nanoTime();
+        float[] expected = ApproximatorTest.reduceRecursive(points, 5f);
+        long recursiveNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        float[] iterative = a.reduceWithDouglasPeucker(points, 5f);
+        long iterativeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        float[] parallel = a.reduceWithDouglasPeucker(points, 5f, pool);
+        long parallelNanos = System.nanoTime() - start;
+
+        pool.shutdown();
+
+        assertTrue(Arrays.equals(expected, iterative));
+        assertTrue(Arrays.equals(expected, parallel));
+
+        System.out.println("Douglas-Peucker on 1M points: recursive " + recursiveNanos / 1000000L
+                + " ms, iterative " + iterativeNanos / 1000000L
+                + " ms, parallel " + parallelNanos / 1000000L + " ms");
+    }
+}
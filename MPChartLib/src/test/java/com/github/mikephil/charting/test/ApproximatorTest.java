@@ -2,13 +2,18 @@ package com.github.mikephil.charting.test;
 
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.filter.Approximator;
+import com.github.mikephil.charting.data.filter.ApproximatorN;
 
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 
 /**
  * Created by philipp on 07/06/16.
@@ -40,4 +45,88 @@ public class ApproximatorTest {
 
         assertEquals(18, reduced.length);
     }
+
+    @Test
+    public void testApproximationN() {
+
+        float[] points = new float[200];
+
+        for (int i = 0; i < 100; i++) {
+            points[i * 2] = i;
+            points[i * 2 + 1] = i % 10 == 0 ? 10 : 0;
+        }
+
+        float[] reduced = new ApproximatorN().reduceWithDouglasPeucker(points, 12);
+
+        assertEquals(24, reduced.length);
+        assertEquals(0f, reduced[0], 0f);
+        assertEquals(99f, reduced[22], 0f);
+    }
+
+    @Test
+    public void testApproximationParallel() {
+
+        float[] points = createRandomWalk(200000);
+
+        Approximator a = new Approximator();
+        a.setParallelThreshold(1000);
+
+        float[] sequential = a.reduceWithDouglasPeucker(points, 5f);
+        float[] parallel = a.reduceWithDouglasPeucker(points, 5f, new ForkJoinPool(4));
+
+        assertTrue(Arrays.equals(reduceRecursive(points, 5f), sequential));
+        assertTrue(Arrays.equals(sequential, parallel));
+    }
+
+    static float[] createRandomWalk(int count) {
+        Random random = new Random(3);
+        float[] points = new float[count * 2];
+        float y = 0f;
+
+        for (int i = 0; i < count; i++) {
+            y += random.nextFloat() * 2f - 1f;
+            points[i * 2] = i;
+            points[i * 2 + 1] = y;
+        }
+
+        return points;
+    }
+
+    /**
+     * The former recursive implementation, as the reference.
+     */
+    static float[] reduceRecursive(float[] points, float tolerance) {
+        float x1 = points[0];
+        float y1 = points[1];
+        float x2 = points[points.length - 2];
+        float y2 = points[points.length - 1];
+
+        float dx = x1 - x2;
+        float dy = y1 - y2;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+        int greatestIndex = 0;
+        float greatestDistance = 0f;
+
+        for (int i = 2; i < points.length - 2; i += 2) {
+            float distance = Math.abs(dy * points[i] - dx * points[i + 1] + x1 * y2 - x2 * y1) / length;
+
+            if (distance > greatestDistance) {
+                greatestDistance = distance;
+                greatestIndex = i;
+            }
+        }
+
+        if (greatestDistance <= tolerance) {
+            return new float[]{x1, y1, x2, y2};
+        }
+
+        float[] reduced1 = reduceRecursive(Arrays.copyOfRange(points, 0, greatestIndex + 2), tolerance);
+        float[] reduced2 = reduceRecursive(Arrays.copyOfRange(points, greatestIndex, points.length), tolerance);
+
+        float[] result = Arrays.copyOf(reduced1, reduced1.length + reduced2.length - 2);
+        System.arraycopy(reduced2, 2, result, reduced1.length, reduced2.length - 2);
+
+        return result;
+    }
 }
@@ -11,6 +11,7 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
@@ -40,8 +41,8 @@ public class ChartDataTest {
 
         ScatterData data = new ScatterData(set1, set2);
 
-        assertEquals(-2, data.getYMin(YAxis.AxisDependency.LEFT), 0.01f);
-        assertEquals(50f, data.getYMax(YAxis.AxisDependency.LEFT), 0.01f);
+        assertEquals(-2, data.getYMin(YAxis.DEPENDENCY_LEFT), 0.01f);
+        assertEquals(50f, data.getYMax(YAxis.DEPENDENCY_LEFT), 0.01f);
 
         assertEquals(6, data.getEntryCount());
 
@@ -59,8 +60,8 @@ public class ChartDataTest {
         assertEquals(set1, data.getMaxEntryCountSet());
         assertEquals(4, data.getMaxEntryCountSet().getEntryCount());
 
-        assertEquals(-10f, data.getYMin(YAxis.AxisDependency.LEFT), 0.01f);
-        assertEquals(50f, data.getYMax(YAxis.AxisDependency.LEFT), 0.01f);
+        assertEquals(-10f, data.getYMin(YAxis.DEPENDENCY_LEFT), 0.01f);
+        assertEquals(50f, data.getYMax(YAxis.DEPENDENCY_LEFT), 0.01f);
 
         assertEquals(-10f, data.getXMin(), 0.01f);
         assertEquals(21f, data.getXMax(), 0.01f);
@@ -71,40 +72,40 @@ public class ChartDataTest {
         data.addEntry(new Entry(-100, 100), 0);
         data.addEntry(new Entry(0, -100), 0);
 
-        assertEquals(-100f, data.getYMin(YAxis.AxisDependency.LEFT), 0.01f);
-        assertEquals(100f, data.getYMax(YAxis.AxisDependency.LEFT), 0.01f);
+        assertEquals(-100f, data.getYMin(YAxis.DEPENDENCY_LEFT), 0.01f);
+        assertEquals(100f, data.getYMax(YAxis.DEPENDENCY_LEFT), 0.01f);
 
         // right axis will adapt left axis values if no right axis values are present
-        assertEquals(-100, data.getYMin(YAxis.AxisDependency.RIGHT), 0.01f);
-        assertEquals(100f, data.getYMax(YAxis.AxisDependency.RIGHT), 0.01f);
+        assertEquals(-100, data.getYMin(YAxis.DEPENDENCY_RIGHT), 0.01f);
+        assertEquals(100f, data.getYMax(YAxis.DEPENDENCY_RIGHT), 0.01f);
 
         List<Entry> entries3 = new ArrayList<Entry>();
         entries3.add(new Entry(0, 200));
         entries3.add(new Entry(0, -50));
 
         ScatterDataSet set3 = new ScatterDataSet(entries3, "");
-        set3.setAxisDependency(YAxis.AxisDependency.RIGHT);
+        set3.setAxisDependency(YAxis.DEPENDENCY_RIGHT);
 
         data.addDataSet(set3);
 
         assertEquals(3, data.getDataSetCount());
 
-        assertEquals(-100f, data.getYMin(YAxis.AxisDependency.LEFT), 0.01f);
-        assertEquals(100f, data.getYMax(YAxis.AxisDependency.LEFT), 0.01f);
+        assertEquals(-100f, data.getYMin(YAxis.DEPENDENCY_LEFT), 0.01f);
+        assertEquals(100f, data.getYMax(YAxis.DEPENDENCY_LEFT), 0.01f);
 
-        assertEquals(-50f, data.getYMin(YAxis.AxisDependency.RIGHT), 0.01f);
-        assertEquals(200f, data.getYMax(YAxis.AxisDependency.RIGHT), 0.01f);
+        assertEquals(-50f, data.getYMin(YAxis.DEPENDENCY_RIGHT), 0.01f);
+        assertEquals(200f, data.getYMax(YAxis.DEPENDENCY_RIGHT), 0.01f);
 
         LineData lineData = new LineData();
 
         assertEquals(Float.MAX_VALUE, lineData.getYMin(), 0.01f);
         assertEquals(-Float.MAX_VALUE, lineData.getYMax(), 0.01f);
 
-        assertEquals(Float.MAX_VALUE, lineData.getYMin(YAxis.AxisDependency.LEFT), 0.01f);
-        assertEquals(-Float.MAX_VALUE, lineData.getYMax(YAxis.AxisDependency.LEFT), 0.01f);
+        assertEquals(Float.MAX_VALUE, lineData.getYMin(YAxis.DEPENDENCY_LEFT), 0.01f);
+        assertEquals(-Float.MAX_VALUE, lineData.getYMax(YAxis.DEPENDENCY_LEFT), 0.01f);
 
-        assertEquals(Float.MAX_VALUE, lineData.getYMin(YAxis.AxisDependency.RIGHT), 0.01f);
-        assertEquals(-Float.MAX_VALUE, lineData.getYMax(YAxis.AxisDependency.RIGHT), 0.01f);
+        assertEquals(Float.MAX_VALUE, lineData.getYMin(YAxis.DEPENDENCY_RIGHT), 0.01f);
+        assertEquals(-Float.MAX_VALUE, lineData.getYMax(YAxis.DEPENDENCY_RIGHT), 0.01f);
 
         assertEquals(0, lineData.getDataSetCount());
 
@@ -126,11 +127,11 @@ public class ChartDataTest {
         assertEquals(90, lineData.getYMin(), 0.01f);
         assertEquals(1000, lineData.getYMax(), 0.01f);
 
-        assertEquals(90, lineData.getYMin(YAxis.AxisDependency.LEFT), 0.01f);
-        assertEquals(1000f, lineData.getYMax(YAxis.AxisDependency.LEFT), 0.01f);
+        assertEquals(90, lineData.getYMin(YAxis.DEPENDENCY_LEFT), 0.01f);
+        assertEquals(1000f, lineData.getYMax(YAxis.DEPENDENCY_LEFT), 0.01f);
 
-        assertEquals(90, lineData.getYMin(YAxis.AxisDependency.RIGHT), 0.01f);
-        assertEquals(1000, lineData.getYMax(YAxis.AxisDependency.RIGHT), 0.01f);
+        assertEquals(90, lineData.getYMin(YAxis.DEPENDENCY_RIGHT), 0.01f);
+        assertEquals(1000, lineData.getYMax(YAxis.DEPENDENCY_RIGHT), 0.01f);
 
         List<Entry> lineEntries2 = new ArrayList<Entry>();
         lineEntries2.add(new Entry(-1000, 2000));
@@ -140,7 +141,7 @@ public class ChartDataTest {
         lineEntries2.add(e);
 
         LineDataSet lineSet2 = new LineDataSet(lineEntries2, "");
-        lineSet2.setAxisDependency(YAxis.AxisDependency.RIGHT);
+        lineSet2.setAxisDependency(YAxis.DEPENDENCY_RIGHT);
 
         lineData.addDataSet(lineSet2);
 
@@ -154,11 +155,11 @@ public class ChartDataTest {
         assertEquals(-3000, lineData.getYMin(), 0.01f);
         assertEquals(2500, lineData.getYMax(), 0.01f);
 
-        assertEquals(90, lineData.getYMin(YAxis.AxisDependency.LEFT), 0.01f);
-        assertEquals(1000f, lineData.getYMax(YAxis.AxisDependency.LEFT), 0.01f);
+        assertEquals(90, lineData.getYMin(YAxis.DEPENDENCY_LEFT), 0.01f);
+        assertEquals(1000f, lineData.getYMax(YAxis.DEPENDENCY_LEFT), 0.01f);
 
-        assertEquals(-3000, lineData.getYMin(YAxis.AxisDependency.RIGHT), 0.01f);
-        assertEquals(2500, lineData.getYMax(YAxis.AxisDependency.RIGHT), 0.01f);
+        assertEquals(-3000, lineData.getYMin(YAxis.DEPENDENCY_RIGHT), 0.01f);
+        assertEquals(2500, lineData.getYMax(YAxis.DEPENDENCY_RIGHT), 0.01f);
 
         assertTrue(lineData.removeEntry(e, 1));
 
@@ -168,11 +169,11 @@ public class ChartDataTest {
         assertEquals(-3000, lineData.getYMin(), 0.01f);
         assertEquals(2000, lineData.getYMax(), 0.01f);
 
-        assertEquals(90, lineData.getYMin(YAxis.AxisDependency.LEFT), 0.01f);
-        assertEquals(1000f, lineData.getYMax(YAxis.AxisDependency.LEFT), 0.01f);
+        assertEquals(90, lineData.getYMin(YAxis.DEPENDENCY_LEFT), 0.01f);
+        assertEquals(1000f, lineData.getYMax(YAxis.DEPENDENCY_LEFT), 0.01f);
 
-        assertEquals(-3000, lineData.getYMin(YAxis.AxisDependency.RIGHT), 0.01f);
-        assertEquals(2000, lineData.getYMax(YAxis.AxisDependency.RIGHT), 0.01f);
+        assertEquals(-3000, lineData.getYMin(YAxis.DEPENDENCY_RIGHT), 0.01f);
+        assertEquals(2000, lineData.getYMax(YAxis.DEPENDENCY_RIGHT), 0.01f);
 
         assertEquals(2, lineData.getDataSetCount());
         assertTrue(lineData.removeDataSet(lineSet2));
@@ -184,11 +185,11 @@ public class ChartDataTest {
         assertEquals(90, lineData.getYMin(), 0.01f);
         assertEquals(1000, lineData.getYMax(), 0.01f);
 
-        assertEquals(90, lineData.getYMin(YAxis.AxisDependency.LEFT), 0.01f);
-        assertEquals(1000f, lineData.getYMax(YAxis.AxisDependency.LEFT), 0.01f);
+        assertEquals(90, lineData.getYMin(YAxis.DEPENDENCY_LEFT), 0.01f);
+        assertEquals(1000f, lineData.getYMax(YAxis.DEPENDENCY_LEFT), 0.01f);
 
-        assertEquals(90, lineData.getYMin(YAxis.AxisDependency.RIGHT), 0.01f);
-        assertEquals(1000, lineData.getYMax(YAxis.AxisDependency.RIGHT), 0.01f);
+        assertEquals(90, lineData.getYMin(YAxis.DEPENDENCY_RIGHT), 0.01f);
+        assertEquals(1000, lineData.getYMax(YAxis.DEPENDENCY_RIGHT), 0.01f);
 
         assertTrue(lineData.removeDataSet(lineSet1));
         assertEquals(0, lineData.getDataSetCount());
@@ -199,13 +200,124 @@ public class ChartDataTest {
         assertEquals(Float.MAX_VALUE, lineData.getYMin(), 0.01f);
         assertEquals(-Float.MAX_VALUE, lineData.getYMax(), 0.01f);
 
-        assertEquals(Float.MAX_VALUE, lineData.getYMin(YAxis.AxisDependency.LEFT), 0.01f);
-        assertEquals(-Float.MAX_VALUE, lineData.getYMax(YAxis.AxisDependency.LEFT), 0.01f);
+        assertEquals(Float.MAX_VALUE, lineData.getYMin(YAxis.DEPENDENCY_LEFT), 0.01f);
+        assertEquals(-Float.MAX_VALUE, lineData.getYMax(YAxis.DEPENDENCY_LEFT), 0.01f);
 
-        assertEquals(Float.MAX_VALUE, lineData.getYMin(YAxis.AxisDependency.RIGHT), 0.01f);
-        assertEquals(-Float.MAX_VALUE, lineData.getYMax(YAxis.AxisDependency.RIGHT), 0.01f);
+        assertEquals(Float.MAX_VALUE, lineData.getYMin(YAxis.DEPENDENCY_RIGHT), 0.01f);
+        assertEquals(-Float.MAX_VALUE, lineData.getYMax(YAxis.DEPENDENCY_RIGHT), 0.01f);
 
         assertFalse(lineData.removeDataSet(lineSet1));
         assertFalse(lineData.removeDataSet(lineSet2));
     }
+
+    @Test
+    public void testCalcMinMaxYSkipsUnchangedDataSets() {
+
+        final int[] calculations = new int[2];
+
+        List<Entry> entries1 = new ArrayList<Entry>();
+        entries1.add(new Entry(0, 1));
+        entries1.add(new Entry(10, 5));
+
+        LineDataSet set1 = new LineDataSet(entries1, "") {
+            @Override
+            public void calcMinMaxY(float fromX, float toX) {
+                calculations[0]++;
+                super.calcMinMaxY(fromX, toX);
+            }
+        };
+
+        List<Entry> entries2 = new ArrayList<Entry>();
+        entries2.add(new Entry(0, -3));
+        entries2.add(new Entry(10, 2));
+
+        LineDataSet set2 = new LineDataSet(entries2, "") {
+            @Override
+            public void calcMinMaxY(float fromX, float toX) {
+                calculations[1]++;
+                super.calcMinMaxY(fromX, toX);
+            }
+        };
+
+        LineData data = new LineData(set1, set2);
+
+        data.calcMinMaxY(0, 30);
+        data.calcMinMaxY(0, 30);
+
+        assertEquals(1, calculations[0]);
+        assertEquals(1, calculations[1]);
+        assertEquals(-3f, data.getYMin(), 0.01f);
+
+        int version = set1.getVersion();
+        data.addEntry(new Entry(20, 20), 0);
+
+        assertTrue(set1.getVersion() != version);
+
+        data.calcMinMaxY(0, 30);
+
+        assertEquals(2, calculations[0]);
+        assertEquals(1, calculations[1]);
+        assertEquals(20f, data.getYMax(), 0.01f);
+
+        // a new range needs all the DataSets
+        data.calcMinMaxY(-5, 0);
+
+        assertEquals(3, calculations[0]);
+        assertEquals(2, calculations[1]);
+        assertEquals(1f, data.getYMax(YAxis.DEPENDENCY_LEFT), 0.01f);
+
+        // values changed in place don't change the version, notifyDataChanged() recalculates everything
+        entries2.get(0).setY(7);
+        data.notifyDataChanged();
+        data.calcMinMaxY(-5, 0);
+
+        assertEquals(4, calculations[0]);
+        assertEquals(3, calculations[1]);
+        assertEquals(7f, data.getYMax(YAxis.DEPENDENCY_LEFT), 0.01f);
+    }
+
+    @Test
+    public void testCalcMinMaxYMergesChangedDataSets() {
+
+        Random random = new Random(11);
+        LineData data = new LineData();
+
+        for (int i = 0; i < 4; i++) {
+            LineDataSet set = new LineDataSet(new ArrayList<Entry>(), "");
+            set.setAxisDependency(i % 2 == 0 ? YAxis.DEPENDENCY_LEFT : YAxis.DEPENDENCY_RIGHT);
+
+            for (int x = 0; x < 20; x++) {
+                set.addEntry(new Entry(x, random.nextFloat() * 100f));
+            }
+
+            data.addDataSet(set);
+        }
+
+        data.calcMinMaxY(5, 50);
+
+        for (int step = 0; step < 500; step++) {
+            LineDataSet set = (LineDataSet) data.getDataSetByIndex(random.nextInt(4));
+
+            // appends and removals widen and shrink the bounds of single DataSets
+            if (random.nextBoolean() || set.getEntryCount() < 5) {
+                set.addEntry(new Entry(set.getXMax() + 1, random.nextFloat() * 200f - 100f));
+            } else {
+                set.removeFirst();
+            }
+
+            data.calcMinMaxY(5, 50);
+
+            LineData expected = new LineData(new ArrayList<>(data.getDataSets()));
+            expected.calcMinMaxY(5, 50);
+
+            assertEquals(expected.getYMin(), data.getYMin(), 0f);
+            assertEquals(expected.getYMax(), data.getYMax(), 0f);
+            assertEquals(expected.getXMin(), data.getXMin(), 0f);
+            assertEquals(expected.getXMax(), data.getXMax(), 0f);
+            assertEquals(expected.getYMin(YAxis.DEPENDENCY_LEFT), data.getYMin(YAxis.DEPENDENCY_LEFT), 0f);
+            assertEquals(expected.getYMax(YAxis.DEPENDENCY_LEFT), data.getYMax(YAxis.DEPENDENCY_LEFT), 0f);
+            assertEquals(expected.getYMin(YAxis.DEPENDENCY_RIGHT), data.getYMin(YAxis.DEPENDENCY_RIGHT), 0f);
+            assertEquals(expected.getYMax(YAxis.DEPENDENCY_RIGHT), data.getYMax(YAxis.DEPENDENCY_RIGHT), 0f);
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ChunkedEntryList;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Reports the time of out-of-order inserts into a ChunkedEntryList compared to an ArrayList.
+ * Only runs with ./gradlew :MPChartLib:testDebugUnitTest -Pbenchmark
+ */
+public class ChunkedEntryListBenchmark {
+
+    @Before
+    public void requireBenchmarks() {
+        assumeTrue(Boolean.getBoolean("mpchart.benchmark"));
+    }
+
+    @Test
+    public void benchmarkOrderedInserts() {
+
+        int count = 200000;
+
+        long start = System.nanoTime();
+        LineDataSet chunked = new LineDataSet(new ChunkedEntryList<Entry>(), "");
+        insertShuffled(chunked, count);
+        long chunkedNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        LineDataSet plain = new LineDataSet(new ArrayList<Entry>(), "");
+        insertShuffled(plain, count);
+        long plainNanos = System.nanoTime() - start;
+
+        assertEquals(count, chunked.getEntryCount());
+        assertEquals(count, plain.getEntryCount());
+
+        System.out.println("addEntryOrdered of " + count + " shuffled entries: ChunkedEntryList "
+                + chunkedNanos / 1000000L + " ms, ArrayList " + plainNanos / 1000000L + " ms");
+    }
+
+    private static void insertShuffled(LineDataSet set, int count) {
+        Random random = new Random(5);
+
+        for (int i = 0; i < count; i++) {
+            set.addEntryOrdered(new Entry(random.nextFloat() * count, i));
+        }
+    }
+}
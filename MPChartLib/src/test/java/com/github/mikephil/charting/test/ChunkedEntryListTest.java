@@ -0,0 +1,107 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ChunkedEntryList;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class ChunkedEntryListTest {
+
+    @Test
+    public void testOrderedInsertsAndRemovals() {
+
+        Random random = new Random(11);
+        ChunkedEntryList<Entry> list = new ChunkedEntryList<>();
+        List<Entry> expected = new ArrayList<>();
+
+        for (int i = 0; i < 20000; i++) {
+            Entry e = new Entry(random.nextInt(5000), i);
+            list.addOrdered(e);
+
+            // the same position as a stable insertion into a sorted ArrayList
+            int position = expected.size();
+            while (position > 0 && expected.get(position - 1).getX() > e.getX()) {
+                position--;
+            }
+            expected.add(position, e);
+        }
+
+        assertTrue(list.getBlockCount() > 1);
+
+        for (int i = 0; i < 15000; i++) {
+            int index = random.nextInt(expected.size());
+
+            if (i % 2 == 0) {
+                assertSame(expected.remove(index), list.remove(index));
+            } else {
+                Entry e = expected.remove(index);
+                assertTrue(list.remove(e));
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), list.get(i));
+        }
+
+        // the list can shrink to nothing and grow again
+        list.clear();
+        list.add(new Entry(1, 1));
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    public void testSlidingWindowMergesBlocks() {
+
+        ChunkedEntryList<Entry> list = new ChunkedEntryList<>();
+
+        for (int i = 0; i < 20000; i++) {
+            list.add(new Entry(i, i));
+
+            // keep a window of the newest entries, removing by value like DataSet.removeEntry(...)
+            if (list.size() > 1000) {
+                assertTrue(list.remove(list.get(0)));
+            }
+
+            // and some out-of-order inserts and removals in the middle
+            if (i % 10 == 0) {
+                list.addOrdered(new Entry(i - 500, -1));
+                list.remove(list.size() / 2);
+            }
+        }
+
+        assertEquals(1000, list.size());
+        assertTrue(list.getBlockCount() <= 1000 / (ChunkedEntryList.BLOCK_SIZE / 2) + 1);
+
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(list.get(i - 1).getX() <= list.get(i).getX());
+        }
+    }
+
+    @Test
+    public void testDataSet() {
+
+        LineDataSet set = new LineDataSet(new ChunkedEntryList<Entry>(), "");
+
+        for (int i = 0; i < 3000; i++) {
+            set.addEntryOrdered(new Entry((i * 7919) % 3000, i));
+        }
+
+        for (int i = 0; i < 3000; i++) {
+            assertEquals((float) i, set.getEntryForIndex(i).getX(), 0f);
+        }
+
+        assertEquals(0f, set.getXMin(), 0f);
+        assertEquals(2999f, set.getXMax(), 0f);
+    }
+}
@@ -0,0 +1,239 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.DirtyRange;
+import com.github.mikephil.charting.data.Entry;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class ColumnarLineDataSetTest {
+
+    @Test
+    public void testCalcMinMax() {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet(
+                new float[]{10, 15, 21},
+                new float[]{10, 2, 5}, "");
+
+        assertEquals(10f, set.getXMin(), 0.01f);
+        assertEquals(21f, set.getXMax(), 0.01f);
+
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        assertEquals(3, set.getEntryCount());
+
+        set.addEntry(25, 1);
+
+        assertEquals(25f, set.getXMax(), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(4, set.getEntryCount());
+
+        assertTrue(set.removeEntry(3));
+
+        assertEquals(21f, set.getXMax(), 0.01f);
+        assertEquals(2f, set.getYMin(), 0.01f);
+
+        assertTrue(set.removeFirst());
+
+        assertEquals(15f, set.getXMin(), 0.01f);
+        assertEquals(5f, set.getYMax(), 0.01f);
+
+        set.calcMinMaxY(21, 30);
+
+        assertEquals(5f, set.getYMin(), 0.01f);
+        assertEquals(5f, set.getYMax(), 0.01f);
+    }
+
+    @Test
+    public void testAddRemoveEntry() {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet("");
+
+        for (int i = 0; i < 100; i++) {
+            set.addEntry(i * 2, i);
+        }
+
+        assertEquals(100, set.getEntryCount());
+
+        set.addEntryOrdered(new Entry(5, -1));
+
+        assertEquals(101, set.getEntryCount());
+        assertEquals(5, set.getEntryXForIndex(3), 0.01f);
+        assertEquals(-1, set.getEntryYForIndex(3), 0.01f);
+        assertEquals(6, set.getEntryXForIndex(4), 0.01f);
+        assertEquals(-1, set.getYMin(), 0.01f);
+
+        assertEquals(3, set.getEntryIndex(new Entry(5, -1)));
+        assertEquals(-1, set.getEntryIndex(new Entry(5, 1)));
+
+        assertTrue(set.removeEntry(new Entry(5, -1)));
+        assertFalse(set.removeEntry(new Entry(5, -1)));
+
+        assertEquals(100, set.getEntryCount());
+        assertEquals(0, set.getYMin(), 0.01f);
+
+        Entry e = set.getEntryForXValue(7, Float.NaN, DataSet.ROUNDING_DOWN);
+        assertEquals(6, e.getX(), 0.01f);
+
+        e = set.getEntryForXValue(7, Float.NaN, DataSet.ROUNDING_UP);
+        assertEquals(8, e.getX(), 0.01f);
+
+        assertEquals(100, set.getEntries().size());
+        assertEquals(198, set.getEntries().get(99).getX(), 0.01f);
+
+        set.clear();
+
+        assertEquals(0, set.getEntryCount());
+        assertFalse(set.removeLast());
+        assertFalse(set.removeFirst());
+    }
+
+    @Test
+    public void testEntryView() {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet(
+                new float[]{1, 2, 4},
+                new float[]{10, 20, 40}, "");
+
+        // the list of entries is a view of the values
+        set.getEntries().add(2, new Entry(3, 30));
+        set.getEntries().add(new Entry(5, -50));
+
+        assertEquals(5, set.getEntryCount());
+        assertEquals(3f, set.getEntryXForIndex(2), 0.01f);
+        assertEquals(-50f, set.getYMin(), 0.01f);
+        assertTrue(set.contains(new Entry(3, 30)));
+        assertEquals(4, set.getEntries().indexOf(new Entry(5, -50)));
+
+        assertEquals(10f, set.getEntries().remove(0).getY(), 0.01f);
+        assertEquals(4, set.getEntryCount());
+        assertEquals(2f, set.getXMin(), 0.01f);
+
+        set.getEntries().clear();
+
+        assertEquals(0, set.getEntryCount());
+    }
+
+    @Test
+    public void testRangeIndex() {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet("");
+        ColumnarLineDataSet indexed = new ColumnarLineDataSet("");
+        indexed.setRangeIndexEnabled(true);
+
+        Random random = new Random(42);
+
+        for (int i = 0; i < 1000; i++) {
+            float y = random.nextFloat() * 100f - 50f;
+
+            set.addEntry(i, y);
+            indexed.addEntry(i, y);
+        }
+
+        set.removeEntry(500);
+        indexed.removeEntry(500);
+
+        for (int i = 0; i < 200; i++) {
+            float from = random.nextInt(1000);
+            float to = from + random.nextInt(1000);
+
+            set.calcMinMaxY(from, to);
+            indexed.calcMinMaxY(from, to);
+
+            assertEquals(set.getYMin(), indexed.getYMin(), 0f);
+            assertEquals(set.getYMax(), indexed.getYMax(), 0f);
+        }
+    }
+
+    @Test
+    public void testRangeIndexSlidingWindow() {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet("");
+        ColumnarLineDataSet indexed = new ColumnarLineDataSet("");
+        indexed.setRangeIndexEnabled(true);
+
+        Random random = new Random(7);
+
+        for (int i = 0; i < 5000; i++) {
+            float y = random.nextFloat() * 100f - 50f;
+
+            set.addEntry(i, y);
+            indexed.addEntry(i, y);
+
+            // keep a window of 300 values
+            if (set.getEntryCount() > 300) {
+                set.removeFirst();
+                indexed.removeFirst();
+            }
+
+            assertEquals(set.getYMin(), indexed.getYMin(), 0f);
+            assertEquals(set.getYMax(), indexed.getYMax(), 0f);
+
+            float from = i - random.nextInt(400);
+            float to = from + random.nextInt(300);
+
+            set.calcMinMaxY(from, to);
+            indexed.calcMinMaxY(from, to);
+
+            assertEquals(set.getYMin(), indexed.getYMin(), 0f);
+            assertEquals(set.getYMax(), indexed.getYMax(), 0f);
+        }
+    }
+
+    @Test
+    public void testDirtyRange() {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet("");
+
+        for (int i = 0; i < 10; i++) {
+            set.addEntry(i, i);
+        }
+
+        DirtyRange range = new DirtyRange();
+        int version = set.getVersion();
+
+        set.getDirtyRange(version, range);
+        assertTrue(range.isEmpty());
+
+        set.addEntry(10, 10);
+        set.addEntry(11, 11);
+        set.getDirtyRange(version, range);
+        assertFalse(range.all);
+        assertEquals(10, range.from);
+        assertEquals(Integer.MAX_VALUE, range.to);
+
+        // the indices of the range are shifted by the removal
+        set.removeFirst();
+        set.getDirtyRange(version, range);
+        assertEquals(1, range.removedFromStart);
+        assertEquals(9, range.from);
+
+        version = set.getVersion();
+        set.addEntryOrdered(4.5f, 0f);
+        set.getDirtyRange(version, range);
+        assertEquals(0, range.removedFromStart);
+        assertEquals(4, range.from);
+
+        set.notifyDataSetChanged();
+        set.getDirtyRange(version, range);
+        assertTrue(range.all);
+
+        // the log only holds the last versions
+        version = set.getVersion();
+
+        for (int i = 0; i < 100; i++) {
+            set.addEntry(12 + i, i);
+        }
+
+        set.getDirtyRange(version, range);
+        assertTrue(range.all);
+    }
+}
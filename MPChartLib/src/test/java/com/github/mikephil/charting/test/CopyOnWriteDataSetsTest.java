@@ -0,0 +1,58 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.CopyOnWriteDataSets;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+
+public class CopyOnWriteDataSetsTest {
+
+    @Test
+    public void testCopyOnWrite() {
+
+        LineDataSet first = createSet(10);
+        LineDataSet second = createSet(20);
+        LineData data = new LineData(first, second);
+
+        CopyOnWriteDataSets<ILineDataSet, Entry> builder = new CopyOnWriteDataSets<>(data);
+
+        ILineDataSet edited = builder.edit(1);
+        edited.addEntry(new Entry(100, 100));
+
+        // editing again doesn't copy again
+        assertSame(edited, builder.edit(1));
+
+        LineData next = new LineData(builder.build());
+
+        // unchanged DataSets are shared, the current data is untouched
+        assertSame(first, next.getDataSetByIndex(0));
+        assertNotSame(second, next.getDataSetByIndex(1));
+        assertEquals(20, second.getEntryCount());
+        assertEquals(19f, data.getXMax(), 0f);
+        assertEquals(21, next.getDataSetByIndex(1).getEntryCount());
+        assertEquals(100f, next.getXMax(), 0f);
+
+        // the built DataSets are shared with the new data now
+        assertNotSame(edited, builder.edit(1));
+    }
+
+    private static LineDataSet createSet(int count) {
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            entries.add(new Entry(i, i));
+        }
+
+        return new LineDataSet(entries, "");
+    }
+}
@@ -55,6 +55,42 @@ public class DataSetTest {
         assertEquals(10f, set.getYMax(), 0.01f);
     }
 
+    @Test
+    public void testCalcMinMaxOnRemove() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(0, 5));
+        entries.add(new Entry(1, 10));
+        entries.add(new Entry(2, 1));
+        entries.add(new Entry(3, 6));
+        entries.add(new Entry(4, 7));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        // only the x-bounds are affected
+        assertTrue(set.removeFirst());
+        assertTrue(set.removeLast());
+
+        assertEquals(1f, set.getXMin(), 0.01f);
+        assertEquals(3f, set.getXMax(), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        // the y-bounds are rescanned
+        assertTrue(set.removeFirst());
+
+        assertEquals(2f, set.getXMin(), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(6f, set.getYMax(), 0.01f);
+
+        assertTrue(set.removeEntry(0));
+
+        assertEquals(3f, set.getXMin(), 0.01f);
+        assertEquals(6f, set.getYMin(), 0.01f);
+
+        assertFalse(set.removeEntry(1));
+    }
+
     @Test
     public void testAddRemoveEntry() {
 
@@ -0,0 +1,134 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.BubbleDataSet;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.PieDataSet;
+import com.github.mikephil.charting.data.PieEntry;
+import com.github.mikephil.charting.data.RadarDataSet;
+import com.github.mikephil.charting.data.RadarEntry;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.FileUtils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class FileUtilsTest {
+
+    @Test
+    public void testBinaryRoundTrip() throws IOException {
+
+        ColumnarLineDataSet lineSet = new ColumnarLineDataSet(
+                new float[]{1, 2, 3},
+                new float[]{-1, 5, 2}, "line");
+
+        List<BarEntry> barEntries = new ArrayList<BarEntry>();
+        barEntries.add(new BarEntry(2, new float[]{1, 2, 3}));
+        barEntries.add(new BarEntry(1, 4));
+        BarDataSet barSet = new BarDataSet(barEntries, null);
+
+        List<CandleEntry> candleEntries = new ArrayList<CandleEntry>();
+        candleEntries.add(new CandleEntry(0, 10, 2, 4, 8));
+        CandleDataSet candleSet = new CandleDataSet(candleEntries, "candle");
+
+        // the bounds of the visible range must not end up in the header
+        lineSet.calcMinMaxY(2, 3);
+
+        List<IDataSet<?>> dataSets = new ArrayList<IDataSet<?>>();
+        dataSets.add(lineSet);
+        dataSets.add(barSet);
+        dataSets.add(candleSet);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FileUtils.writeBinary(dataSets, out);
+
+        List<IDataSet<?>> read = FileUtils.readBinary(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(3, read.size());
+
+        assertTrue(read.get(0) instanceof ColumnarLineDataSet);
+        assertEquals("line", read.get(0).getLabel());
+        assertEquals(3, read.get(0).getEntryCount());
+        assertEquals(5f, read.get(0).getEntryYForIndex(1), 0.01f);
+        assertEquals(-1f, read.get(0).getYMin(), 0.01f);
+        assertEquals(5f, read.get(0).getYMax(), 0.01f);
+        assertEquals(3f, read.get(0).getXMax(), 0.01f);
+
+        BarDataSet readBarSet = (BarDataSet) read.get(1);
+        assertNull(readBarSet.getLabel());
+        assertEquals(3, readBarSet.getStackSize());
+
+        // the unsorted entries are sorted
+        assertEquals(1f, readBarSet.getEntryForIndex(0).getX(), 0.01f);
+        assertNull(readBarSet.getEntryForIndex(0).getYVals());
+        assertEquals(4f, readBarSet.getEntryForIndex(0).getY(), 0.01f);
+        assertEquals(3, readBarSet.getEntryForIndex(1).getYVals().length);
+        assertEquals(6f, readBarSet.getEntryForIndex(1).getY(), 0.01f);
+
+        CandleEntry candle = ((CandleDataSet) read.get(2)).getEntryForIndex(0);
+        assertEquals(10f, candle.getHigh(), 0.01f);
+        assertEquals(2f, candle.getLow(), 0.01f);
+        assertEquals(4f, candle.getOpen(), 0.01f);
+        assertEquals(8f, candle.getClose(), 0.01f);
+    }
+
+    @Test
+    public void testBinaryTypes() throws IOException {
+
+        List<Entry> scatterEntries = new ArrayList<Entry>();
+        scatterEntries.add(new Entry(3, 1));
+        scatterEntries.add(new Entry(1, 2));
+
+        List<BubbleEntry> bubbleEntries = new ArrayList<BubbleEntry>();
+        bubbleEntries.add(new BubbleEntry(1, 2, 7));
+
+        List<RadarEntry> radarEntries = new ArrayList<RadarEntry>();
+        radarEntries.add(new RadarEntry(4));
+        radarEntries.add(new RadarEntry(6));
+
+        List<PieEntry> pieEntries = new ArrayList<PieEntry>();
+        pieEntries.add(new PieEntry(30, "a"));
+        pieEntries.add(new PieEntry(70));
+
+        List<IDataSet<?>> dataSets = new ArrayList<IDataSet<?>>();
+        dataSets.add(new ScatterDataSet(scatterEntries, "scatter"));
+        dataSets.add(new BubbleDataSet(bubbleEntries, "bubble"));
+        dataSets.add(new RadarDataSet(radarEntries, "radar"));
+        dataSets.add(new PieDataSet(pieEntries, "pie"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FileUtils.writeBinary(dataSets, out);
+
+        List<IDataSet<?>> read = FileUtils.readBinary(new ByteArrayInputStream(out.toByteArray()));
+
+        ScatterDataSet scatterSet = (ScatterDataSet) read.get(0);
+        assertEquals(1f, scatterSet.getEntryForIndex(0).getX(), 0.01f);
+        assertEquals(1f, scatterSet.getEntryForIndex(1).getY(), 0.01f);
+
+        assertEquals(7f, ((BubbleDataSet) read.get(1)).getEntryForIndex(0).getSize(), 0.01f);
+
+        RadarDataSet radarSet = (RadarDataSet) read.get(2);
+        assertEquals("radar", radarSet.getLabel());
+        assertEquals(6f, radarSet.getEntryForIndex(1).getY(), 0.01f);
+
+        PieDataSet pieSet = (PieDataSet) read.get(3);
+        assertEquals("a", pieSet.getEntryForIndex(0).getLabel());
+        assertNull(pieSet.getEntryForIndex(1).getLabel());
+        assertEquals(70f, pieSet.getEntryForIndex(1).getY(), 0.01f);
+    }
+}
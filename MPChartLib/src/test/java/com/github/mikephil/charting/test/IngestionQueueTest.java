@@ -0,0 +1,94 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.IngestionQueue;
+import com.github.mikephil.charting.data.LineData;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class IngestionQueueTest {
+
+    @Test
+    public void testOfferAndDrain() {
+
+        IngestionQueue queue = new IngestionQueue(5);
+        assertEquals(8, queue.getCapacity());
+
+        final AtomicInteger signals = new AtomicInteger();
+        queue.setOnSamplesAvailableListener(new IngestionQueue.OnSamplesAvailableListener() {
+            @Override
+            public void onSamplesAvailable(IngestionQueue queue) {
+                signals.incrementAndGet();
+            }
+        });
+
+        ColumnarLineDataSet first = new ColumnarLineDataSet("");
+        ColumnarLineDataSet second = new ColumnarLineDataSet("");
+        LineData data = new LineData(first, second);
+
+        assertTrue(queue.offer(0, 0, 1));
+        assertTrue(queue.offer(1, 0, -1));
+        assertEquals(3, queue.offer(0, new float[]{1, 2, 3}, new float[]{2, 3, 4}, 0, 3));
+
+        // signalled once until drained
+        assertEquals(1, signals.get());
+
+        assertEquals(5, queue.drainTo(data));
+        assertEquals(0, queue.size());
+        assertEquals(4, first.getEntryCount());
+        assertEquals(1, second.getEntryCount());
+        assertEquals(-1f, data.getYMin(), 0f);
+        assertEquals(4f, data.getYMax(), 0f);
+
+        // wraps around and fills up
+        assertEquals(8, queue.offer(1, new float[]{1, 2, 3, 4, 5, 6, 7, 8}, new float[8], 0, 8));
+        assertFalse(queue.offer(1, 9, 0));
+        assertEquals(2, signals.get());
+
+        assertEquals(8, queue.drainTo(data));
+        assertEquals(9, second.getEntryCount());
+        assertEquals(8f, second.getXMax(), 0f);
+    }
+
+    @Test
+    public void testConcurrentProducer() throws InterruptedException {
+
+        final IngestionQueue queue = new IngestionQueue(64);
+        final int samples = 200000;
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet("");
+        LineData data = new LineData(set);
+
+        Thread producer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < samples; ) {
+                    if (queue.offer(0, i, i)) {
+                        i++;
+                    } else {
+                        Thread.yield();
+                    }
+                }
+            }
+        });
+
+        producer.start();
+
+        while (set.getEntryCount() < samples) {
+            queue.drainTo(data);
+        }
+
+        producer.join();
+
+        for (int i = 0; i < samples; i++) {
+            assertEquals((float) i, set.getEntryXForIndex(i), 0f);
+            assertEquals((float) i, set.getEntryYForIndex(i), 0f);
+        }
+    }
+}
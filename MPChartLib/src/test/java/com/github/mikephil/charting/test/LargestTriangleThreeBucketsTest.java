@@ -0,0 +1,51 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.filter.LargestTriangleThreeBuckets;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class LargestTriangleThreeBucketsTest {
+
+    @Test
+    public void testDownsample() {
+
+        int count = 10000;
+        float[] x = new float[count];
+        float[] y = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            x[i] = i;
+            y[i] = (float) Math.sin(i / 100.0);
+        }
+
+        // a single spike must survive the reduction
+        y[5000] = 50f;
+
+        float[] outX = new float[100];
+        float[] outY = new float[100];
+
+        LargestTriangleThreeBuckets lttb = new LargestTriangleThreeBuckets();
+
+        assertEquals(100, lttb.downsample(x, y, 0, count, 100, outX, outY));
+
+        assertEquals(0f, outX[0], 0f);
+        assertEquals(count - 1f, outX[99], 0f);
+
+        boolean spike = false;
+
+        for (int i = 1; i < 100; i++) {
+            assertTrue(outX[i] > outX[i - 1]);
+            spike |= outY[i] == 50f;
+        }
+
+        assertTrue(spike);
+
+        // ranges that are small enough are copied
+        assertEquals(10, lttb.downsample(x, y, 20, 30, 100, outX, outY));
+        assertEquals(20f, outX[0], 0f);
+        assertEquals(29f, outX[9], 0f);
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.LevelOfDetailPyramid;
+import com.github.mikephil.charting.data.RingBufferLineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class LevelOfDetailPyramidTest {
+
+    @Test
+    public void testIncrementalUpdate() {
+
+        Random random = new Random(7);
+        ColumnarLineDataSet set = new ColumnarLineDataSet("");
+        LevelOfDetailPyramid lod = new LevelOfDetailPyramid();
+
+        // grow the set in uneven steps, so the buckets are completed across updates
+        for (int step = 0; step < 20; step++) {
+            int count = random.nextInt(300) + 1;
+
+            for (int i = 0; i < count; i++) {
+                set.addEntry(set.getEntryCount(), random.nextFloat() * 100f);
+            }
+
+            lod.update(set);
+            assertPyramid(set, lod);
+        }
+
+        // changed values must be rebuilt after invalidate()
+        set.removeEntry(0);
+        lod.invalidate();
+        lod.update(set);
+        assertPyramid(set, lod);
+    }
+
+    @Test
+    public void testDirtyRangeUpdate() {
+
+        Random random = new Random(11);
+        ColumnarLineDataSet set = new ColumnarLineDataSet("");
+        LevelOfDetailPyramid lod = new LevelOfDetailPyramid();
+
+        for (int i = 0; i < 1000; i++) {
+            set.addEntry(i, random.nextFloat() * 100f);
+        }
+
+        lod.update(set);
+
+        // inserts and removals in the middle are reported by the DataSet, no invalidate() needed
+        for (int step = 0; step < 20; step++) {
+            if (random.nextBoolean()) {
+                set.addEntryOrdered(random.nextFloat() * 1000f, random.nextFloat() * 200f - 50f);
+            } else {
+                set.removeEntry(random.nextInt(set.getEntryCount() - 1) + 1);
+            }
+
+            lod.update(set);
+            assertPyramid(set, lod);
+        }
+
+        set.removeFirst();
+        lod.update(set);
+        assertPyramid(set, lod);
+    }
+
+    @Test
+    public void testSlidingWindow() {
+
+        Random random = new Random(3);
+        RingBufferLineDataSet set = new RingBufferLineDataSet(1000, "");
+        LevelOfDetailPyramid lod = new LevelOfDetailPyramid();
+
+        float x = 0f;
+
+        // the evicted values only shift the buckets, the pyramid is rebuilt now and then
+        for (int step = 0; step < 50; step++) {
+            int count = random.nextInt(100) + 1;
+            float[] xValues = new float[count];
+            float[] yValues = new float[count];
+
+            for (int i = 0; i < count; i++) {
+                xValues[i] = x++;
+                yValues[i] = random.nextFloat() * 100f;
+            }
+
+            set.appendBatch(xValues, yValues);
+
+            lod.update(set);
+            assertPyramid(set, lod);
+        }
+    }
+
+    private static void assertPyramid(IDataSet<?> set, LevelOfDetailPyramid lod) {
+        assertEquals(1, lod.getBucketCount(lod.getLevelCount() - 1));
+
+        for (int level = 0; level < lod.getLevelCount(); level++) {
+            int bucketCount = lod.getBucketCount(level);
+
+            // the buckets cover all the entries
+            assertEquals(0, lod.getBucketStart(level, 0));
+            assertTrue(lod.getBucketStart(level, bucketCount - 1) < set.getEntryCount());
+            assertTrue(lod.getBucketStart(level, bucketCount) >= set.getEntryCount());
+
+            for (int bucket = 0; bucket < lod.getBucketCount(level); bucket++) {
+                float min = Float.MAX_VALUE;
+                float max = -Float.MAX_VALUE;
+
+                int end = Math.min(lod.getBucketStart(level, bucket + 1), set.getEntryCount());
+
+                for (int i = lod.getBucketStart(level, bucket); i < end; i++) {
+                    min = Math.min(min, set.getEntryYForIndex(i));
+                    max = Math.max(max, set.getEntryYForIndex(i));
+                }
+
+                assertEquals(min, set.getEntryYForIndex(lod.getMinIndex(level, bucket)), 0f);
+                assertEquals(max, set.getEntryYForIndex(lod.getMaxIndex(level, bucket)), 0f);
+            }
+        }
+    }
+}
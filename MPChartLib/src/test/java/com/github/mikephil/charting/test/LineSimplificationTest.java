@@ -0,0 +1,49 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.LineSimplification;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class LineSimplificationTest {
+
+    @Test
+    public void testSimplify() {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet("");
+
+        // a straight line with a single spike
+        for (int i = 0; i < 1000; i++) {
+            set.addEntry(i, i == 500 ? 100f : 0f);
+        }
+
+        set.setSimplificationTolerance(0.5f);
+        LineSimplification simplification = set.getSimplification();
+
+        assertTrue(simplification.update(set, 1f, 1f, 0.5f));
+        assertFalse(simplification.update(set, 1f, 1f, 0.5f));
+
+        // start, before the spike, spike, after the spike, end
+        assertEquals(5, simplification.getIndexCount());
+        assertEquals(0, simplification.getIndex(0));
+        assertEquals(499, simplification.getIndex(1));
+        assertEquals(500, simplification.getIndex(2));
+        assertEquals(501, simplification.getIndex(3));
+        assertEquals(999, simplification.getIndex(4));
+
+        assertEquals(2, simplification.getPositionForIndex(500));
+        assertEquals(4, simplification.getPositionForIndex(600));
+
+        // the spike is within the tolerance when zoomed out far enough
+        assertTrue(simplification.update(set, 1f, 0.002f, 0.5f));
+        assertEquals(2, simplification.getIndexCount());
+
+        set.removeEntry(999);
+        assertTrue(simplification.update(set, 1f, 0.002f, 0.5f));
+        assertEquals(998, simplification.getIndex(1));
+    }
+}
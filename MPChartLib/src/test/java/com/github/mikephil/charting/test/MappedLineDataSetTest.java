@@ -0,0 +1,58 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.MappedLineDataSet;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class MappedLineDataSetTest {
+
+    @Test
+    public void testMappedValues() throws IOException {
+
+        ColumnarLineDataSet source = new ColumnarLineDataSet("");
+
+        for (int i = 0; i < 1000; i++) {
+            source.addEntry(i * 2, i % 7 - 3);
+        }
+
+        File file = File.createTempFile("mapped", ".bin");
+        file.deleteOnExit();
+
+        MappedLineDataSet.writeFile(source, file);
+
+        assertEquals(8000, file.length());
+
+        MappedLineDataSet set = new MappedLineDataSet(file, "");
+
+        assertEquals(1000, set.getEntryCount());
+        assertEquals(0f, set.getXMin(), 0.01f);
+        assertEquals(1998f, set.getXMax(), 0.01f);
+        assertEquals(-3f, set.getYMin(), 0.01f);
+        assertEquals(3f, set.getYMax(), 0.01f);
+
+        Entry e = set.getEntryForXValue(7, Float.NaN, DataSet.ROUNDING_UP);
+        assertEquals(8f, e.getX(), 0.01f);
+        assertEquals(1f, e.getY(), 0.01f);
+
+        assertTrue(set.contains(new Entry(10, 2)));
+
+        set.calcMinMaxY(0, 4);
+
+        assertEquals(-3f, set.getYMin(), 0.01f);
+        assertEquals(-1f, set.getYMax(), 0.01f);
+
+        MappedLineDataSet known = new MappedLineDataSet(file, -5, 5, "");
+
+        assertEquals(-5f, known.getYMin(), 0.01f);
+        assertEquals(1998f, known.getXMax(), 0.01f);
+    }
+}
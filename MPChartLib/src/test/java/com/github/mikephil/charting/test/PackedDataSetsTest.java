@@ -0,0 +1,137 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.PackedDataSets;
+import com.github.mikephil.charting.data.PieDataSet;
+import com.github.mikephil.charting.data.PieEntry;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class PackedDataSetsTest {
+
+    @Test
+    public void testPackAndSpill() throws IOException {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet("large");
+
+        for (int i = 0; i < 100000; i++) {
+            set.addEntry(i, i % 100);
+        }
+
+        // too large for a Parcel
+        try {
+            new PackedDataSets(Collections.singletonList(set));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        File file = File.createTempFile("packed", ".bin");
+        file.deleteOnExit();
+
+        PackedDataSets spilled = new PackedDataSets(Collections.singletonList(set), file);
+        assertTrue(spilled.isSpilled());
+        assertTrue(file.length() > PackedDataSets.DEFAULT_SPILL_THRESHOLD);
+        assertUnpacked(spilled.unpack());
+
+        // the unpacked values stay available, the file can be deleted
+        spilled.release();
+        assertFalse(file.exists());
+        assertUnpacked(spilled.unpack());
+
+        new PackedDataSets(Collections.singletonList(set), file);
+        assertTrue(file.exists());
+
+        ColumnarLineDataSet small = new ColumnarLineDataSet(new float[]{1, 2}, new float[]{3, 4}, "small");
+
+        // the file of the previous state is deleted
+        PackedDataSets inMemory = new PackedDataSets(Collections.<IDataSet<?>>singletonList(small), file);
+        assertFalse(inMemory.isSpilled());
+        assertFalse(file.exists());
+        assertEquals(4f, inMemory.unpack().get(0).getEntryYForIndex(1), 0f);
+    }
+
+    @Test
+    public void testUnpackInto() throws IOException {
+
+        List<Entry> lineEntries = new ArrayList<Entry>();
+        lineEntries.add(new Entry(1, 10));
+        lineEntries.add(new Entry(2, 20));
+
+        List<BarEntry> barEntries = new ArrayList<BarEntry>();
+        barEntries.add(new BarEntry(1, new float[]{1, 2, 3}));
+        barEntries.add(new BarEntry(2, 4));
+
+        List<PieEntry> pieEntries = new ArrayList<PieEntry>();
+        pieEntries.add(new PieEntry(30, "a"));
+        pieEntries.add(new PieEntry(70));
+
+        List<IDataSet<?>> dataSets = new ArrayList<IDataSet<?>>();
+        dataSets.add(new LineDataSet(lineEntries, "line"));
+        dataSets.add(new BarDataSet(barEntries, "bar"));
+        dataSets.add(new PieDataSet(pieEntries, "pie"));
+
+        PackedDataSets packed = new PackedDataSets(dataSets);
+
+        // a LineDataSet is not turned into a ColumnarLineDataSet
+        List<IDataSet<?>> unpacked = packed.unpack();
+        assertEquals(LineDataSet.class, unpacked.get(0).getClass());
+        assertEquals("bar", unpacked.get(1).getLabel());
+
+        // the values are restored into the styled DataSets of the app
+        LineDataSet lineSet = new LineDataSet(new ArrayList<Entry>(), "line");
+        lineSet.setColor(0xFF00FF00);
+        BarDataSet barSet = new BarDataSet(new ArrayList<BarEntry>(), "bar");
+        PieDataSet pieSet = new PieDataSet(new ArrayList<PieEntry>(), "pie");
+
+        packed.unpackInto(Arrays.<IDataSet<?>>asList(lineSet, barSet, pieSet));
+
+        assertEquals(0xFF00FF00, lineSet.getColor());
+        assertEquals(2, lineSet.getEntryCount());
+        assertEquals(20f, lineSet.getYMax(), 0f);
+
+        assertEquals(3, barSet.getEntryForIndex(0).getYVals().length);
+        assertEquals(6f, barSet.getEntryForIndex(0).getY(), 0f);
+        assertNull(barSet.getEntryForIndex(1).getYVals());
+        assertEquals(4f, barSet.getEntryForIndex(1).getY(), 0f);
+
+        assertEquals("a", pieSet.getEntryForIndex(0).getLabel());
+        assertNull(pieSet.getEntryForIndex(1).getLabel());
+        assertEquals(70f, pieSet.getEntryForIndex(1).getY(), 0f);
+
+        try {
+            packed.unpackInto(Arrays.<IDataSet<?>>asList(lineSet, pieSet, barSet));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static void assertUnpacked(List<IDataSet<?>> dataSets) {
+        assertEquals(1, dataSets.size());
+
+        IDataSet<?> set = dataSets.get(0);
+        assertEquals("large", set.getLabel());
+        assertEquals(100000, set.getEntryCount());
+        assertEquals(99f, set.getYMax(), 0f);
+        assertEquals(42f, set.getEntryYForIndex(1042), 0f);
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.PagedLineDataSet;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+
+public class PagedLineDataSetTest {
+
+    @Test
+    public void testVisibleWindow() {
+
+        final List<Float> loadedPages = new ArrayList<Float>();
+
+        PagedLineDataSet set = new PagedLineDataSet(new PagedLineDataSet.PageSource() {
+            @NotNull
+            @Override
+            public PagedLineDataSet.Page loadRange(float fromX, float toX) {
+                loadedPages.add(fromX);
+
+                int count = (int) (toX - fromX);
+                float[] x = new float[count];
+                float[] y = new float[count];
+
+                for (int i = 0; i < count; i++) {
+                    x[i] = fromX + i;
+                    y[i] = -(fromX + i);
+                }
+
+                return new PagedLineDataSet.Page(x, y, count);
+            }
+        }, 10, 0, 99, -99, 0, "");
+
+        // load the pages on the calling thread, they're picked up on the next call
+        set.setExecutor(new Executor() {
+            @Override
+            public void execute(@NotNull Runnable command) {
+                command.run();
+            }
+        });
+
+        assertEquals(0f, set.getXMin(), 0.01f);
+        assertEquals(99f, set.getXMax(), 0.01f);
+
+        set.setVisibleRange(15, 25);
+
+        // the visible pages and the adjacent ones are requested
+        assertEquals(4, loadedPages.size());
+        assertEquals(0, set.getEntryCount());
+
+        set.setVisibleRange(15, 25);
+
+        assertEquals(4, loadedPages.size());
+        assertEquals(20, set.getEntryCount());
+        assertEquals(10f, set.getEntryXForIndex(0), 0.01f);
+        assertEquals(29f, set.getEntryXForIndex(19), 0.01f);
+        assertEquals(18f, set.getEntryForXValue(17.6f, Float.NaN, DataSet.ROUNDING_CLOSEST).getX(), 0.01f);
+
+        set.calcMinMaxY(15, 20);
+
+        assertEquals(-20f, set.getYMin(), 0.01f);
+        assertEquals(-15f, set.getYMax(), 0.01f);
+
+        // the prefetched page is in the cache already
+        set.setVisibleRange(35, 38);
+
+        assertEquals(10, set.getEntryCount());
+        assertEquals(30f, set.getEntryXForIndex(0), 0.01f);
+        assertEquals(5, loadedPages.size());
+    }
+
+    @Test
+    public void testFailedPageIsNotRetriedImmediately() {
+
+        final List<Float> loadedPages = new ArrayList<Float>();
+
+        PagedLineDataSet set = new PagedLineDataSet(new PagedLineDataSet.PageSource() {
+            @NotNull
+            @Override
+            public PagedLineDataSet.Page loadRange(float fromX, float toX) throws Exception {
+                loadedPages.add(fromX);
+                throw new Exception("unavailable");
+            }
+        }, 10, 0, 99, -99, 0, "");
+
+        set.setExecutor(new Executor() {
+            @Override
+            public void execute(@NotNull Runnable command) {
+                command.run();
+            }
+        });
+
+        set.setVisibleRange(15, 25);
+
+        assertEquals(4, loadedPages.size());
+
+        // the failed pages wait for their retry delay instead of being requested on every frame
+        set.setVisibleRange(15, 25);
+        set.setVisibleRange(15, 25);
+
+        assertEquals(4, loadedPages.size());
+        assertEquals(0, set.getEntryCount());
+    }
+}
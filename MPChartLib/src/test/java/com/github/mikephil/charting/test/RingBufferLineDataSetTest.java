@@ -0,0 +1,155 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.DirtyRange;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.RingBufferLineDataSet;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class RingBufferLineDataSetTest {
+
+    @Test
+    public void testEviction() {
+
+        RingBufferLineDataSet set = new RingBufferLineDataSet(3, "");
+
+        set.addEntry(0, 5);
+        set.addEntry(1, 10);
+        set.addEntry(2, 1);
+
+        assertTrue(set.isFull());
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        set.addEntry(3, 4);
+
+        assertEquals(3, set.getEntryCount());
+        assertEquals(1f, set.getXMin(), 0.01f);
+        assertEquals(3f, set.getXMax(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        set.addEntry(4, 2);
+
+        assertEquals(2f, set.getXMin(), 0.01f);
+        assertEquals(4f, set.getYMax(), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+
+        assertEquals(2, set.getEntryXForIndex(0), 0.01f);
+        assertEquals(3, set.getEntryXForIndex(1), 0.01f);
+        assertEquals(4, set.getEntryXForIndex(2), 0.01f);
+
+        Entry e = set.getEntryForXValue(3.4f, Float.NaN, DataSet.ROUNDING_CLOSEST);
+        assertEquals(3f, e.getX(), 0.01f);
+        assertEquals(4f, e.getY(), 0.01f);
+
+        assertEquals(1, set.getEntryIndex(e));
+
+        assertTrue(set.removeFirst());
+
+        assertEquals(2, set.getEntryCount());
+        assertEquals(2f, set.getYMin(), 0.01f);
+
+        assertTrue(set.removeLast());
+        assertTrue(set.removeLast());
+        assertFalse(set.removeLast());
+    }
+
+    @Test
+    public void testSlidingMinMax() {
+
+        Random random = new Random(42);
+        int capacity = 50;
+
+        RingBufferLineDataSet set = new RingBufferLineDataSet(capacity, "");
+        float[] ys = new float[1000];
+
+        for (int i = 0; i < ys.length; i++) {
+            ys[i] = random.nextFloat() * 100f;
+            set.addEntry(i, ys[i]);
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            for (int j = Math.max(0, i - capacity + 1); j <= i; j++) {
+                min = Math.min(min, ys[j]);
+                max = Math.max(max, ys[j]);
+            }
+
+            assertEquals(min, set.getYMin(), 0f);
+            assertEquals(max, set.getYMax(), 0f);
+        }
+
+        set.addEntryOrdered(new Entry(975.5f, -1f));
+
+        assertEquals(capacity, set.getEntryCount());
+        assertEquals(-1f, set.getYMin(), 0f);
+        assertEquals(975.5f, set.getEntryXForIndex(25), 0f);
+    }
+
+    @Test
+    public void testAppendBatch() {
+
+        RingBufferLineDataSet set = new RingBufferLineDataSet(4, "");
+        set.setRangeIndexEnabled(true);
+
+        set.addEntry(0, 100);
+        set.appendBatch(new float[]{1, 2, 3}, new float[]{3, -2, 8});
+
+        assertEquals(4, set.getEntryCount());
+        assertEquals(-2f, set.getYMin(), 0.01f);
+        assertEquals(100f, set.getYMax(), 0.01f);
+
+        // more values than the capacity, only the newest ones are kept
+        set.appendBatch(new float[]{4, 5, 6, 7, 8, 9}, new float[]{1, 2, 3, 4, 5, 6});
+
+        assertEquals(4, set.getEntryCount());
+        assertEquals(6f, set.getXMin(), 0.01f);
+        assertEquals(9f, set.getXMax(), 0.01f);
+        assertEquals(3f, set.getYMin(), 0.01f);
+        assertEquals(6f, set.getYMax(), 0.01f);
+
+        set.calcMinMaxY(7, 8);
+
+        assertEquals(4f, set.getYMin(), 0.01f);
+        assertEquals(5f, set.getYMax(), 0.01f);
+    }
+
+    @Test
+    public void testDirtyRangeOfBatches() {
+
+        RingBufferLineDataSet set = new RingBufferLineDataSet(100, "");
+
+        for (int i = 0; i < 100; i++) {
+            set.addEntry(i, i);
+        }
+
+        int version = set.getVersion();
+        DirtyRange range = new DirtyRange();
+
+        // more batches of evicting values than the change log could hold single samples
+        for (int batch = 0; batch < 5; batch++) {
+            float[] xValues = new float[10];
+            float[] yValues = new float[10];
+
+            for (int i = 0; i < 10; i++) {
+                xValues[i] = 100 + batch * 10 + i;
+            }
+
+            set.appendBatch(xValues, yValues);
+        }
+
+        set.getDirtyRange(version, range);
+
+        assertFalse(range.all);
+        assertEquals(50, range.removedFromStart);
+        assertEquals(50, range.from);
+        assertEquals(Integer.MAX_VALUE, range.to);
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.SharedXDataSetGroup;
+import com.github.mikephil.charting.data.SharedXLineDataSet;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+
+public class SharedXDataSetGroupTest {
+
+    @Test
+    public void testAppendAndRemove() {
+
+        SharedXDataSetGroup group = new SharedXDataSetGroup();
+        SharedXLineDataSet first = group.addDataSet("first");
+        SharedXLineDataSet second = group.addDataSet("second");
+
+        group.append(1, new float[]{10, -1});
+        group.append(2, new float[]{5, -2});
+        group.appendBatch(new float[]{3, 4}, new float[][]{{7, 20}, {-3, 0}}, 0, 2);
+
+        assertEquals(4, first.getEntryCount());
+        assertEquals(4, second.getEntryCount());
+
+        assertEquals(1f, first.getXMin(), 0.01f);
+        assertEquals(4f, second.getXMax(), 0.01f);
+        assertEquals(5f, first.getYMin(), 0.01f);
+        assertEquals(20f, first.getYMax(), 0.01f);
+        assertEquals(-3f, second.getYMin(), 0.01f);
+        assertEquals(0f, second.getYMax(), 0.01f);
+
+        assertEquals(3f, second.getEntryForIndex(2).getX(), 0.01f);
+        assertEquals(-3f, second.getEntryForIndex(2).getY(), 0.01f);
+
+        group.removeFirst(2);
+
+        assertEquals(2, first.getEntryCount());
+        assertEquals(3f, first.getXMin(), 0.01f);
+        assertEquals(7f, first.getYMin(), 0.01f);
+        assertEquals(-3f, second.getYMin(), 0.01f);
+        assertEquals(20f, first.getEntryForIndex(1).getY(), 0.01f);
+
+        group.clear();
+
+        assertEquals(0, second.getEntryCount());
+        assertEquals(-1, second.getEntryIndex(3f, Float.NaN, DataSet.ROUNDING_CLOSEST));
+    }
+
+    @Test
+    public void testLookupsMatchDataSet() {
+
+        Random random = new Random(7);
+        int count = 1000;
+
+        float[] x = new float[count];
+        float[] y = new float[count];
+        float value = 0f;
+
+        for (int i = 0; i < count; i++) {
+            // some duplicate x-values
+            value += random.nextInt(3);
+            x[i] = value;
+            y[i] = random.nextFloat();
+        }
+
+        SharedXDataSetGroup group = new SharedXDataSetGroup(x.clone());
+        SharedXLineDataSet shared = group.addDataSet(y.clone(), "");
+        group.addDataSet(new float[count], "");
+
+        ColumnarLineDataSet reference = new ColumnarLineDataSet(x, y, "");
+
+        int[] sharedRange = new int[2];
+        int[] referenceRange = new int[2];
+
+        for (int i = 0; i < 500; i++) {
+            float xValue = random.nextFloat() * (value + 20f) - 10f;
+
+            for (int rounding = DataSet.ROUNDING_UP; rounding <= DataSet.ROUNDING_CLOSEST; rounding++) {
+                assertEquals(reference.getEntryIndex(xValue, Float.NaN, rounding),
+                        shared.getEntryIndex(xValue, Float.NaN, rounding));
+            }
+
+            float toX = xValue + random.nextFloat() * 50f;
+
+            reference.getEntryIndexRange(xValue, toX, referenceRange);
+            shared.getEntryIndexRange(xValue, toX, sharedRange);
+
+            assertEquals(referenceRange[0], sharedRange[0]);
+            assertEquals(referenceRange[1], sharedRange[1]);
+
+            float existing = x[random.nextInt(count)];
+
+            List<Entry> referenceEntries = reference.getEntriesForXValue(existing);
+            List<Entry> sharedEntries = shared.getEntriesForXValue(existing);
+
+            assertEquals(referenceEntries.size(), sharedEntries.size());
+
+            for (int j = 0; j < referenceEntries.size(); j++) {
+                assertEquals(referenceEntries.get(j).getY(), sharedEntries.get(j).getY(), 0f);
+            }
+        }
+    }
+}
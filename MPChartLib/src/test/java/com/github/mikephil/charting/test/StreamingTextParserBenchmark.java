@@ -0,0 +1,74 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.utils.StreamingTextParser;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static junit.framework.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Reports the throughput of the StreamingTextParser compared to String.split(...) and Float.parseFloat(...).
+ * Only runs with ./gradlew :MPChartLib:testDebugUnitTest -Pbenchmark
+ */
+public class StreamingTextParserBenchmark {
+
+    @Before
+    public void requireBenchmarks() {
+        assumeTrue(Boolean.getBoolean("mpchart.benchmark"));
+    }
+
+    @Test
+    public void benchmarkThroughput() throws IOException {
+
+        int lines = 500000;
+        String text = StreamingTextParserTest.createText(lines);
+
+        // warm up
+        parseWithParser(text);
+        parseWithSplit(text);
+
+        long start = System.nanoTime();
+        float checksum = parseWithParser(text);
+        long parserNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        float expected = parseWithSplit(text);
+        long splitNanos = System.nanoTime() - start;
+
+        assertEquals(expected, checksum, 0f);
+
+        System.out.println("StreamingTextParser: " + (lines * 1000L / Math.max(1, parserNanos / 1000L))
+                + "k lines/s, split + parseFloat: " + (lines * 1000L / Math.max(1, splitNanos / 1000L))
+                + "k lines/s");
+    }
+
+    private static float parseWithParser(String text) throws IOException {
+        StreamingTextParser parser = new StreamingTextParser(new StringReader(text));
+        float sum = 0f;
+
+        while (parser.nextRow()) {
+            sum += parser.getValue(0) + parser.getValue(1);
+        }
+
+        return sum;
+    }
+
+    private static float parseWithSplit(String text) throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader(text));
+        float sum = 0f;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            String[] split = line.split("#");
+            sum += Float.parseFloat(split[0]) + Float.parseFloat(split[1]);
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.utils.StreamingTextParser;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class StreamingTextParserTest {
+
+    @Test
+    public void testParseRows() throws IOException {
+
+        StreamingTextParser parser = new StreamingTextParser(new StringReader(
+                "x,y\r\n1.5, -2\r\n\r\n+3e2,.25,\n-0.001,NaN\n7,,8"));
+        parser.setDelimiters(',');
+        parser.setSkipLines(1);
+
+        assertTrue(parser.nextRow());
+        assertEquals(2, parser.getColumnCount());
+        assertEquals(1.5f, parser.getValue(0), 0f);
+        assertEquals(-2f, parser.getValue(1), 0f);
+
+        assertTrue(parser.nextRow());
+        assertEquals(2, parser.getColumnCount());
+        assertEquals(300f, parser.getValue(0), 0f);
+        assertEquals(0.25f, parser.getValue(1), 0f);
+
+        assertTrue(parser.nextRow());
+        assertEquals(-0.001f, parser.getValue(0), 0f);
+        assertTrue(Float.isNaN(parser.getValue(1)));
+
+        assertTrue(parser.nextRow());
+        assertEquals(3, parser.getColumnCount());
+        assertTrue(Float.isNaN(parser.getValue(1)));
+        assertEquals(8f, parser.getValue(2), 0f);
+
+        assertFalse(parser.nextRow());
+    }
+
+    @Test
+    public void testRejectsInvalidValues() throws IOException {
+
+        StreamingTextParser parser = new StreamingTextParser(new StringReader("1#3.7\n2#-12\n3#abc\n4##5"));
+
+        assertTrue(parser.nextRow());
+        assertEquals(1, parser.getIntValue(0));
+
+        // like Integer.parseInt(...), decimals are not truncated
+        try {
+            parser.getIntValue(1);
+            fail("3.7 is not an int");
+        } catch (NumberFormatException e) {
+            // expected
+        }
+
+        assertTrue(parser.nextRow());
+        assertEquals(-12, parser.getIntValue(1));
+
+        try {
+            parser.nextRow();
+            fail("abc is not a number");
+        } catch (NumberFormatException e) {
+            assertTrue(e.getMessage().contains("line 3"));
+        }
+
+        parser.setEmptyValuesAllowed(false);
+
+        try {
+            parser.nextRow();
+            fail("empty values are not allowed");
+        } catch (NumberFormatException e) {
+            assertTrue(e.getMessage().contains("line 4"));
+        }
+    }
+
+    @Test
+    public void testReadInto() throws IOException {
+
+        String text = createText(100000);
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet("");
+
+        StreamingTextParser parser = new StreamingTextParser(new StringReader(text));
+        assertEquals(100000, parser.readInto(set, 1, 0));
+
+        // compare with the parsing of the JDK, the lines are split across the buffer boundaries
+        BufferedReader reader = new BufferedReader(new StringReader(text));
+
+        for (int i = 0; i < set.getEntryCount(); i++) {
+            String[] split = reader.readLine().split("#");
+
+            assertEquals(Float.parseFloat(split[1]), set.getEntryXForIndex(i), 0f);
+            assertEquals(Float.parseFloat(split[0]), set.getEntryYForIndex(i), 0f);
+        }
+    }
+
+    static String createText(int lines) {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < lines; i++) {
+            builder.append(random.nextFloat() * 2000f - 1000f).append('#').append(i).append('\n');
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.TimestampLineDataSet;
+import com.github.mikephil.charting.formatter.TimestampAxisValueFormatter;
+
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class TimestampLineDataSetTest {
+
+    @Test
+    public void testTimestamps() {
+
+        // 2021-01-01 00:00:00.000 UTC
+        long base = 1609459200000L;
+
+        TimestampLineDataSet set = new TimestampLineDataSet(base, 1, "");
+
+        set.addEntry(base + 1, 5f);
+        set.addEntry(base + 2, 3f);
+        set.appendBatch(new long[]{base + 1000, base + 1001}, new float[]{8f, 4f}, 0, 2);
+
+        assertEquals(4, set.getEntryCount());
+
+        // float x-values of the raw timestamps would all be equal
+        assertEquals(1f, set.getEntryXForIndex(0), 0f);
+        assertEquals(1001f, set.getEntryXForIndex(3), 0f);
+        assertEquals(base + 1001, set.getTimestampForIndex(3));
+        assertEquals(base + 1000, set.getTimestampForX(1000f));
+
+        assertEquals(1f, set.getXMin(), 0f);
+        assertEquals(1001f, set.getXMax(), 0f);
+        assertEquals(3f, set.getYMin(), 0f);
+        assertEquals(8f, set.getYMax(), 0f);
+
+        assertEquals(2, set.getEntryIndex(999f, Float.NaN, DataSet.ROUNDING_UP));
+
+        set.addEntryOrdered(new Entry(500f, 1f));
+
+        assertEquals(500f, set.getEntryXForIndex(2), 0f);
+        assertEquals(1f, set.getYMin(), 0f);
+
+        assertTrue(set.removeEntry(new Entry(500f, 1f)));
+        assertEquals(4, set.getEntryCount());
+        assertEquals(3f, set.getYMin(), 0f);
+
+        assertTrue(set.removeEntry(0));
+        assertEquals(2f, set.getXMin(), 0f);
+        assertFalse(set.contains(new Entry(1f, 5f)));
+    }
+
+    @Test
+    public void testUnitsAndFormatter() {
+
+        long base = 1609459200000L;
+        long hour = 3600000L;
+
+        TimestampLineDataSet set = new TimestampLineDataSet(base, hour, "");
+
+        // 10 years of hourly values
+        set.addEntry(base + 87600 * hour, 1f);
+
+        assertEquals(87600f, set.getEntryXForIndex(0), 0f);
+
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm", Locale.ENGLISH);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        TimestampAxisValueFormatter formatter = new TimestampAxisValueFormatter(format, set);
+
+        assertEquals("2021-01-01 00:00", formatter.getFormattedValue(0f, null));
+        assertEquals("2030-12-30 00:00", formatter.getFormattedValue(87600f, null));
+        assertEquals("2021-01-01 00:30", formatter.getFormattedValue(0.5f, null));
+    }
+
+    @Test
+    public void testOrigin() {
+
+        long base = 1609459200000L;
+        long day = 86400000L;
+
+        TimestampLineDataSet set = new TimestampLineDataSet(base, 1, "");
+
+        // 20 days in milliseconds, far beyond the exact range of float x-values
+        set.addEntry(base, 1f);
+        set.addEntry(base + 20 * day, 2f);
+        set.addEntry(base + 20 * day + 1, 3f);
+
+        assertEquals(base + 20 * day + 1, set.getTimestampForIndex(2));
+
+        // the x-values near the origin are exact
+        set.setOriginMillis(base + 20 * day);
+
+        assertEquals(base + 20 * day, set.getOriginMillis());
+        assertEquals(0f, set.getEntryXForIndex(1), 0f);
+        assertEquals(1f, set.getEntryXForIndex(2), 0f);
+        assertEquals(1f, set.getXMax(), 0f);
+        assertEquals(-20 * day, set.getXMin(), 0f);
+        assertEquals(2, set.getEntryIndex(1f, Float.NaN, DataSet.ROUNDING_CLOSEST));
+        assertEquals(base + 20 * day + 1, set.getTimestampForX(1f));
+
+        set.addEntryOrdered(new Entry(-1f, 5f));
+
+        assertEquals(base + 20 * day - 1, set.getTimestampForIndex(1));
+        assertEquals(5f, set.getYMax(), 0f);
+
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS", Locale.ENGLISH);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        // the formatter follows the origin of the DataSet
+        TimestampAxisValueFormatter formatter = new TimestampAxisValueFormatter(format, set);
+
+        assertEquals("2021-01-21 00:00:00.001", formatter.getFormattedValue(1f, null));
+
+        set.setOriginMillis(base);
+
+        assertEquals("2021-01-01 00:00:00.001", formatter.getFormattedValue(1f, null));
+        assertEquals(20 * day + 1, set.getEntryXForIndex(3), 0f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsOffsetsBeyondInt() {
+
+        long base = 1609459200000L;
+
+        // 30 days in milliseconds, beyond the range of the int offsets
+        TimestampLineDataSet set = new TimestampLineDataSet(base, 1, "");
+        set.addEntry(base + 30 * 86400000L, 1f);
+    }
+}